@@ -0,0 +1,53 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.BulkValidation;
+import co.g3a.functionalrop.core.BulkValidationResult;
+import co.g3a.functionalrop.core.ErrorCode;
+import co.g3a.functionalrop.core.Rules;
+import co.g3a.functionalrop.core.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Valida un millón de registros en un solo hilo (umbral infinito) y con fork-join en el pool común.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkValidationBenchmark {
+
+    record Customer(String name, String email, int age) {
+    }
+
+    private static final Validator<Customer> VALIDATOR = Validator.<Customer>failFast()
+            .string(Customer::name, Rules.notBlank(ErrorCode.register("bulk_name")))
+            .string(Customer::email, Rules.email(ErrorCode.register("bulk_email")))
+            .integer(Customer::age, Rules.min(18, ErrorCode.register("bulk_age")));
+
+    private List<Customer> rows;
+
+    @Setup
+    public void setup() {
+        rows = new ArrayList<>(1_000_000);
+        for (int i = 0; i < 1_000_000; i++) {
+            rows.add(new Customer("cliente " + i, i % 100 == 0 ? "invalido" : "c" + i + "@mail.com", 18 + i % 60));
+        }
+    }
+
+    @Benchmark
+    public BulkValidationResult<Customer> sequential() {
+        return BulkValidation.validateAll(rows, VALIDATOR, Integer.MAX_VALUE, ForkJoinPool.commonPool());
+    }
+
+    @Benchmark
+    public BulkValidationResult<Customer> forkJoin() {
+        return BulkValidation.validateAll(rows, VALIDATOR);
+    }
+}
@@ -0,0 +1,77 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.CompiledPipeline;
+import co.g3a.functionalrop.core.Pipeline;
+import co.g3a.functionalrop.core.Result;
+import co.g3a.functionalrop.core.SyncPipelineCompiler;
+import co.g3a.functionalrop.core.SyncResultPipeline;
+import co.g3a.functionalrop.core.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara la misma cadena síncrona de 10 etapas ejecutada de tres formas: {@link SyncResultPipeline},
+ * {@link Pipeline#runSync(Object)} (interpretada) y {@link SyncPipelineCompiler} (bytecode generado).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompiledPipelineBenchmark {
+
+    @Param({"success", "failure"})
+    public String path;
+
+    private int input;
+    private Blackhole bh;
+    private Pipeline<Integer, Integer, String> definition;
+    private CompiledPipeline<Integer, Integer, String> compiled;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        this.bh = bh;
+        input = "success".equals(path) ? 42 : -1;
+        definition = Pipeline.<Integer, String>define()
+                .filter(v -> v >= 0, "negative")
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.success(v * 2))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .onFailure(bh::consume)
+                .flatMap(v -> Result.success(v + 3))
+                .map(v -> v / 2);
+        compiled = SyncPipelineCompiler.compile(definition);
+    }
+
+    @Benchmark
+    public Result<Integer, String> syncResultPipeline() {
+        return SyncResultPipeline.<Integer, String>use(input)
+                .filter(v -> v >= 0, "negative")
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.<Integer, String>success(v * 2))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .onFailure(bh::consume)
+                .flatMap(v -> Result.<Integer, String>success(v + 3))
+                .map(v -> v / 2)
+                .build();
+    }
+
+    @Benchmark
+    public Result<Integer, String> interpreted() {
+        return definition.runSync(input);
+    }
+
+    @Benchmark
+    public Result<Integer, String> compiled() {
+        return compiled.apply(input);
+    }
+}
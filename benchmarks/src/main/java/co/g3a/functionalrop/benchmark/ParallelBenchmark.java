@@ -0,0 +1,63 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.ParallelPolicy;
+import co.g3a.functionalrop.core.Result;
+import co.g3a.functionalrop.core.ResultPipeline;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Mide el costo de orquestación de {@link ResultPipeline#runInParallelTyped} con tareas ya completadas,
+ * de modo que solo se mide la combinación de resultados y no la latencia de las tareas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelBenchmark {
+
+    @Param({"success", "failure"})
+    public String path;
+
+    @Param({"3", "16"})
+    public int tasks;
+
+    private List<Function<String, CompletionStage<Result<Integer, String>>>> taskList;
+
+    private List<Function<String, Result<Integer, String>>> blockingTaskList;
+
+    @Setup
+    public void setup() {
+        boolean fail = "failure".equals(path);
+        taskList = new ArrayList<>();
+        blockingTaskList = new ArrayList<>();
+        for (int i = 0; i < tasks; i++) {
+            int index = i;
+            Result<Integer, String> result = fail && index % 2 == 0 ? Result.failure("error-" + index) : Result.success(index);
+            taskList.add(id -> CompletableFuture.completedFuture(result));
+            blockingTaskList.add(id -> result);
+        }
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> runInParallelTyped() {
+        return ResultPipeline.runInParallelTyped("id", taskList, errors -> String.join(",", errors))
+                .toCompletableFuture()
+                .join();
+    }
+
+    @Benchmark
+    public Result<List<Integer>, String> runInParallelStructuredFailFast() {
+        return ResultPipeline.runInParallelStructured("id", blockingTaskList, ParallelPolicy.FAIL_FAST, errors -> String.join(",", errors))
+                .toCompletableFuture()
+                .join();
+    }
+}
@@ -0,0 +1,72 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.Result;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide el costo de las operaciones básicas de {@link Result} en ambos caminos (éxito y fracaso).
+ * <p>
+ * Ejecutar con {@code -prof gc} para obtener la asignación por operación ({@code gc.alloc.rate.norm}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultBenchmark {
+
+    @Param({"success", "failure"})
+    public String path;
+
+    private Result<Integer, String> source;
+
+    @Setup
+    public void setup() {
+        source = "success".equals(path) ? Result.success(42) : Result.failure("error");
+    }
+
+    @Benchmark
+    public Result<Integer, String> map() {
+        return source.map(v -> v + 1);
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMap() {
+        return source.flatMap(v -> Result.success(v * 2));
+    }
+
+    @Benchmark
+    public Result<Integer, Integer> mapFailure() {
+        return source.mapFailure(String::length);
+    }
+
+    @Benchmark
+    public Integer fold() {
+        return source.fold(String::length, v -> v);
+    }
+
+    @Benchmark
+    public CompletionStage<Result<Integer, String>> flatMapAsync() {
+        return source.flatMapAsync(v -> CompletableFuture.completedFuture(Result.success(v)));
+    }
+
+    @Benchmark
+    public Result<Integer, String> tenMaps() {
+        return source
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1)
+                .map(v -> v + 1);
+    }
+}
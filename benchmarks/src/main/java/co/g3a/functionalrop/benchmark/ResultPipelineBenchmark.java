@@ -0,0 +1,172 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.Pipeline;
+import co.g3a.functionalrop.core.Result;
+import co.g3a.functionalrop.core.ResultPipeline;
+import co.g3a.functionalrop.core.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cada operador de {@link ResultPipeline}, incluyendo la construcción y la resolución de la etapa final.
+ * <p>
+ * El camino de fracaso se obtiene con un valor inicial negativo que no supera el {@code filter} inicial,
+ * de modo que todos los operadores posteriores se ejecutan sobre un {@code Result.failure}.
+ * {@link #baseline()} mide solo ese arranque para poder descontarlo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResultPipelineBenchmark {
+
+    @Param({"success", "failure"})
+    public String path;
+
+    private int input;
+
+    private Pipeline<Integer, Integer, String> tenSyncDefinition;
+
+    @Setup
+    public void setup(Blackhole bh) {
+        input = "success".equals(path) ? 42 : -1;
+        tenSyncDefinition = Pipeline.<Integer, String>define()
+                .filter(v -> v >= 0, "negative")
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.success(v * 2))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .onFailure(bh::consume)
+                .flatMap(v -> Result.success(v + 3))
+                .map(v -> v / 2)
+                .recover(String::length);
+    }
+
+    private ResultPipeline<Integer, String> start() {
+        return ResultPipeline.<Integer, String>use(input).filter(v -> v >= 0, "negative");
+    }
+
+    private static Result<Integer, String> join(ResultPipeline<Integer, String> pipeline) {
+        return pipeline.build().toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public Result<Integer, String> baseline() {
+        return join(start());
+    }
+
+    @Benchmark
+    public Result<Integer, String> map() {
+        return join(start().map(v -> v + 1));
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMap() {
+        return join(start().flatMap(v -> Result.success(v + 1)));
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMapAsync() {
+        return join(start().flatMapAsync(v -> CompletableFuture.completedFuture(Result.success(v + 1))));
+    }
+
+    @Benchmark
+    public Result<Integer, String> validate() {
+        return join(start().validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"),
+                key -> key));
+    }
+
+    @Benchmark
+    public Result<Integer, String> peek(Blackhole bh) {
+        return join(start().peek(bh::consume));
+    }
+
+    @Benchmark
+    public Result<Integer, String> peekAsync(Blackhole bh) {
+        return join(start().peekAsync(v -> {
+            bh.consume(v);
+            return CompletableFuture.completedFuture(null);
+        }));
+    }
+
+    @Benchmark
+    public Result<Integer, String> filter() {
+        return join(start().filter(v -> v < 1000, "too_big"));
+    }
+
+    @Benchmark
+    public Result<Integer, String> recover() {
+        return join(start().recover(String::length));
+    }
+
+    @Benchmark
+    public Result<Integer, String> onSuccess(Blackhole bh) {
+        return join(start().onSuccess(bh::consume));
+    }
+
+    @Benchmark
+    public Result<Integer, String> onFailure(Blackhole bh) {
+        return join(start().onFailure(bh::consume));
+    }
+
+    @Benchmark
+    public Integer foldAsync() {
+        return start().foldAsync(String::length, v -> v).toCompletableFuture().join();
+    }
+
+    @Benchmark
+    public void thenAccept(Blackhole bh) {
+        start().thenAccept(bh::consume).toCompletableFuture().join();
+    }
+
+    /**
+     * Pipeline de 10 etapas síncronas, el caso típico de un endpoint con validación y transformación.
+     */
+    @Benchmark
+    public Result<Integer, String> tenSyncStages(Blackhole bh) {
+        return join(start()
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.success(v * 2))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .onFailure(bh::consume)
+                .flatMap(v -> Result.success(v + 3))
+                .map(v -> v / 2)
+                .recover(String::length));
+    }
+
+    /**
+     * Pipeline de 10 etapas con dos fronteras asíncronas ya completadas.
+     */
+    @Benchmark
+    public Result<Integer, String> tenMixedStages(Blackhole bh) {
+        return join(start()
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMapAsync(v -> CompletableFuture.completedFuture(Result.success(v * 2)))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .flatMapAsync(v -> CompletableFuture.completedFuture(Result.success(v + 3)))
+                .onFailure(bh::consume)
+                .map(v -> v / 2)
+                .recover(String::length));
+    }
+
+    /**
+     * Las mismas 10 etapas de {@link #tenSyncStages(Blackhole)}, definidas una sola vez con {@link Pipeline}.
+     */
+    @Benchmark
+    public Result<Integer, String> tenSyncStagesReused() {
+        return tenSyncDefinition.run(input).toCompletableFuture().join();
+    }
+}
@@ -0,0 +1,94 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.MutableResultPipeline;
+import co.g3a.functionalrop.core.Result;
+import co.g3a.functionalrop.core.SyncResultPipeline;
+import co.g3a.functionalrop.core.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mide cadenas de {@link SyncResultPipeline} en el camino de éxito y en el de fracaso.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SyncResultPipelineBenchmark {
+
+    @Param({"success", "failure"})
+    public String path;
+
+    private Result<Integer, String> source;
+    private int input;
+    private MutableResultPipeline<Object, String> mutable;
+
+    @Setup
+    public void setup() {
+        source = "success".equals(path) ? Result.success(42) : Result.failure("error");
+        input = "success".equals(path) ? 42 : -1;
+        mutable = SyncResultPipeline.mutable(null);
+    }
+
+    @Benchmark
+    public Result<Integer, String> map() {
+        return SyncResultPipeline.from(source).map(v -> v + 1).build();
+    }
+
+    @Benchmark
+    public Result<Integer, String> flatMap() {
+        return SyncResultPipeline.from(source).flatMap(v -> Result.<Integer, String>success(v + 1)).build();
+    }
+
+    @Benchmark
+    public Result<Integer, String> validate() {
+        return SyncResultPipeline.from(source)
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .build();
+    }
+
+    @Benchmark
+    public Result<Integer, String> recover() {
+        return SyncResultPipeline.from(source).recover(String::length).build();
+    }
+
+    @Benchmark
+    public Result<Integer, String> tenStages(Blackhole bh) {
+        return SyncResultPipeline.from(source)
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.<Integer, String>success(v * 2))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .onFailure(bh::consume)
+                .flatMap(v -> Result.<Integer, String>success(v + 3))
+                .map(v -> v / 2)
+                .onSuccess(bh::consume)
+                .build();
+    }
+
+    /**
+     * Las mismas etapas de {@link #tenStages(Blackhole)} sobre una instancia mutable reutilizada.
+     * El fracaso se produce en el primer {@code filter}, como en {@code ResultPipelineBenchmark}.
+     */
+    @Benchmark
+    public Result<Integer, String> mutableTenStages(Blackhole bh) {
+        return mutable.reset(input)
+                .filter(v -> v >= 0, "negative")
+                .validate(v -> v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big"), key -> key)
+                .map(v -> v + 1)
+                .flatMap(v -> Result.<Integer, String>success(v * 2))
+                .filter(v -> v % 2 == 0, "odd")
+                .peek(bh::consume)
+                .map(v -> v - 1)
+                .onFailure(bh::consume)
+                .flatMap(v -> Result.<Integer, String>success(v + 3))
+                .map(v -> v / 2)
+                .build();
+    }
+}
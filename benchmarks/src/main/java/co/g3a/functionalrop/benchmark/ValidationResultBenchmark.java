@@ -0,0 +1,105 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.ErrorCode;
+import co.g3a.functionalrop.core.ValidationResult;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Mide {@link ValidationResult#combine(List)} con seis reglas, como en {@code UseCase.validateRequest},
+ * frente a las composiciones perezosas {@link ValidationResult#failFast} y {@link ValidationResult#accumulate}.
+ * {@code accumulateSixCodes} acumula {@link ErrorCode} en un bitset en lugar de listas de strings.
+ * <p>
+ * {@code failures} indica cuántas de las seis reglas fallan.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidationResultBenchmark {
+
+    @Param({"0", "1", "6"})
+    public int failures;
+
+    private String[] values;
+
+    private final Function<String[], ValidationResult<String[]>> failFast = ValidationResult.failFast(
+            v -> notEmpty(v[0], "e0"),
+            v -> notEmpty(v[1], "e1"),
+            v -> notEmpty(v[2], "e2"),
+            v -> notEmpty(v[3], "e3"),
+            v -> notEmpty(v[4], "e4"),
+            v -> notEmpty(v[5], "e5")
+    );
+
+    private final Function<String[], ValidationResult<String[]>> accumulate = ValidationResult.accumulate(
+            v -> notEmpty(v[0], "e0"),
+            v -> notEmpty(v[1], "e1"),
+            v -> notEmpty(v[2], "e2"),
+            v -> notEmpty(v[3], "e3"),
+            v -> notEmpty(v[4], "e4"),
+            v -> notEmpty(v[5], "e5")
+    );
+
+    private static final ErrorCode[] CODES = {
+            ErrorCode.register("e0"), ErrorCode.register("e1"), ErrorCode.register("e2"),
+            ErrorCode.register("e3"), ErrorCode.register("e4"), ErrorCode.register("e5")
+    };
+
+    private final Function<String[], ValidationResult<String[]>> accumulateCodes = ValidationResult.accumulate(
+            v -> notEmpty(v[0], CODES[0]),
+            v -> notEmpty(v[1], CODES[1]),
+            v -> notEmpty(v[2], CODES[2]),
+            v -> notEmpty(v[3], CODES[3]),
+            v -> notEmpty(v[4], CODES[4]),
+            v -> notEmpty(v[5], CODES[5])
+    );
+
+    @Setup
+    public void setup() {
+        values = new String[6];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i < failures ? "" : "value-" + i;
+        }
+    }
+
+    private static ValidationResult<Void> notEmpty(String value, String errorKey) {
+        return value.isEmpty() ? ValidationResult.invalid(errorKey) : ValidationResult.valid(null);
+    }
+
+    private static ValidationResult<Void> notEmpty(String value, ErrorCode code) {
+        return value.isEmpty() ? ValidationResult.invalid(code) : ValidationResult.valid(null);
+    }
+
+    @Benchmark
+    public ValidationResult<Void> combineSix() {
+        return ValidationResult.combine(List.of(
+                notEmpty(values[0], "e0"),
+                notEmpty(values[1], "e1"),
+                notEmpty(values[2], "e2"),
+                notEmpty(values[3], "e3"),
+                notEmpty(values[4], "e4"),
+                notEmpty(values[5], "e5")
+        ));
+    }
+
+    @Benchmark
+    public ValidationResult<String[]> failFastSix() {
+        return failFast.apply(values);
+    }
+
+    @Benchmark
+    public ValidationResult<String[]> accumulateSix() {
+        return accumulate.apply(values);
+    }
+
+    @Benchmark
+    public ValidationResult<String[]> accumulateSixCodes() {
+        return accumulateCodes.apply(values);
+    }
+}
@@ -0,0 +1,82 @@
+package co.g3a.functionalrop.benchmark;
+
+import co.g3a.functionalrop.core.ErrorCode;
+import co.g3a.functionalrop.core.Rules;
+import co.g3a.functionalrop.core.ValidationResult;
+import co.g3a.functionalrop.core.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compara las reglas escritas a mano al estilo de {@code UseCase} ({@code trim()}, {@code valid(null)},
+ * dos recorridos para el email) con el {@link Validator} precompilado, sobre una petición válida.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ValidatorBenchmark {
+
+    record Request(String email, String name, String password, int age) {
+    }
+
+    private static final ErrorCode EMPTY_EMAIL = ErrorCode.register("bench_empty_email");
+    private static final ErrorCode INVALID_EMAIL = ErrorCode.register("bench_invalid_email");
+    private static final ErrorCode SHORT_NAME = ErrorCode.register("bench_short_name");
+    private static final ErrorCode EMPTY_PASSWORD = ErrorCode.register("bench_empty_password");
+    private static final ErrorCode SHORT_PASSWORD = ErrorCode.register("bench_short_password");
+    private static final ErrorCode UNDERAGE = ErrorCode.register("bench_underage");
+
+    private final Function<Request, ValidationResult<Request>> handWritten = ValidationResult.failFast(
+            r -> notEmpty(r.email(), "empty_email"),
+            r -> emailFormat(r.email(), "invalid_email"),
+            r -> minLength(r.name(), 3, "short_name"),
+            r -> notEmpty(r.password(), "empty_password"),
+            r -> minLength(r.password(), 8, "short_password"),
+            r -> r.age() < 18 ? ValidationResult.invalid("underage") : ValidationResult.valid(null)
+    );
+
+    private final Validator<Request> compiled = Validator.<Request>failFast()
+            .string(Request::email, Rules.notBlank(EMPTY_EMAIL), Rules.email(INVALID_EMAIL))
+            .string(Request::name, Rules.minLength(3, SHORT_NAME))
+            .string(Request::password, Rules.notBlank(EMPTY_PASSWORD), Rules.minLength(8, SHORT_PASSWORD))
+            .integer(Request::age, Rules.min(18, UNDERAGE));
+
+    private Request request;
+
+    @Setup
+    public void setup() {
+        request = new Request(" usuario@example.com ", "Juan Pérez", "superpassword", 30);
+    }
+
+    private static ValidationResult<Void> notEmpty(String value, String errorKey) {
+        return value == null || value.trim().isEmpty() ? ValidationResult.invalid(errorKey) : ValidationResult.valid(null);
+    }
+
+    private static ValidationResult<Void> minLength(String value, int min, String errorKey) {
+        return value == null || value.length() < min ? ValidationResult.invalid(errorKey) : ValidationResult.valid(null);
+    }
+
+    private static ValidationResult<Void> emailFormat(String email, String errorKey) {
+        return !email.contains("@") || !email.contains(".") ? ValidationResult.invalid(errorKey) : ValidationResult.valid(null);
+    }
+
+    @Benchmark
+    public ValidationResult<Request> handWritten() {
+        return handWritten.apply(request);
+    }
+
+    @Benchmark
+    public ValidationResult<Request> validator() {
+        return compiled.apply(request);
+    }
+
+    @Benchmark
+    public ErrorCode validatorFirstError() {
+        return compiled.firstError(request);
+    }
+}
@@ -0,0 +1,167 @@
+package co.g3a.functionalrop.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * Validación masiva de colecciones con fork-join.
+ * <p>
+ * El rango de índices se divide recursivamente hasta {@code threshold} elementos, que se validan de forma
+ * secuencial. Cada hoja acumula sus fallos en arreglos propios (índice + {@link ValidationResult}) y las mitades
+ * se concatenan al unirse, de modo que no hay estado compartido ni contención, y los fallos quedan ordenados
+ * por índice. Los elementos válidos no ocupan memoria en el resultado.
+ *
+ * <pre>{@code
+ * BulkValidationResult<Customer> report = BulkValidation.validateAll(rows, CUSTOMER_VALIDATOR);
+ * report.forEachInvalid((index, errors) -> log.warn("fila {}: {}", index, errors.getErrors()));
+ * }</pre>
+ */
+public final class BulkValidation {
+
+    /**
+     * Cantidad de elementos por debajo de la cual una tarea valida secuencialmente.
+     */
+    public static final int DEFAULT_THRESHOLD = 4096;
+
+    private BulkValidation() {
+    }
+
+    /**
+     * Valida todos los elementos en el {@link ForkJoinPool#commonPool()} con {@link #DEFAULT_THRESHOLD}.
+     *
+     * @param items     elementos a validar
+     * @param validator validador de un elemento
+     * @param <T>       tipo de los elementos
+     * @return fallos por índice
+     */
+    public static <T> BulkValidationResult<T> validateAll(List<? extends T> items, Function<? super T, ? extends ValidationResult<?>> validator) {
+        return validateAll(items, validator, DEFAULT_THRESHOLD, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Valida todos los elementos con un umbral secuencial y un pool propios.
+     *
+     * @param items     elementos a validar; si la lista no es {@link RandomAccess} se copia
+     * @param validator validador de un elemento; debe ser seguro para uso concurrente
+     * @param threshold cantidad máxima de elementos que valida una tarea sin dividirse (mínimo 1)
+     * @param pool      pool donde se ejecutan las tareas
+     * @param <T>       tipo de los elementos
+     * @return fallos por índice
+     */
+    public static <T> BulkValidationResult<T> validateAll(List<? extends T> items,
+                                                          Function<? super T, ? extends ValidationResult<?>> validator,
+                                                          int threshold,
+                                                          ForkJoinPool pool) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        List<? extends T> indexed = items instanceof RandomAccess ? items : new ArrayList<>(items);
+        int size = indexed.size();
+        if (size == 0) {
+            return new BulkValidationResult<>(0, new int[0], new ValidationResult<?>[0], 0);
+        }
+        Failures failures = size <= threshold
+                ? new ValidateTask<>(indexed, validator, 0, size, threshold).compute()
+                : pool.invoke(new ValidateTask<>(indexed, validator, 0, size, threshold));
+        return new BulkValidationResult<>(size, failures.indexes, failures.results, failures.size);
+    }
+
+    /**
+     * Valida todos los elementos de un arreglo en el {@link ForkJoinPool#commonPool()}.
+     */
+    public static <T> BulkValidationResult<T> validateAll(T[] items, Function<? super T, ? extends ValidationResult<?>> validator) {
+        return validateAll(Arrays.asList(items), validator);
+    }
+
+    /**
+     * Valida todos los elementos de un arreglo con un umbral secuencial y un pool propios.
+     */
+    public static <T> BulkValidationResult<T> validateAll(T[] items,
+                                                          Function<? super T, ? extends ValidationResult<?>> validator,
+                                                          int threshold,
+                                                          ForkJoinPool pool) {
+        return validateAll(Arrays.asList(items), validator, threshold, pool);
+    }
+
+    /**
+     * Fallos de un rango, ordenados por índice.
+     */
+    private static final class Failures {
+        int[] indexes = new int[0];
+        ValidationResult<?>[] results = new ValidationResult<?>[0];
+        int size;
+
+        void add(int index, ValidationResult<?> result) {
+            ensureCapacity(size + 1);
+            indexes[size] = index;
+            results[size] = result;
+            size++;
+        }
+
+        Failures append(Failures right) {
+            if (right.size == 0) {
+                return this;
+            }
+            if (size == 0) {
+                return right;
+            }
+            ensureCapacity(size + right.size);
+            System.arraycopy(right.indexes, 0, indexes, size, right.size);
+            System.arraycopy(right.results, 0, results, size, right.size);
+            size += right.size;
+            return this;
+        }
+
+        private void ensureCapacity(int capacity) {
+            if (capacity > indexes.length) {
+                int next = Math.max(capacity, Math.max(8, indexes.length * 2));
+                indexes = Arrays.copyOf(indexes, next);
+                results = Arrays.copyOf(results, next);
+            }
+        }
+    }
+
+    private static final class ValidateTask<T> extends RecursiveTask<Failures> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient List<? extends T> items;
+        private final transient Function<? super T, ? extends ValidationResult<?>> validator;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ValidateTask(List<? extends T> items, Function<? super T, ? extends ValidationResult<?>> validator,
+                     int from, int to, int threshold) {
+            this.items = items;
+            this.validator = validator;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected Failures compute() {
+            if (to - from <= threshold) {
+                Failures failures = new Failures();
+                for (int i = from; i < to; i++) {
+                    ValidationResult<?> result = validator.apply(items.get(i));
+                    if (!result.isValid()) {
+                        failures.add(i, result);
+                    }
+                }
+                return failures;
+            }
+            int mid = (from + to) >>> 1;
+            ValidateTask<T> left = new ValidateTask<>(items, validator, from, mid, threshold);
+            ValidateTask<T> right = new ValidateTask<>(items, validator, mid, to, threshold);
+            left.fork();
+            Failures rightFailures = right.compute();
+            return left.join().append(rightFailures);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package co.g3a.functionalrop.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Resultado de {@link BulkValidation}: los fallos de validación indexados por posición en la colección original.
+ * Solo se guardan los elementos inválidos, ordenados por índice.
+ *
+ * @param <T> tipo de los elementos validados
+ */
+public final class BulkValidationResult<T> {
+
+    private final int size;
+    private final int[] indexes;
+    private final ValidationResult<?>[] results;
+    private final int invalidCount;
+
+    BulkValidationResult(int size, int[] indexes, ValidationResult<?>[] results, int invalidCount) {
+        this.size = size;
+        this.indexes = indexes;
+        this.results = results;
+        this.invalidCount = invalidCount;
+    }
+
+    /**
+     * @return cantidad de elementos validados
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return cantidad de elementos inválidos
+     */
+    public int invalidCount() {
+        return invalidCount;
+    }
+
+    /**
+     * @return true si todos los elementos son válidos
+     */
+    public boolean isValid() {
+        return invalidCount == 0;
+    }
+
+    /**
+     * @return los índices de los elementos inválidos, en orden ascendente
+     */
+    public int[] invalidIndexes() {
+        return Arrays.copyOf(indexes, invalidCount);
+    }
+
+    /**
+     * @param index índice en la colección original
+     * @return el resultado inválido del elemento, o {@code null} si es válido
+     */
+    public ValidationResult<?> errorsAt(int index) {
+        int position = Arrays.binarySearch(indexes, 0, invalidCount, index);
+        return position >= 0 ? results[position] : null;
+    }
+
+    /**
+     * Recorre los elementos inválidos en orden de índice.
+     *
+     * @param action acción con el índice y su resultado inválido; el índice se pasa como {@code int}, sin boxing
+     */
+    public void forEachInvalid(InvalidConsumer action) {
+        for (int i = 0; i < invalidCount; i++) {
+            action.accept(indexes[i], results[i]);
+        }
+    }
+
+    /**
+     * Combina todos los fallos en un único resultado, como {@link ValidationResult#combine(List)}.
+     *
+     * @param items la colección validada
+     * @return {@code valid(items)}, o un resultado inválido con los errores de todos los elementos
+     */
+    public <L extends List<? extends T>> ValidationResult<L> combined(L items) {
+        if (invalidCount == 0) {
+            return ValidationResult.valid(items);
+        }
+        ErrorAccumulator errors = new ErrorAccumulator();
+        for (int i = 0; i < invalidCount; i++) {
+            errors.add(results[i]);
+        }
+        return errors.result();
+    }
+
+    /**
+     * Acción sobre un elemento inválido, con el índice como {@code int} primitivo.
+     */
+    @FunctionalInterface
+    public interface InvalidConsumer {
+
+        /**
+         * @param index  índice del elemento en la colección original
+         * @param errors resultado inválido del elemento
+         */
+        void accept(int index, ValidationResult<?> errors);
+    }
+}
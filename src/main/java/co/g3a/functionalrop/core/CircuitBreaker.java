@@ -0,0 +1,331 @@
+package co.g3a.functionalrop.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cortocircuito ("circuit breaker") sin bloqueos para operaciones de {@link DeadEnd} contra una dependencia.
+ * <p>
+ * Cerrado, registra en una ventana deslizante las últimas {@code windowSize} llamadas; si con al menos
+ * {@code minimumCalls} registradas la tasa de fracasos o la de llamadas lentas alcanza su umbral, se abre.
+ * Abierto, cada llamada termina de inmediato con {@code Result.failure(openError)} sin ejecutar la operación ni
+ * usar el executor. Pasado {@code openDuration} pasa a semiabierto y deja pasar {@code halfOpenProbes} llamadas
+ * de prueba: si todas terminan bien y a tiempo se cierra con una ventana nueva; si alguna falla o es lenta,
+ * vuelve a abrirse. Una llamada de prueba que sigue en curso pasado {@code slowCall} (o {@code openDuration}, si
+ * no se configuraron llamadas lentas) cuenta como fracaso, así que una que nunca termina no deja el cortocircuito
+ * semiabierto para siempre.
+ * <p>
+ * Cuentan como fracaso los {@code Result.failure} y las etapas que terminan con excepción. El estado cambia
+ * por comparación e intercambio de una referencia; los resultados que llegan de una fase anterior se ignoran.
+ * La instancia guarda el estado de la dependencia, por lo que debe compartirse entre todas sus llamadas.
+ *
+ * <pre>{@code
+ * static final CircuitBreaker<AppError> DB = CircuitBreaker.<AppError>of(20, 0.5, Duration.ofSeconds(10),
+ *                 new AppError.DbError("circuito abierto"))
+ *         .withSlowCalls(Duration.ofSeconds(2), 0.5);
+ *
+ * deadEnd.runSafeResult(input, this::guardar, ex -> new AppError.DbError(ex.getMessage()), DB);
+ * }</pre>
+ *
+ * @param <E> tipo del error
+ */
+public final class CircuitBreaker<E> {
+
+    /**
+     * Estado del cortocircuito.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final double slowCallRateThreshold;
+    private final long openNanos;
+    private final int halfOpenProbes;
+    private final Result<Object, E> rejection;
+
+    private final AtomicReference<Phase> phase;
+    private final LongAdder rejected = new LongAdder();
+
+    private CircuitBreaker(int windowSize, int minimumCalls, double failureRateThreshold, long slowCallNanos,
+                           double slowCallRateThreshold, long openNanos, int halfOpenProbes, Result<Object, E> rejection) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallNanos;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openNanos = openNanos;
+        this.halfOpenProbes = halfOpenProbes;
+        this.rejection = rejection;
+        this.phase = new AtomicReference<>(Phase.closed(windowSize));
+    }
+
+    /**
+     * Cortocircuito que solo mira la tasa de fracasos, con {@code minimumCalls = windowSize} y una llamada de
+     * prueba al semiabrirse.
+     *
+     * @param windowSize           cantidad de llamadas recientes que se evalúan
+     * @param failureRateThreshold tasa de fracasos en {@code (0, 1]} a partir de la cual se abre
+     * @param openDuration         tiempo abierto antes de dejar pasar llamadas de prueba
+     * @param openError            error con el que terminan las llamadas rechazadas
+     * @param <E>                  tipo del error
+     * @return cortocircuito cerrado
+     */
+    public static <E> CircuitBreaker<E> of(int windowSize, double failureRateThreshold, Duration openDuration, E openError) {
+        if (windowSize < 1) {
+            throw new IllegalArgumentException("windowSize must be positive: " + windowSize);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration must not be negative: " + openDuration);
+        }
+        return new CircuitBreaker<>(windowSize, windowSize, rate("failureRateThreshold", failureRateThreshold),
+                Long.MAX_VALUE, 1.0, openDuration.toNanos(), 1, Result.failure(openError));
+    }
+
+    /**
+     * @param slowCall              duración a partir de la cual una llamada cuenta como lenta
+     * @param slowCallRateThreshold tasa de llamadas lentas en {@code (0, 1]} a partir de la cual se abre
+     */
+    public CircuitBreaker<E> withSlowCalls(Duration slowCall, double slowCallRateThreshold) {
+        return new CircuitBreaker<>(windowSize, minimumCalls, failureRateThreshold, slowCall.toNanos(),
+                rate("slowCallRateThreshold", slowCallRateThreshold), openNanos, halfOpenProbes, rejection);
+    }
+
+    /**
+     * @param minimumCalls llamadas registradas necesarias antes de evaluar las tasas, entre 1 y {@code windowSize}
+     */
+    public CircuitBreaker<E> withMinimumCalls(int minimumCalls) {
+        if (minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("minimumCalls must be between 1 and " + windowSize + ": " + minimumCalls);
+        }
+        return new CircuitBreaker<>(windowSize, minimumCalls, failureRateThreshold, slowCallNanos,
+                slowCallRateThreshold, openNanos, halfOpenProbes, rejection);
+    }
+
+    /**
+     * @param halfOpenProbes llamadas de prueba que deben terminar bien para volver a cerrarse (mínimo 1)
+     */
+    public CircuitBreaker<E> withHalfOpenProbes(int halfOpenProbes) {
+        if (halfOpenProbes < 1) {
+            throw new IllegalArgumentException("halfOpenProbes must be positive: " + halfOpenProbes);
+        }
+        return new CircuitBreaker<>(windowSize, minimumCalls, failureRateThreshold, slowCallNanos,
+                slowCallRateThreshold, openNanos, halfOpenProbes, rejection);
+    }
+
+    /**
+     * @return estado actual; un cortocircuito abierto cuyo plazo venció se informa como abierto hasta la
+     * próxima llamada
+     */
+    public State state() {
+        return phase.get().state;
+    }
+
+    /**
+     * @return tasa de fracasos de la ventana actual, o 0 si no está cerrado o no hay llamadas
+     */
+    public double failureRate() {
+        Window window = phase.get().window;
+        return window == null ? 0.0 : window.rate(window.failures);
+    }
+
+    /**
+     * @return tasa de llamadas lentas de la ventana actual, o 0 si no está cerrado o no hay llamadas
+     */
+    public double slowCallRate() {
+        Window window = phase.get().window;
+        return window == null ? 0.0 : window.rate(window.slowCalls);
+    }
+
+    /**
+     * @return llamadas rechazadas sin ejecutar desde la creación
+     */
+    public long rejectedCalls() {
+        return rejected.sum();
+    }
+
+    /**
+     * Ejecuta {@code call} si el cortocircuito lo permite; si no, retorna de inmediato el fracaso configurado
+     * sin invocar a {@code call}.
+     */
+    @SuppressWarnings("unchecked")
+    <R> CompletionStage<Result<R, E>> execute(Supplier<? extends CompletionStage<Result<R, E>>> call) {
+        Phase admitted = acquire();
+        if (admitted == null) {
+            rejected.increment();
+            return CompletableFuture.completedFuture((Result<R, E>) (Result<?, E>) rejection);
+        }
+        long startNanos = System.nanoTime();
+        CompletableFuture<Result<R, E>> future;
+        try {
+            future = call.get().toCompletableFuture();
+        } catch (Throwable ex) {
+            onComplete(admitted, false, 0L);
+            return CompletableFuture.failedFuture(ex);
+        }
+        Timeouts.Scheduled deadline = admitted.state == State.HALF_OPEN
+                ? Timeouts.schedule(probeTimeoutNanos(),
+                        () -> phase.compareAndSet(admitted, Phase.open(System.nanoTime() + openNanos)))
+                : null;
+        future.whenComplete((result, ex) -> {
+            if (deadline != null) {
+                deadline.cancel();
+            }
+            onComplete(admitted, ex == null && result != null && result.isSuccess(), System.nanoTime() - startNanos);
+        });
+        return future;
+    }
+
+    /**
+     * @return fase en la que se admite la llamada, o {@code null} si se rechaza
+     */
+    private Phase acquire() {
+        while (true) {
+            Phase current = phase.get();
+            switch (current.state) {
+                case CLOSED:
+                    return current;
+                case HALF_OPEN:
+                    return takeProbe(current.probes) ? current : null;
+                case OPEN:
+                    if (System.nanoTime() - current.openUntilNanos < 0) {
+                        return null;
+                    }
+                    phase.compareAndSet(current, Phase.halfOpen(halfOpenProbes));
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Toma una llamada de prueba sin bajar el contador de cero, así las llamadas rechazadas mientras una prueba
+     * sigue en curso no lo desbordan.
+     */
+    private static boolean takeProbe(AtomicInteger probes) {
+        while (true) {
+            int left = probes.get();
+            if (left <= 0) {
+                return false;
+            }
+            if (probes.compareAndSet(left, left - 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @return plazo de una llamada de prueba antes de reabrir el cortocircuito
+     */
+    private long probeTimeoutNanos() {
+        return slowCallNanos != Long.MAX_VALUE ? slowCallNanos : openNanos;
+    }
+
+    private void onComplete(Phase admitted, boolean success, long elapsedNanos) {
+        boolean slow = elapsedNanos >= slowCallNanos;
+        if (admitted.state == State.CLOSED) {
+            Window window = admitted.window;
+            window.record(success, slow);
+            if (window.calls.get() >= minimumCalls
+                    && (window.rate(window.failures) >= failureRateThreshold
+                    || window.rate(window.slowCalls) >= slowCallRateThreshold)) {
+                phase.compareAndSet(admitted, Phase.open(System.nanoTime() + openNanos));
+            }
+        } else if (!success || slow) {
+            phase.compareAndSet(admitted, Phase.open(System.nanoTime() + openNanos));
+        } else if (admitted.succeeded.incrementAndGet() == halfOpenProbes) {
+            phase.compareAndSet(admitted, Phase.closed(windowSize));
+        }
+    }
+
+    private static double rate(String name, double value) {
+        if (!(value > 0.0 && value <= 1.0)) {
+            throw new IllegalArgumentException(name + " must be in (0, 1]: " + value);
+        }
+        return value;
+    }
+
+    /**
+     * Fase inmutable del cortocircuito con sus contadores propios; cada transición crea una nueva, así que un
+     * resultado tardío nunca altera una fase posterior.
+     */
+    private static final class Phase {
+        final State state;
+        final Window window;
+        final long openUntilNanos;
+        final AtomicInteger probes;
+        final AtomicInteger succeeded;
+
+        private Phase(State state, Window window, long openUntilNanos, int probes) {
+            this.state = state;
+            this.window = window;
+            this.openUntilNanos = openUntilNanos;
+            this.probes = state == State.HALF_OPEN ? new AtomicInteger(probes) : null;
+            this.succeeded = state == State.HALF_OPEN ? new AtomicInteger() : null;
+        }
+
+        static Phase closed(int windowSize) {
+            return new Phase(State.CLOSED, new Window(windowSize), 0L, 0);
+        }
+
+        static Phase open(long openUntilNanos) {
+            return new Phase(State.OPEN, null, openUntilNanos, 0);
+        }
+
+        static Phase halfOpen(int probes) {
+            return new Phase(State.HALF_OPEN, null, 0L, probes);
+        }
+    }
+
+    /**
+     * Ventana deslizante por cantidad de llamadas: un anillo con el resultado de cada una y contadores que se
+     * ajustan al reemplazar la más antigua.
+     */
+    private static final class Window {
+        private static final int RECORDED = 1;
+        private static final int FAILED = 2;
+        private static final int SLOW = 4;
+
+        private final AtomicIntegerArray outcomes;
+        private final AtomicLong cursor = new AtomicLong();
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicInteger failures = new AtomicInteger();
+        final AtomicInteger slowCalls = new AtomicInteger();
+
+        Window(int size) {
+            this.outcomes = new AtomicIntegerArray(size);
+        }
+
+        void record(boolean success, boolean slow) {
+            int outcome = RECORDED | (success ? 0 : FAILED) | (slow ? SLOW : 0);
+            int slot = (int) (cursor.getAndIncrement() % outcomes.length());
+            int previous = outcomes.getAndSet(slot, outcome);
+            if (previous == 0) {
+                calls.incrementAndGet();
+            }
+            adjust(failures, previous, outcome, FAILED);
+            adjust(slowCalls, previous, outcome, SLOW);
+        }
+
+        double rate(AtomicInteger counter) {
+            int total = calls.get();
+            return total == 0 ? 0.0 : Math.max(0, counter.get()) / (double) total;
+        }
+
+        private static void adjust(AtomicInteger counter, int previous, int outcome, int flag) {
+            int delta = (outcome & flag) - (previous & flag);
+            if (delta != 0) {
+                counter.addAndGet(Integer.signum(delta));
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package co.g3a.functionalrop.core;
+
+/**
+ * Pipeline síncrona compilada a bytecode por {@link SyncPipelineCompiler}.
+ * <p>
+ * Produce exactamente el mismo {@link Result} que {@link Pipeline#runSync(Object)} y que la cadena equivalente
+ * de {@link SyncResultPipeline}; las excepciones de las etapas se propagan directamente al llamador.
+ * Las instancias son inmutables y seguras para uso concurrente.
+ *
+ * @param <In>  tipo de la entrada
+ * @param <Out> tipo del valor exitoso final
+ * @param <E>   tipo del error
+ */
+@FunctionalInterface
+public interface CompiledPipeline<In, Out, E> {
+
+    /**
+     * Ejecuta la pipeline compilada.
+     *
+     * @param input valor inicial
+     * @return {@link Result} final
+     */
+    Result<Out, E> apply(In input);
+}
@@ -0,0 +1,289 @@
+package co.g3a.functionalrop.core;
+
+import co.g3a.functionalrop.utils.BiFunc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Definición inmutable y reutilizable de un grafo acíclico de etapas {@code In -> Result<Out, E>}.
+ * <p>
+ * A diferencia de {@link Pipeline}, donde cada etapa depende de la anterior, aquí cada etapa declara de qué nodos
+ * depende. Al ejecutar, una etapa arranca en cuanto sus entradas terminan con éxito, de modo que las ramas
+ * independientes corren de forma concurrente y la latencia total es la del camino crítico.
+ * <p>
+ * Los errores se propagan igual que en {@link ResultPipeline}: si una entrada falla, la etapa no se ejecuta y
+ * su resultado es ese mismo {@link Result.Failure}. Si fallan varias entradas, gana la primera en el orden de
+ * los argumentos; cuando esa es la primera entrada, la etapa falla sin esperar a las demás.
+ * <p>
+ * Solo se ejecutan los nodos de los que depende la salida indicada en {@link Builder#build(Node)}.
+ *
+ * <pre>{@code
+ * Dag.Builder<Request, AppError> dag = Dag.builder();
+ * Dag.Node<Request> guardado = dag.stage(dag.input(), this::updateDb);
+ * Dag.Node<Request> enviado = dag.stage(guardado, this::sendEmail);
+ * Dag.Node<String> codigo = dag.stage(guardado, this::generateActivationCode);
+ * Dag<Request, String, AppError> activacion = dag.build(dag.combine(enviado, codigo, (r, c) -> c));
+ *
+ * CompletionStage<Result<String, AppError>> result = activacion.run(request);
+ * }</pre>
+ *
+ * @param <In>  tipo de la entrada
+ * @param <Out> tipo del valor exitoso final
+ * @param <E>   tipo del error
+ */
+public final class Dag<In, Out, E> {
+
+    /**
+     * Nodos alcanzables desde la salida, en orden topológico; la entrada es siempre el índice 0.
+     */
+    private final Step[] steps;
+
+    private Dag(Step[] steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Inicia la definición de un grafo.
+     *
+     * @param <In> tipo de la entrada
+     * @param <E>  tipo del error
+     * @return constructor con un único nodo de entrada
+     */
+    public static <In, E> Builder<In, E> builder() {
+        return new Builder<>();
+    }
+
+    /**
+     * Ejecuta el grafo con la entrada dada.
+     *
+     * @param input valor de entrada
+     * @return etapa con el resultado del nodo de salida
+     */
+    public CompletionStage<Result<Out, E>> run(In input) {
+        @SuppressWarnings("unchecked")
+        CompletableFuture<Result<Object, E>>[] results = (CompletableFuture<Result<Object, E>>[]) new CompletableFuture<?>[steps.length];
+        results[0] = CompletableFuture.completedFuture(Result.success(input));
+        for (int i = 1; i < steps.length; i++) {
+            Step step = steps[i];
+            if (step.second < 0) {
+                @SuppressWarnings("unchecked")
+                Function<Object, CompletionStage<Result<Object, E>>> function =
+                        (Function<Object, CompletionStage<Result<Object, E>>>) step.function;
+                results[i] = single(results[step.first], function);
+            } else {
+                @SuppressWarnings("unchecked")
+                BiFunc<Object, Object, CompletionStage<Result<Object, E>>> function =
+                        (BiFunc<Object, Object, CompletionStage<Result<Object, E>>>) step.function;
+                results[i] = both(results[step.first], results[step.second], function);
+            }
+        }
+        @SuppressWarnings("unchecked")
+        CompletionStage<Result<Out, E>> output = (CompletionStage<Result<Out, E>>) (CompletionStage<?>) results[steps.length - 1];
+        return output;
+    }
+
+    private static <E> CompletableFuture<Result<Object, E>> single(
+            CompletableFuture<Result<Object, E>> input,
+            Function<Object, CompletionStage<Result<Object, E>>> function
+    ) {
+        return input.thenCompose(res -> res.isSuccess()
+                ? function.apply(res.getValue())
+                : CompletableFuture.completedFuture(res));
+    }
+
+    private static <E> CompletableFuture<Result<Object, E>> both(
+            CompletableFuture<Result<Object, E>> first,
+            CompletableFuture<Result<Object, E>> second,
+            BiFunc<Object, Object, CompletionStage<Result<Object, E>>> function
+    ) {
+        CompletableFuture<Result<Object, E>> out = new CompletableFuture<>();
+        first.whenComplete((res, ex) -> {
+            if (ex != null) {
+                out.completeExceptionally(ex);
+            } else if (!res.isSuccess()) {
+                out.complete(res);
+            }
+        });
+        second.whenComplete((res, ex) -> {
+            if (ex != null) {
+                out.completeExceptionally(ex);
+            }
+        });
+        first.thenAcceptBoth(second, (a, b) -> {
+            if (!a.isSuccess()) {
+                return;
+            }
+            if (!b.isSuccess()) {
+                out.complete(b);
+                return;
+            }
+            try {
+                function.apply(a.getValue(), b.getValue()).whenComplete((res, ex) -> {
+                    if (ex != null) {
+                        out.completeExceptionally(ex);
+                    } else {
+                        out.complete(res);
+                    }
+                });
+            } catch (Throwable ex) {
+                out.completeExceptionally(ex);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Referencia tipada a un nodo del grafo en construcción.
+     *
+     * @param <T> tipo del valor exitoso del nodo
+     */
+    public static final class Node<T> {
+        private final Builder<?, ?> owner;
+        private final int index;
+
+        private Node(Builder<?, ?> owner, int index) {
+            this.owner = owner;
+            this.index = index;
+        }
+    }
+
+    /**
+     * Nodo interno: índice de una o dos entradas y la función que produce su resultado.
+     */
+    private record Step(int first, int second, Object function) {
+    }
+
+    /**
+     * Constructor del grafo. Un nodo solo puede depender de nodos ya declarados, por lo que el grafo es acíclico
+     * por construcción. No es seguro para uso concurrente; el {@link Dag} resultante sí lo es.
+     *
+     * @param <In> tipo de la entrada
+     * @param <E>  tipo del error
+     */
+    public static final class Builder<In, E> {
+        private final List<Step> steps = new ArrayList<>();
+        private final Node<In> input;
+
+        private Builder() {
+            steps.add(new Step(-1, -1, null));
+            input = new Node<>(this, 0);
+        }
+
+        /**
+         * @return nodo con la entrada del grafo
+         */
+        public Node<In> input() {
+            return input;
+        }
+
+        /**
+         * Declara una etapa asíncrona que depende de un nodo.
+         *
+         * @param from     nodo de entrada
+         * @param function función {@code A -> CompletionStage<Result<R, E>>}
+         * @param <A>      tipo de la entrada
+         * @param <R>      tipo del valor producido
+         * @return nodo con el resultado de la etapa
+         */
+        public <A, R> Node<R> stage(Node<A> from, Function<? super A, ? extends CompletionStage<Result<R, E>>> function) {
+            return add(from, null, function);
+        }
+
+        /**
+         * Declara una etapa asíncrona que depende de dos nodos; arranca cuando ambos terminan con éxito.
+         *
+         * @param first    primer nodo de entrada
+         * @param second   segundo nodo de entrada
+         * @param function función {@code (A, B) -> CompletionStage<Result<R, E>>}
+         * @return nodo con el resultado de la etapa
+         */
+        public <A, B, R> Node<R> stage(Node<A> first, Node<B> second,
+                                       BiFunc<? super A, ? super B, ? extends CompletionStage<Result<R, E>>> function) {
+            return add(first, second, function);
+        }
+
+        /**
+         * Declara una transformación síncrona de un nodo.
+         *
+         * @param from   nodo de entrada
+         * @param mapper función {@code A -> R}
+         * @return nodo con el valor transformado
+         */
+        public <A, R> Node<R> map(Node<A> from, Function<? super A, ? extends R> mapper) {
+            Function<A, CompletionStage<Result<R, E>>> function =
+                    a -> CompletableFuture.completedFuture(Result.success(mapper.apply(a)));
+            return add(from, null, function);
+        }
+
+        /**
+         * Combina de forma síncrona los valores de dos nodos, que se ejecutan de forma concurrente.
+         *
+         * @param first    primer nodo de entrada
+         * @param second   segundo nodo de entrada
+         * @param combiner función {@code (A, B) -> R}
+         * @return nodo con el valor combinado
+         */
+        public <A, B, R> Node<R> combine(Node<A> first, Node<B> second, BiFunc<? super A, ? super B, ? extends R> combiner) {
+            BiFunc<A, B, CompletionStage<Result<R, E>>> function =
+                    (a, b) -> CompletableFuture.completedFuture(Result.success(combiner.apply(a, b)));
+            return add(first, second, function);
+        }
+
+        /**
+         * Construye el grafo con el nodo de salida indicado. Los nodos de los que la salida no depende se descartan.
+         *
+         * @param output nodo cuyo resultado retorna {@link Dag#run(Object)}
+         * @param <Out>  tipo del valor exitoso final
+         * @return definición inmutable del grafo
+         */
+        public <Out> Dag<In, Out, E> build(Node<Out> output) {
+            int target = indexOf(output);
+            boolean[] needed = new boolean[target + 1];
+            needed[0] = true;
+            needed[target] = true;
+            for (int i = target; i > 0; i--) {
+                if (needed[i]) {
+                    Step step = steps.get(i);
+                    needed[step.first()] = true;
+                    if (step.second() >= 0) {
+                        needed[step.second()] = true;
+                    }
+                }
+            }
+            int[] remap = new int[target + 1];
+            List<Step> kept = new ArrayList<>();
+            for (int i = 0; i <= target; i++) {
+                if (needed[i]) {
+                    Step step = steps.get(i);
+                    remap[i] = kept.size();
+                    kept.add(i == 0 ? step : new Step(
+                            remap[step.first()],
+                            step.second() < 0 ? -1 : remap[step.second()],
+                            step.function()));
+                }
+            }
+            return new Dag<>(kept.toArray(new Step[0]));
+        }
+
+        private <R> Node<R> add(Node<?> first, Node<?> second, Object function) {
+            if (function == null) {
+                throw new NullPointerException("function");
+            }
+            int a = indexOf(first);
+            int b = second == null ? -1 : indexOf(second);
+            steps.add(new Step(a, b, function));
+            return new Node<>(this, steps.size() - 1);
+        }
+
+        private int indexOf(Node<?> node) {
+            if (node.owner != this) {
+                throw new IllegalArgumentException("Node belongs to a different Dag builder");
+            }
+            return node.index;
+        }
+    }
+}
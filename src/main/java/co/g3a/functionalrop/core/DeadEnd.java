@@ -1,5 +1,7 @@
 package co.g3a.functionalrop.core;
 
+import co.g3a.functionalrop.utils.DeadEndFunction;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
@@ -10,6 +12,9 @@ import java.util.function.Function;
  * con y sin transformación.
  * <p>
  * Admite registro estructurado y gestión consistente de errores funcionales (Result.failure).
+ * <p>
+ * {@link #runSafeResultTransform} completa la etapa con excepción cuando la función falla; {@link #runSafeResult}
+ * en cambio la completa normalmente con {@code Result.failure}, sin crear excepciones envolventes.
  */
 public class DeadEnd {
 
@@ -37,4 +42,116 @@ public class DeadEnd {
             }
         }, this.executor);
     }
-}
\ No newline at end of file
+
+    // ------------------------------------------------------------------------------------------------
+    // 3️⃣ Exception-free transformer: a thrown exception becomes Result.failure, never an exceptional future
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * Aplica una función con efectos secundarios que puede lanzar excepciones verificadas. Si lanza, la etapa
+     * completa normalmente con {@code Result.failure(throwableHandler.apply(ex))}: no se crea una excepción
+     * envolvente ni se llama a {@code toString()} sobre el error. Para conservar el detalle de la causa sin su
+     * traza, el manejador puede usar {@link StacklessCause#of(Throwable)}.
+     *
+     * @param input            valor de entrada
+     * @param function         función {@code In -> Result<Out, E>} que puede lanzar excepciones
+     * @param throwableHandler conversor de la excepción al error {@code E}
+     * @return etapa que solo termina con excepción si el propio manejador falla
+     */
+    public <In, Out, E> CompletionStage<Result<Out, E>> runSafeResult(
+            In input,
+            DeadEndFunction<In, Result<Out, E>> function,
+            Function<Throwable, E> throwableHandler
+    ) {
+        return CompletableFuture.supplyAsync(() -> apply(input, function, throwableHandler), this.executor);
+    }
+
+    /**
+     * Igual que {@link #runSafeResult(Object, DeadEndFunction, Function)}, reintentando los fracasos según
+     * {@code retryPolicy}. Cada intento corre en el executor; la espera entre intentos se programa en un
+     * temporizador compartido, sin {@code Thread.sleep} ni hilos bloqueados; al vencer la espera, el reintento se
+     * despacha desde el executor asíncrono por defecto y nunca corre en el hilo del temporizador. Cancelar la etapa
+     * retornada detiene los reintentos pendientes.
+     *
+     * @param input            valor de entrada
+     * @param function         función {@code In -> Result<Out, E>}; debe tolerar ejecutarse más de una vez
+     * @param throwableHandler conversor de la excepción al error {@code E}
+     * @param retryPolicy      intentos, backoff, jitter y errores reintentables
+     * @return etapa con el primer éxito o el último fracaso
+     */
+    public <In, Out, E> CompletionStage<Result<Out, E>> runSafeResult(
+            In input,
+            DeadEndFunction<In, Result<Out, E>> function,
+            Function<Throwable, E> throwableHandler,
+            RetryPolicy<E> retryPolicy
+    ) {
+        CompletableFuture<Result<Out, E>> outcome = new CompletableFuture<>();
+        attempt(1, input, function, throwableHandler, retryPolicy, outcome);
+        return outcome;
+    }
+
+    /**
+     * Igual que {@link #runSafeResult(Object, DeadEndFunction, Function)}, protegida por {@code circuitBreaker}.
+     * Con el cortocircuito abierto la etapa termina de inmediato con su error configurado, sin ejecutar la
+     * función ni enviar tareas al executor.
+     *
+     * @param input            valor de entrada
+     * @param function         función {@code In -> Result<Out, E>} que puede lanzar excepciones
+     * @param throwableHandler conversor de la excepción al error {@code E}
+     * @param circuitBreaker   cortocircuito compartido por las llamadas a la misma dependencia
+     * @return etapa con el resultado, o con el error de cortocircuito abierto
+     */
+    public <In, Out, E> CompletionStage<Result<Out, E>> runSafeResult(
+            In input,
+            DeadEndFunction<In, Result<Out, E>> function,
+            Function<Throwable, E> throwableHandler,
+            CircuitBreaker<E> circuitBreaker
+    ) {
+        return circuitBreaker.execute(() -> runSafeResult(input, function, throwableHandler));
+    }
+
+    private <In, Out, E> void attempt(int attempt,
+                                      In input,
+                                      DeadEndFunction<In, Result<Out, E>> function,
+                                      Function<Throwable, E> throwableHandler,
+                                      RetryPolicy<E> retryPolicy,
+                                      CompletableFuture<Result<Out, E>> outcome) {
+        if (outcome.isDone()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                Result<Out, E> result;
+                try {
+                    result = apply(input, function, throwableHandler);
+                    if (result == null) {
+                        throw new NullPointerException("DeadEnd function returned null");
+                    }
+                } catch (Throwable ex) {
+                    outcome.completeExceptionally(ex);
+                    return;
+                }
+                try {
+                    if (result.isSuccess() || !retryPolicy.shouldRetry(attempt, result.getError())) {
+                        outcome.complete(result);
+                        return;
+                    }
+                    Timeouts.schedule(retryPolicy.delayNanos(attempt), () -> CompletableFuture.runAsync(
+                            () -> attempt(attempt + 1, input, function, throwableHandler, retryPolicy, outcome)));
+                } catch (Throwable ex) {
+                    outcome.completeExceptionally(ex);
+                }
+            });
+        } catch (Throwable rejected) {
+            outcome.completeExceptionally(rejected);
+        }
+    }
+
+    private static <In, Out, E> Result<Out, E> apply(In input, DeadEndFunction<In, Result<Out, E>> function, Function<Throwable, E> throwableHandler) {
+        try {
+            return function.apply(input);
+        } catch (Exception ex) {
+            return Result.failure(throwableHandler.apply(ex));
+        }
+    }
+}
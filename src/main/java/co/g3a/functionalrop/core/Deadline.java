@@ -0,0 +1,124 @@
+package co.g3a.functionalrop.core;
+
+import java.time.Duration;
+
+/**
+ * Instante límite para completar una operación, medido con {@link System#nanoTime()}.
+ * <p>
+ * Se propaga por las etapas de una {@link ResultPipeline} con
+ * {@link ResultPipeline#withDeadline(Deadline, Object)}, de modo que cada etapa puede consultar el presupuesto
+ * restante y evitar trabajo que ya no alcanza a terminar.
+ *
+ * <pre>{@code
+ * ResultPipeline.<Request, AppError>use(request)
+ *         .withDeadline(Deadline.in(Duration.ofMillis(250)), new AppError.Timeout())
+ *         .flatMapAsyncWithin((r, deadline) -> deadline.hasAtLeast(Duration.ofMillis(50))
+ *                 ? enrich(r)
+ *                 : CompletableFuture.completedFuture(Result.success(r)));
+ * }</pre>
+ */
+public final class Deadline {
+
+    /**
+     * Sin límite: nunca expira y su presupuesto restante es {@link Long#MAX_VALUE} nanosegundos.
+     */
+    public static final Deadline NONE = new Deadline(0L, true);
+
+    /**
+     * A partir de aquí (~146 años) el límite se trata como {@link #NONE}, para que la resta con
+     * {@link System#nanoTime()} no desborde.
+     */
+    private static final long MAX_BOUNDED_NANOS = 1L << 62;
+
+    private final long deadlineNanos;
+    private final boolean unbounded;
+
+    private Deadline(long deadlineNanos, boolean unbounded) {
+        this.deadlineNanos = deadlineNanos;
+        this.unbounded = unbounded;
+    }
+
+    /**
+     * Crea un límite a {@code timeout} desde ahora.
+     *
+     * @param timeout tiempo disponible; si es negativo, el límite ya está vencido
+     * @return límite correspondiente
+     */
+    public static Deadline in(Duration timeout) {
+        return inNanos(saturatedNanos(timeout));
+    }
+
+    /**
+     * Crea un límite a {@code nanos} nanosegundos desde ahora.
+     */
+    public static Deadline inNanos(long nanos) {
+        if (nanos >= MAX_BOUNDED_NANOS) {
+            return NONE;
+        }
+        return new Deadline(System.nanoTime() + Math.max(0L, nanos), false);
+    }
+
+    /**
+     * @return nanosegundos restantes, {@code 0} si ya venció
+     */
+    public long remainingNanos() {
+        if (unbounded) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * @return tiempo restante, {@link Duration#ZERO} si ya venció
+     */
+    public Duration remaining() {
+        return Duration.ofNanos(remainingNanos());
+    }
+
+    /**
+     * @return {@code true} si el límite ya venció
+     */
+    public boolean isExpired() {
+        return !unbounded && deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    /**
+     * Indica si queda al menos {@code budget} de tiempo; útil para omitir trabajo que no alcanzaría a terminar.
+     */
+    public boolean hasAtLeast(Duration budget) {
+        return remainingNanos() >= saturatedNanos(budget);
+    }
+
+    /**
+     * @return {@code true} si este límite no vence nunca
+     */
+    public boolean isUnbounded() {
+        return unbounded;
+    }
+
+    /**
+     * @return el más cercano entre este límite y {@code other}
+     */
+    public Deadline earliest(Deadline other) {
+        if (unbounded) {
+            return other;
+        }
+        if (other.unbounded) {
+            return this;
+        }
+        return deadlineNanos - other.deadlineNanos <= 0 ? this : other;
+    }
+
+    @Override
+    public String toString() {
+        return unbounded ? "Deadline[none]" : "Deadline[remaining=" + remaining() + "]";
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException ex) {
+            return duration.isNegative() ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+    }
+}
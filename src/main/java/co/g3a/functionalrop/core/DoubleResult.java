@@ -0,0 +1,226 @@
+package co.g3a.functionalrop.core;
+
+import java.util.function.Function;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleToIntFunction;
+import java.util.function.DoubleToLongFunction;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Especialización de {@link Result} para valores {@code double}: el valor exitoso se guarda sin boxing,
+ * de modo que las cadenas numéricas (conteos, puntajes, sumas) no asignan un {@code Double} en cada paso.
+ * <p>
+ * Los puentes {@code mapToObj}, {@code mapToInt}, {@code mapToLong} y {@link #boxed()} permiten entrar y salir de
+ * {@link Result} cuando el flujo lo requiera.
+ *
+ * @param <E> tipo del error
+ */
+public sealed interface DoubleResult<E> permits DoubleResult.Success, DoubleResult.Failure {
+
+    /**
+     * @return true si el resultado es exitoso
+     */
+    boolean isSuccess();
+
+    /**
+     * Obtiene el valor exitoso sin boxing.
+     *
+     * @throws UnsupportedOperationException si es un fracaso
+     */
+    double getAsDouble();
+
+    /**
+     * Obtiene el error.
+     *
+     * @throws UnsupportedOperationException si es un éxito
+     */
+    E getError();
+
+    // 🟢 Factories
+
+    /**
+     * Crea un resultado exitoso.
+     *
+     * @param value valor de éxito
+     * @param <E>   tipo del error (no usado aquí)
+     * @return instancia de Success
+     */
+    static <E> DoubleResult<E> success(double value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Crea un resultado fallido.
+     *
+     * @param error error ocurrido
+     * @param <E>   tipo del error
+     * @return instancia de Failure
+     */
+    static <E> DoubleResult<E> failure(E error) {
+        return new Failure<>(error);
+    }
+
+    // 🧠 Transformaciones sin boxing
+
+    /**
+     * Aplica una función al valor exitoso, si existe.
+     *
+     * @param mapper función {@code double -> double}
+     * @return nuevo resultado (éxito o el mismo fracaso)
+     */
+    default DoubleResult<E> map(DoubleUnaryOperator mapper) {
+        return isSuccess() ? success(mapper.applyAsDouble(getAsDouble())) : this;
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code int}, sin boxing.
+     *
+     * @param mapper función {@code double -> int}
+     * @return resultado {@code int} con el valor transformado o el error original
+     */
+    default IntResult<E> mapToInt(DoubleToIntFunction mapper) {
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(getAsDouble())) : IntResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code long}, sin boxing.
+     *
+     * @param mapper función {@code double -> long}
+     * @return resultado {@code long} con el valor transformado o el error original
+     */
+    default LongResult<E> mapToLong(DoubleToLongFunction mapper) {
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(getAsDouble())) : LongResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso en un objeto, pasando a un {@link Result} genérico.
+     *
+     * @param mapper función {@code double -> U}
+     * @param <U>    tipo del nuevo valor
+     * @return resultado genérico con el valor transformado o el error original
+     */
+    default <U> Result<U, E> mapToObj(DoubleFunction<? extends U> mapper) {
+        return isSuccess() ? Result.success(mapper.apply(getAsDouble())) : Result.failure(getError());
+    }
+
+    /**
+     * Encadena otra operación que retorna un {@code DoubleResult}.
+     *
+     * @param mapper función {@code double -> DoubleResult<E>}
+     * @return resultado encadenado (éxito o propagación del fracaso)
+     */
+    default DoubleResult<E> flatMap(DoubleFunction<DoubleResult<E>> mapper) {
+        return isSuccess() ? mapper.apply(getAsDouble()) : this;
+    }
+
+    /**
+     * Filtra el valor exitoso por una condición. Si no se cumple, convierte en error.
+     *
+     * @param predicate condición a verificar
+     * @param error     valor de error si no se cumple la condición
+     * @return el mismo resultado o un fracaso con {@code error}
+     */
+    default DoubleResult<E> filter(DoublePredicate predicate, E error) {
+        return isSuccess() && !predicate.test(getAsDouble()) ? failure(error) : this;
+    }
+
+    /**
+     * Transforma el error, sin afectar el valor en caso de éxito.
+     *
+     * @param mapper función {@code E -> U}
+     * @param <U>    nuevo tipo del error
+     * @return el mismo éxito o un fracaso con el error transformado
+     */
+    @SuppressWarnings("unchecked")
+    default <U> DoubleResult<U> mapFailure(Function<E, U> mapper) {
+        return isSuccess() ? (DoubleResult<U>) (DoubleResult<?>) this : failure(mapper.apply(getError()));
+    }
+
+    /**
+     * Combina ambos caminos (éxito/fracaso) en un solo valor final.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @param <U>       tipo del resultado final
+     * @return valor final U
+     */
+    default <U> U fold(Function<E, U> onError, DoubleFunction<U> onSuccess) {
+        return isSuccess() ? onSuccess.apply(getAsDouble()) : onError.apply(getError());
+    }
+
+    /**
+     * Combina ambos caminos en un {@code double}, sin boxing.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @return valor final
+     */
+    default double foldToDouble(ToDoubleFunction<E> onError, DoubleUnaryOperator onSuccess) {
+        return isSuccess() ? onSuccess.applyAsDouble(getAsDouble()) : onError.applyAsDouble(getError());
+    }
+
+    /**
+     * @param other valor alternativo si es un fracaso
+     * @return el valor exitoso o {@code other}
+     */
+    default double orElse(double other) {
+        return isSuccess() ? getAsDouble() : other;
+    }
+
+    /**
+     * Convierte este resultado en un {@link Result} genérico con el valor en su forma boxed.
+     *
+     * @return resultado genérico equivalente
+     */
+    default Result<Double, E> boxed() {
+        return isSuccess() ? Result.success(getAsDouble()) : Result.failure(getError());
+    }
+
+    /**
+     * Resultado exitoso (contiene el valor).
+     *
+     * @param value valor {@code double}
+     * @param <E>   tipo del error (no usado)
+     */
+    record Success<E>(double value) implements DoubleResult<E> {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public double getAsDouble() {
+            return value;
+        }
+
+        @Override
+        public E getError() {
+            throw new UnsupportedOperationException("Success has no error");
+        }
+    }
+
+    /**
+     * Resultado fallido (contiene el error).
+     *
+     * @param error error de tipo E
+     * @param <E>   tipo del error
+     */
+    record Failure<E>(E error) implements DoubleResult<E> {
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public double getAsDouble() {
+            throw new UnsupportedOperationException("Failure has no value");
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package co.g3a.functionalrop.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Acumulador de fallos de validación usado por {@link ValidationResult#combine(List)}, el modo
+ * {@link ValidationResult.Mode#ACCUMULATE} y {@link Validator}.
+ * <p>
+ * Con un solo fallo retorna esa misma instancia. Mientras todos los fallos sean {@link ValidationResult.InvalidCodes}
+ * acumula sus códigos en orden junto con la unión de sus bitsets; solo si aparece un {@link ValidationResult.Invalid}
+ * con strings pasa a una lista de claves. En ambos casos se conserva el orden en que se agregaron los fallos.
+ */
+final class ErrorAccumulator {
+
+    private ValidationResult<?> first;
+    private ErrorSet codes;
+    private List<ErrorCode> failures;
+    private List<String> keys;
+
+    void add(ValidationResult<?> invalid) {
+        if (first == null) {
+            first = invalid;
+            return;
+        }
+        if (keys == null) {
+            if (codes == null && first instanceof ValidationResult.InvalidCodes<?> f) {
+                codes = f.codes();
+                failures = new ArrayList<>(f.failures());
+            }
+            if (codes != null && invalid instanceof ValidationResult.InvalidCodes<?> i) {
+                codes = codes.union(i.codes());
+                failures.addAll(i.failures());
+                return;
+            }
+            if (codes != null) {
+                keys = new ArrayList<>(failures.size() + 1);
+                for (ErrorCode code : failures) {
+                    keys.add(code.key());
+                }
+            } else {
+                keys = new ArrayList<>(first.getErrors());
+            }
+            codes = null;
+            failures = null;
+        }
+        keys.addAll(invalid.getErrors());
+    }
+
+    boolean isEmpty() {
+        return first == null;
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> ValidationResult<T> result() {
+        if (keys != null) {
+            return ValidationResult.invalid(Collections.unmodifiableList(keys));
+        }
+        if (codes != null) {
+            return new ValidationResult.InvalidCodes<>(codes, Collections.unmodifiableList(failures));
+        }
+        return (ValidationResult<T>) first;
+    }
+}
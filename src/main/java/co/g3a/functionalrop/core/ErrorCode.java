@@ -0,0 +1,127 @@
+package co.g3a.functionalrop.core;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Código de error de validación registrado, con un identificador entero pequeño.
+ * <p>
+ * Reemplaza las claves {@code String} ("short_name", "underage", ...) en el camino caliente: los códigos se
+ * acumulan en un {@link ErrorSet} (bitset) y se traducen en O(1) con un {@link ErrorCodeTable}, sin hashing de
+ * strings, copias de listas ni {@code switch} sobre strings. La clave se conserva para mensajes y compatibilidad
+ * con {@link ValidationResult#getErrors()}.
+ * <p>
+ * Registrar es idempotente: la misma clave siempre retorna la misma instancia. Los códigos se registran una sola
+ * vez, normalmente como constantes {@code static final}.
+ *
+ * <pre>{@code
+ * static final ErrorCode SHORT_NAME = ErrorCode.register("short_name");
+ *
+ * ValidationResult<Void> r = name.length() < 3 ? ValidationResult.invalid(SHORT_NAME) : ValidationResult.valid(null);
+ * }</pre>
+ */
+public final class ErrorCode {
+
+    private static final ConcurrentHashMap<String, ErrorCode> BY_KEY = new ConcurrentHashMap<>();
+    private static volatile ErrorCode[] byId = new ErrorCode[0];
+
+    private final int id;
+    private final String key;
+    private final ErrorSet singleton;
+    private final ValidationResult.InvalidCodes<?> invalid;
+
+    private ErrorCode(int id, String key) {
+        this.id = id;
+        this.key = key;
+        this.singleton = ErrorSet.single(id);
+        this.invalid = new ValidationResult.InvalidCodes<>(singleton, List.of(this));
+    }
+
+    /**
+     * Registra (o recupera) el código asociado a una clave.
+     *
+     * @param key clave del error, la misma usada en los archivos de mensajes
+     * @return código único para la clave
+     */
+    public static ErrorCode register(String key) {
+        ErrorCode existing = BY_KEY.get(key);
+        return existing != null ? existing : registerSlow(key);
+    }
+
+    private static synchronized ErrorCode registerSlow(String key) {
+        ErrorCode existing = BY_KEY.get(key);
+        if (existing != null) {
+            return existing;
+        }
+        ErrorCode[] current = byId;
+        ErrorCode code = new ErrorCode(current.length, key);
+        ErrorCode[] next = Arrays.copyOf(current, current.length + 1);
+        next[code.id] = code;
+        byId = next;
+        BY_KEY.put(key, code);
+        return code;
+    }
+
+    /**
+     * Busca un código ya registrado.
+     *
+     * @param key clave del error
+     * @return el código, o {@code null} si la clave no está registrada
+     */
+    public static ErrorCode find(String key) {
+        return BY_KEY.get(key);
+    }
+
+    /**
+     * Obtiene un código por su identificador.
+     *
+     * @param id identificador asignado al registrar
+     * @return el código
+     * @throws IndexOutOfBoundsException si no existe un código con ese identificador
+     */
+    public static ErrorCode byId(int id) {
+        return byId[id];
+    }
+
+    /**
+     * @return cantidad de códigos registrados; los identificadores van de {@code 0} a {@code count() - 1}
+     */
+    public static int count() {
+        return byId.length;
+    }
+
+    /**
+     * @return identificador entero, asignado en orden de registro
+     */
+    public int id() {
+        return id;
+    }
+
+    /**
+     * @return clave textual del error
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * @return conjunto inmutable y compartido que contiene solo este código
+     */
+    public ErrorSet asSet() {
+        return singleton;
+    }
+
+    /**
+     * @return resultado inválido compartido que contiene solo este código
+     */
+    @SuppressWarnings("unchecked")
+    <T> ValidationResult<T> invalid() {
+        return (ValidationResult<T>) invalid;
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
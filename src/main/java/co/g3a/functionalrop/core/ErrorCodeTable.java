@@ -0,0 +1,104 @@
+package co.g3a.functionalrop.core;
+
+import java.util.Arrays;
+import java.util.ResourceBundle;
+
+/**
+ * Tabla inmutable {@link ErrorCode} → {@code V}, indexada por {@link ErrorCode#id()}.
+ * <p>
+ * La búsqueda es un acceso a arreglo, sin hashing ni {@code switch} sobre strings. Se usa para traducir códigos a
+ * errores de dominio (por ejemplo {@code AppError}) o a mensajes de un {@link ResourceBundle}.
+ *
+ * <pre>{@code
+ * static final ErrorCodeTable<AppError> ERRORES = ErrorCodeTable.<AppError>empty()
+ *         .with(EMPTY_EMAIL, new AppError.EmailBlank())
+ *         .with(SHORT_NAME, new AppError.NameTooShort());
+ * }</pre>
+ *
+ * @param <V> tipo de los valores asociados
+ */
+public final class ErrorCodeTable<V> {
+
+    private static final ErrorCodeTable<?> EMPTY = new ErrorCodeTable<>(new Object[0]);
+
+    private final Object[] values;
+
+    private ErrorCodeTable(Object[] values) {
+        this.values = values;
+    }
+
+    /**
+     * @param <V> tipo de los valores
+     * @return tabla vacía
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> ErrorCodeTable<V> empty() {
+        return (ErrorCodeTable<V>) EMPTY;
+    }
+
+    /**
+     * Crea una tabla de mensajes con las claves de los códigos registrados que existen en el bundle.
+     * Los códigos registrados después de crear la tabla no se incluyen.
+     *
+     * @param bundle bundle de mensajes, por ejemplo {@code errors_es}
+     * @return tabla código → mensaje
+     */
+    public static ErrorCodeTable<String> messages(ResourceBundle bundle) {
+        int count = ErrorCode.count();
+        Object[] values = new Object[count];
+        for (int id = 0; id < count; id++) {
+            String key = ErrorCode.byId(id).key();
+            if (bundle.containsKey(key)) {
+                values[id] = bundle.getString(key);
+            }
+        }
+        return new ErrorCodeTable<>(values);
+    }
+
+    /**
+     * @param code  código
+     * @param value valor asociado
+     * @return nueva tabla con la asociación agregada o reemplazada
+     */
+    public ErrorCodeTable<V> with(ErrorCode code, V value) {
+        Object[] next = Arrays.copyOf(values, Math.max(values.length, code.id() + 1));
+        next[code.id()] = value;
+        return new ErrorCodeTable<>(next);
+    }
+
+    /**
+     * @param code código
+     * @return el valor asociado, o {@code null} si no hay ninguno
+     */
+    @SuppressWarnings("unchecked")
+    public V get(ErrorCode code) {
+        int id = code.id();
+        return id < values.length ? (V) values[id] : null;
+    }
+
+    /**
+     * @param code         código
+     * @param defaultValue valor si el código no tiene asociación
+     * @return el valor asociado o {@code defaultValue}
+     */
+    public V getOrDefault(ErrorCode code, V defaultValue) {
+        V value = get(code);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * Traduce el primer error de una validación fallida.
+     *
+     * @param invalid resultado inválido
+     * @return el valor asociado al primer código
+     * @throws IllegalStateException si el código no está registrado o no tiene valor en la tabla
+     */
+    V resolve(ValidationResult<?> invalid) {
+        ErrorCode code = invalid.firstErrorCode();
+        V value = code != null ? get(code) : null;
+        if (value == null) {
+            throw new IllegalStateException("No mapping for error code: " + invalid.firstError());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,211 @@
+package co.g3a.functionalrop.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Conjunto inmutable de {@link ErrorCode}, representado como un bitset indexado por {@link ErrorCode#id()}.
+ * <p>
+ * Acumular errores es una operación de bits ({@link #with(ErrorCode)}, {@link #union(ErrorSet)}) en lugar de
+ * copiar listas de strings. La iteración sigue el orden de los identificadores, es decir, el orden de registro.
+ */
+public final class ErrorSet implements Iterable<ErrorCode> {
+
+    /**
+     * Conjunto vacío compartido.
+     */
+    public static final ErrorSet EMPTY = new ErrorSet(new long[0]);
+
+    private final long[] words;
+
+    private ErrorSet(long[] words) {
+        this.words = words;
+    }
+
+    static ErrorSet single(int id) {
+        long[] words = new long[(id >>> 6) + 1];
+        words[id >>> 6] = 1L << id;
+        return new ErrorSet(words);
+    }
+
+    /**
+     * @param code código
+     * @return conjunto compartido que contiene solo {@code code}
+     */
+    public static ErrorSet of(ErrorCode code) {
+        return code.asSet();
+    }
+
+    /**
+     * @param codes códigos
+     * @return conjunto con todos los códigos indicados
+     */
+    public static ErrorSet of(ErrorCode... codes) {
+        ErrorSet set = EMPTY;
+        for (ErrorCode code : codes) {
+            set = set.with(code);
+        }
+        return set;
+    }
+
+    /**
+     * @param code código a agregar
+     * @return este conjunto si ya contiene el código, o uno nuevo que lo incluye
+     */
+    public ErrorSet with(ErrorCode code) {
+        if (contains(code)) {
+            return this;
+        }
+        return union(code.asSet());
+    }
+
+    /**
+     * @param other otro conjunto
+     * @return la unión; retorna una de las instancias existentes si la otra no agrega códigos
+     */
+    public ErrorSet union(ErrorSet other) {
+        if (other.isSubsetOf(this)) {
+            return this;
+        }
+        if (this.isSubsetOf(other)) {
+            return other;
+        }
+        long[] longer = words.length >= other.words.length ? words : other.words;
+        long[] shorter = longer == words ? other.words : words;
+        long[] merged = longer.clone();
+        for (int i = 0; i < shorter.length; i++) {
+            merged[i] |= shorter[i];
+        }
+        return new ErrorSet(merged);
+    }
+
+    /**
+     * @param code código
+     * @return true si el código pertenece al conjunto
+     */
+    public boolean contains(ErrorCode code) {
+        int word = code.id() >>> 6;
+        return word < words.length && (words[word] & (1L << code.id())) != 0;
+    }
+
+    /**
+     * @return true si no contiene códigos
+     */
+    public boolean isEmpty() {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return cantidad de códigos
+     */
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    /**
+     * Un conjunto no recuerda el orden en que se agregaron los códigos; para el error de la primera regla que
+     * falló, usar {@link ValidationResult#firstErrorCode()}.
+     *
+     * @return el código con menor identificador
+     * @throws NoSuchElementException si el conjunto está vacío
+     */
+    public ErrorCode first() {
+        int id = nextId(0);
+        if (id < 0) {
+            throw new NoSuchElementException("ErrorSet is empty");
+        }
+        return ErrorCode.byId(id);
+    }
+
+    /**
+     * @return las claves de los códigos, en orden de identificador
+     */
+    public List<String> keys() {
+        List<String> keys = new ArrayList<>(size());
+        for (ErrorCode code : this) {
+            keys.add(code.key());
+        }
+        return Collections.unmodifiableList(keys);
+    }
+
+    @Override
+    public Iterator<ErrorCode> iterator() {
+        return new Iterator<>() {
+            private int next = nextId(0);
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0;
+            }
+
+            @Override
+            public ErrorCode next() {
+                if (next < 0) {
+                    throw new NoSuchElementException();
+                }
+                ErrorCode code = ErrorCode.byId(next);
+                next = nextId(next + 1);
+                return code;
+            }
+        };
+    }
+
+    private boolean isSubsetOf(ErrorSet other) {
+        for (int i = 0; i < words.length; i++) {
+            long theirs = i < other.words.length ? other.words[i] : 0L;
+            if ((words[i] & ~theirs) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int nextId(int from) {
+        int word = from >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        long bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word >= words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof ErrorSet other && isSubsetOf(other) && other.isSubsetOf(this);
+    }
+
+    @Override
+    public int hashCode() {
+        int length = words.length;
+        while (length > 0 && words[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.hashCode(Arrays.copyOf(words, length));
+    }
+
+    @Override
+    public String toString() {
+        return keys().toString();
+    }
+}
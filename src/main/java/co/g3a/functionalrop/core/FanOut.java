@@ -0,0 +1,339 @@
+package co.g3a.functionalrop.core;
+
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Fan-out en streaming con concurrencia acotada.
+ * <p>
+ * A diferencia de {@link ResultPipeline#runInParallelTyped}, no arranca todas las tareas a la vez ni retiene
+ * todos los resultados: como máximo {@code maxInFlight} entradas están en curso o esperando ser entregadas, y
+ * cada resultado se entrega en cuanto está listo. La memoria es constante sin importar el tamaño de la entrada,
+ * ya que el iterador se consume a medida que se liberan lugares.
+ * <ul>
+ *     <li>{@code forEach} / {@code publish}: entrega en orden de completación.</li>
+ *     <li>{@code forEachOrdered} / {@code publishOrdered}: entrega en orden de entrada; los resultados que llegan
+ *     antes de tiempo esperan en un buffer circular de {@code maxInFlight} posiciones.</li>
+ * </ul>
+ * El consumidor nunca se invoca de forma concurrente. Una tarea que lanza una excepción (o cuya etapa termina
+ * con excepción) detiene el fan-out: no se inician más tareas y la etapa o el {@link Flow.Subscriber} terminan
+ * con ese error.
+ *
+ * <pre>{@code
+ * FanOut.forEach(userIds, this::buscarNombreUsuario, 64,
+ *         (id, result) -> result.fold(err -> log(id, err), nombre -> save(id, nombre)));
+ * }</pre>
+ */
+public final class FanOut {
+
+    private FanOut() {
+    }
+
+    /**
+     * Resultado de una entrada, junto con su posición en la secuencia de entrada.
+     *
+     * @param index  posición de la entrada, desde 0
+     * @param input  entrada que originó la tarea
+     * @param result resultado de la tarea
+     */
+    public record Completion<I, O, E>(long index, I input, Result<O, E> result) {
+    }
+
+    /**
+     * Aplica {@code task} a cada entrada con como máximo {@code maxInFlight} tareas pendientes, y entrega cada
+     * resultado al consumidor en orden de completación.
+     *
+     * @param inputs      entradas; se recorren una sola vez y de forma perezosa
+     * @param task        tarea asíncrona por entrada
+     * @param maxInFlight cantidad máxima de tareas en curso o resultados sin entregar (mínimo 1)
+     * @param consumer    receptor de cada entrada con su resultado
+     * @return etapa que completa cuando se entregaron todos los resultados
+     */
+    public static <I, O, E> CompletionStage<Void> forEach(
+            Iterable<? extends I> inputs,
+            Function<? super I, ? extends CompletionStage<Result<O, E>>> task,
+            int maxInFlight,
+            BiConsumer<? super I, ? super Result<O, E>> consumer
+    ) {
+        return consume(publish(inputs, task, maxInFlight), consumer);
+    }
+
+    /**
+     * Igual que {@link #forEach}, pero entrega los resultados en el orden de las entradas.
+     */
+    public static <I, O, E> CompletionStage<Void> forEachOrdered(
+            Iterable<? extends I> inputs,
+            Function<? super I, ? extends CompletionStage<Result<O, E>>> task,
+            int maxInFlight,
+            BiConsumer<? super I, ? super Result<O, E>> consumer
+    ) {
+        return consume(publishOrdered(inputs, task, maxInFlight), consumer);
+    }
+
+    /**
+     * Publica los resultados en orden de completación, respetando la demanda del suscriptor.
+     * Cada suscripción recorre {@code inputs} desde el principio.
+     */
+    public static <I, O, E> Flow.Publisher<Completion<I, O, E>> publish(
+            Iterable<? extends I> inputs,
+            Function<? super I, ? extends CompletionStage<Result<O, E>>> task,
+            int maxInFlight
+    ) {
+        return publisher(inputs, task, maxInFlight, false);
+    }
+
+    /**
+     * Publica los resultados en el orden de las entradas, respetando la demanda del suscriptor.
+     * Cada suscripción recorre {@code inputs} desde el principio.
+     */
+    public static <I, O, E> Flow.Publisher<Completion<I, O, E>> publishOrdered(
+            Iterable<? extends I> inputs,
+            Function<? super I, ? extends CompletionStage<Result<O, E>>> task,
+            int maxInFlight
+    ) {
+        return publisher(inputs, task, maxInFlight, true);
+    }
+
+    private static <I, O, E> Flow.Publisher<Completion<I, O, E>> publisher(
+            Iterable<? extends I> inputs,
+            Function<? super I, ? extends CompletionStage<Result<O, E>>> task,
+            int maxInFlight,
+            boolean ordered
+    ) {
+        Objects.requireNonNull(inputs, "inputs");
+        Objects.requireNonNull(task, "task");
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be positive: " + maxInFlight);
+        }
+        return subscriber -> {
+            Subscription<I, O, E> subscription = new Subscription<>(inputs.iterator(), task, maxInFlight, ordered, subscriber);
+            subscriber.onSubscribe(subscription);
+            subscription.drain();
+        };
+    }
+
+    private static <I, O, E> CompletionStage<Void> consume(
+            Flow.Publisher<Completion<I, O, E>> publisher,
+            BiConsumer<? super I, ? super Result<O, E>> consumer
+    ) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        publisher.subscribe(new Flow.Subscriber<>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                done.whenComplete((v, ex) -> {
+                    if (done.isCancelled()) {
+                        subscription.cancel();
+                    }
+                });
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Completion<I, O, E> item) {
+                try {
+                    consumer.accept(item.input(), item.result());
+                } catch (Throwable ex) {
+                    subscription.cancel();
+                    done.completeExceptionally(ex);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * Estado de una suscripción. Toda la interacción con el iterador y el suscriptor ocurre dentro de
+     * {@link #drain()}, que se ejecuta en un solo hilo a la vez (contador {@code wip}); las tareas solo
+     * depositan su resultado y piden un nuevo drenado.
+     */
+    private static final class Subscription<I, O, E> implements Flow.Subscription {
+        private final Iterator<? extends I> inputs;
+        private final Function<? super I, ? extends CompletionStage<Result<O, E>>> task;
+        private final int maxInFlight;
+        private final Flow.Subscriber<? super Completion<I, O, E>> downstream;
+
+        /**
+         * Orden de completación: cola de resultados listos. Orden de entrada: buffer circular por índice.
+         */
+        private final Queue<Completion<I, O, E>> ready;
+        private final AtomicReferenceArray<Completion<I, O, E>> slots;
+
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicReference<Throwable> error = new AtomicReference<>();
+        private volatile boolean cancelled;
+
+        // Solo se acceden dentro de drain().
+        private long launched;
+        private long emitted;
+        private boolean exhausted;
+        private boolean terminated;
+
+        Subscription(Iterator<? extends I> inputs,
+                     Function<? super I, ? extends CompletionStage<Result<O, E>>> task,
+                     int maxInFlight,
+                     boolean ordered,
+                     Flow.Subscriber<? super Completion<I, O, E>> downstream) {
+            this.inputs = inputs;
+            this.task = task;
+            this.maxInFlight = maxInFlight;
+            this.downstream = downstream;
+            this.ready = ordered ? null : new ConcurrentLinkedQueue<>();
+            this.slots = ordered ? new AtomicReferenceArray<>(maxInFlight) : null;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error.compareAndSet(null, new IllegalArgumentException("request must be positive: " + n));
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> current + add < 0 ? Long.MAX_VALUE : current + add);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            int missed = 1;
+            do {
+                if (terminated) {
+                    return;
+                }
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                Throwable ex = error.get();
+                if (ex != null) {
+                    terminate();
+                    downstream.onError(ex);
+                    return;
+                }
+                emit();
+                if (cancelled) {
+                    continue;
+                }
+                launch();
+                if (exhausted && emitted == launched && error.get() == null) {
+                    terminate();
+                    downstream.onComplete();
+                    return;
+                }
+            } while ((missed = wip.addAndGet(-missed)) != 0);
+        }
+
+        private void emit() {
+            long demand = requested.get();
+            long sent = 0;
+            while (sent != demand && !cancelled) {
+                Completion<I, O, E> next = poll();
+                if (next == null) {
+                    break;
+                }
+                emitted++;
+                sent++;
+                downstream.onNext(next);
+            }
+            if (sent != 0 && demand != Long.MAX_VALUE) {
+                requested.addAndGet(-sent);
+            }
+        }
+
+        private void launch() {
+            while (!exhausted && launched - emitted < maxInFlight && error.get() == null && !cancelled) {
+                I input;
+                CompletionStage<Result<O, E>> stage;
+                long index = launched;
+                try {
+                    if (!inputs.hasNext()) {
+                        exhausted = true;
+                        return;
+                    }
+                    input = inputs.next();
+                    launched++;
+                    stage = task.apply(input);
+                } catch (Throwable ex) {
+                    error.compareAndSet(null, ex);
+                    wip.incrementAndGet();
+                    return;
+                }
+                if (stage == null) {
+                    error.compareAndSet(null, new NullPointerException("Task returned null for input " + index));
+                    wip.incrementAndGet();
+                    return;
+                }
+                stage.whenComplete((result, ex) -> complete(index, input, result, ex));
+            }
+        }
+
+        private void complete(long index, I input, Result<O, E> result, Throwable ex) {
+            if (ex != null || result == null) {
+                error.compareAndSet(null, ex != null ? ex : new NullPointerException("Task completed with null for input " + index));
+            } else {
+                Completion<I, O, E> completion = new Completion<>(index, input, result);
+                if (slots != null) {
+                    slots.set((int) (index % maxInFlight), completion);
+                } else {
+                    ready.offer(completion);
+                }
+            }
+            drain();
+        }
+
+        private Completion<I, O, E> poll() {
+            if (slots == null) {
+                return ready.poll();
+            }
+            int slot = (int) (emitted % maxInFlight);
+            Completion<I, O, E> next = slots.get(slot);
+            if (next != null) {
+                slots.set(slot, null);
+            }
+            return next;
+        }
+
+        private void terminate() {
+            terminated = true;
+            cancelled = true;
+            if (ready != null) {
+                ready.clear();
+            } else {
+                for (int i = 0; i < slots.length(); i++) {
+                    slots.set(i, null);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package co.g3a.functionalrop.core;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Temporizador de rueda con hash: un solo hilo daemon avanza una rueda de {@code wheelSize} casilleros, uno por tick,
+ * y ejecuta las tareas cuyo plazo venció. Programar y cancelar son O(1) y no toman locks, por lo que sirve para
+ * cientos de miles de plazos pendientes, casi todos cancelados antes de vencer (timeouts, reintentos, respaldos).
+ * <p>
+ * La precisión es de un tick: una tarea nunca corre antes de su plazo, pero puede correr hasta un tick después.
+ * Las tareas corren en el hilo del temporizador y deben ser breves; el trabajo pesado debe despacharse a otro
+ * executor. Cuando no hay plazos pendientes el hilo queda estacionado y no consume CPU.
+ * <p>
+ * Todos los operadores con tiempo de {@link ResultPipeline} y {@link DeadEnd} usan {@link #shared()};
+ * {@link #pendingTimers()} y {@link #tickLag()} permiten observarlo.
+ */
+public final class HashedWheelTimer {
+
+    /**
+     * Máximo de altas que el hilo traslada a la rueda por tick, para no postergar los vencimientos.
+     */
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final int mask;
+    private final Bucket[] wheel;
+    private final Queue<Timeout> added = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> cancelled = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pending = new AtomicLong();
+    private final long startNanos;
+    private final Thread worker;
+
+    private volatile boolean idle;
+    private volatile long tickLagNanos;
+
+    /**
+     * Tick que procesará el hilo; solo lo usa el hilo del temporizador.
+     */
+    private long tick;
+
+    HashedWheelTimer(Duration tickDuration, int wheelSize, String threadName) {
+        if (tickDuration.isNegative() || tickDuration.isZero()) {
+            throw new IllegalArgumentException("tickDuration must be positive: " + tickDuration);
+        }
+        if (wheelSize < 1 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("wheelSize must be between 1 and 2^30: " + wheelSize);
+        }
+        int size = Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickNanos = tickDuration.toNanos();
+        this.mask = Math.max(size, 1) - 1;
+        this.wheel = new Bucket[mask + 1];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.startNanos = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * @return temporizador compartido (tick de 1 ms, 512 casilleros), creado al primer uso
+     */
+    public static HashedWheelTimer shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Ejecuta {@code task} en el hilo del temporizador cuando pase {@code delay}.
+     *
+     * @param delay espera antes de ejecutar; cero o negativa ejecuta en el próximo tick
+     * @param task  tarea breve
+     * @return plazo programado, cancelable
+     */
+    public Timeout schedule(Duration delay, Runnable task) {
+        return schedule(saturatedNanos(delay), task);
+    }
+
+    Timeout schedule(long delayNanos, Runnable task) {
+        long now = System.nanoTime() - startNanos;
+        long deadline = delayNanos > 0 && now + delayNanos < 0 ? Long.MAX_VALUE : now + Math.max(0L, delayNanos);
+        Timeout timeout = new Timeout(this, deadline, task);
+        pending.incrementAndGet();
+        added.offer(timeout);
+        if (idle) {
+            LockSupport.unpark(worker);
+        }
+        return timeout;
+    }
+
+    /**
+     * @return plazos programados que todavía no vencieron ni se cancelaron
+     */
+    public long pendingTimers() {
+        return pending.get();
+    }
+
+    /**
+     * @return retraso con el que se procesó el último tick respecto de su hora prevista; si crece por encima de
+     * {@link #tickDuration()} el hilo está saturado, normalmente por tareas que no son breves
+     */
+    public Duration tickLag() {
+        return Duration.ofNanos(tickLagNanos);
+    }
+
+    /**
+     * @return duración de un tick, es decir, la precisión del temporizador
+     */
+    public Duration tickDuration() {
+        return Duration.ofNanos(tickNanos);
+    }
+
+    private void run() {
+        while (true) {
+            long tickEnd = (tick + 1) * tickNanos;
+            long now = System.nanoTime() - startNanos;
+            while (now < tickEnd) {
+                LockSupport.parkNanos(this, tickEnd - now);
+                now = System.nanoTime() - startNanos;
+            }
+            tickLagNanos = now - tickEnd;
+            removeCancelled();
+            transferAdded();
+            wheel[(int) (tick & mask)].expire(now);
+            tick++;
+            if (pending.get() == 0) {
+                awaitWork();
+            }
+        }
+    }
+
+    /**
+     * Estaciona el hilo hasta que se programe un plazo. {@code idle} se publica antes de releer {@code pending}
+     * y {@link #schedule(long, Runnable)} incrementa {@code pending} antes de leer {@code idle}, así que al menos
+     * uno de los dos ve al otro y no se pierde ningún despertar.
+     */
+    private void awaitWork() {
+        removeCancelled();
+        idle = true;
+        while (pending.get() == 0) {
+            LockSupport.park(this);
+        }
+        idle = false;
+        long current = (System.nanoTime() - startNanos) / tickNanos;
+        if (current > tick) {
+            tick = current;
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = cancelled.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    private void transferAdded() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = added.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.PENDING) {
+                continue;
+            }
+            long target = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.remainingRounds = (target - tick) / wheel.length;
+            wheel[(int) (target & mask)].add(timeout);
+        }
+    }
+
+    private void expired(Timeout timeout) {
+        if (!timeout.state.compareAndSet(Timeout.PENDING, Timeout.EXPIRED)) {
+            return;
+        }
+        pending.decrementAndGet();
+        try {
+            timeout.task.run();
+        } catch (Throwable ex) {
+            worker.getUncaughtExceptionHandler().uncaughtException(worker, ex);
+        }
+    }
+
+    private static long saturatedNanos(Duration duration) {
+        try {
+            return duration.toNanos();
+        } catch (ArithmeticException overflow) {
+            return duration.isNegative() ? 0L : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Plazo programado en un {@link HashedWheelTimer}.
+     */
+    public static final class Timeout {
+        private static final int PENDING = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+
+        private final HashedWheelTimer timer;
+        private final long deadline;
+        private final Runnable task;
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        // Solo los usa el hilo del temporizador.
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(HashedWheelTimer timer, long deadline, Runnable task) {
+            this.timer = timer;
+            this.deadline = deadline;
+            this.task = task;
+        }
+
+        /**
+         * Evita que la tarea se ejecute. El casillero se libera en el próximo tick.
+         *
+         * @return {@code true} si el plazo seguía pendiente
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(PENDING, CANCELLED)) {
+                return false;
+            }
+            timer.pending.decrementAndGet();
+            timer.cancelled.offer(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+    }
+
+    /**
+     * Lista doblemente enlazada de los plazos de un casillero; solo la usa el hilo del temporizador.
+     */
+    private final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            Timeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            } else {
+                head = next;
+            }
+            if (next != null) {
+                next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+
+        void expire(long now) {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.state.get() != Timeout.PENDING) {
+                    remove(timeout);
+                } else if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                    remove(timeout);
+                    expired(timeout);
+                } else if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+    }
+
+    private static final class Shared {
+        static final HashedWheelTimer INSTANCE = new HashedWheelTimer(Duration.ofMillis(1), 512, "rop-timer");
+    }
+}
@@ -0,0 +1,321 @@
+package co.g3a.functionalrop.core;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Política de peticiones de respaldo ("hedged requests") para operaciones idempotentes.
+ * <p>
+ * Si el intento original no terminó luego de un retraso, se lanza un duplicado, hasta {@code maxHedges} veces.
+ * Gana el primer éxito y los demás intentos se cancelan. Un fracaso solo se entrega cuando ya no queda ningún
+ * intento en curso; no se lanzan respaldos para reintentar errores.
+ * <p>
+ * El retraso puede ser fijo o un percentil de la latencia observada, estimado con un histograma logarítmico
+ * sin bloqueos. La instancia acumula contadores para exponerlos como métricas, por lo que conviene reutilizar
+ * una por dependencia.
+ *
+ * <pre>{@code
+ * static final HedgePolicy NOMBRES = HedgePolicy.percentile(0.95, 1, Duration.ofMillis(50));
+ *
+ * pipeline.flatMapAsyncHedged(this::buscarNombreUsuario, NOMBRES);
+ * metrics.gauge("nombres.hedge_rate", NOMBRES::hedgeRate);
+ * }</pre>
+ */
+public final class HedgePolicy {
+
+    /**
+     * Sub-buckets por potencia de dos en el histograma de latencias (error relativo ≤ 25%).
+     */
+    private static final int SUB_BUCKET_BITS = 2;
+    private static final int BUCKETS = 64 << SUB_BUCKET_BITS;
+
+    /**
+     * Cada cuántas muestras se recalcula el percentil y se reduce a la mitad el histograma, para que siga la
+     * latencia reciente.
+     */
+    private static final int RECOMPUTE_EVERY = 1024;
+
+    private final int maxHedges;
+    private final double percentile;
+    private final Executor executor;
+    private volatile long delayNanos;
+
+    private final AtomicLongArray histogram;
+    private final AtomicInteger samples = new AtomicInteger();
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+
+    private HedgePolicy(long delayNanos, int maxHedges, double percentile, Executor executor) {
+        if (maxHedges < 0) {
+            throw new IllegalArgumentException("maxHedges must not be negative: " + maxHedges);
+        }
+        this.delayNanos = Math.max(0L, delayNanos);
+        this.maxHedges = maxHedges;
+        this.percentile = percentile;
+        this.executor = executor;
+        this.histogram = percentile > 0 ? new AtomicLongArray(BUCKETS) : null;
+    }
+
+    /**
+     * Lanza un respaldo cada vez que pasa {@code delay} sin respuesta.
+     *
+     * @param delay     espera antes de cada respaldo
+     * @param maxHedges cantidad máxima de respaldos por llamada
+     * @return política con retraso fijo
+     */
+    public static HedgePolicy fixed(Duration delay, int maxHedges) {
+        return new HedgePolicy(delay.toNanos(), maxHedges, 0, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Lanza un respaldo cuando el intento supera el percentil {@code percentile} de la latencia observada.
+     *
+     * @param percentile   percentil en {@code (0, 1)}, por ejemplo {@code 0.95}
+     * @param maxHedges    cantidad máxima de respaldos por llamada
+     * @param initialDelay retraso usado hasta reunir suficientes muestras
+     * @return política con retraso adaptativo
+     */
+    public static HedgePolicy percentile(double percentile, int maxHedges, Duration initialDelay) {
+        if (!(percentile > 0 && percentile < 1)) {
+            throw new IllegalArgumentException("percentile must be in (0, 1): " + percentile);
+        }
+        return new HedgePolicy(initialDelay.toNanos(), maxHedges, percentile, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Los respaldos se lanzan en {@code executor} y no en el hilo del temporizador compartido; por defecto,
+     * {@link ForkJoinPool#commonPool()}. Conviene indicar uno propio si el intento bloquea.
+     *
+     * @param executor executor donde se lanzan los respaldos
+     * @return política equivalente, con contadores nuevos
+     */
+    public HedgePolicy withExecutor(Executor executor) {
+        return new HedgePolicy(delayNanos, maxHedges, percentile, executor);
+    }
+
+    /**
+     * @return retraso actual antes de lanzar un respaldo
+     */
+    public Duration delay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * @return cantidad máxima de respaldos por llamada
+     */
+    public int maxHedges() {
+        return maxHedges;
+    }
+
+    /**
+     * @return llamadas ejecutadas con esta política
+     */
+    public long calls() {
+        return calls.sum();
+    }
+
+    /**
+     * @return respaldos lanzados
+     */
+    public long hedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return llamadas cuyo éxito vino de un respaldo y no del intento original
+     */
+    public long hedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    /**
+     * @return respaldos lanzados por llamada
+     */
+    public double hedgeRate() {
+        long total = calls.sum();
+        return total == 0 ? 0.0 : (double) hedges.sum() / total;
+    }
+
+    /**
+     * @return fracción de respaldos que ganaron
+     */
+    public double winRate() {
+        long total = hedges.sum();
+        return total == 0 ? 0.0 : (double) hedgeWins.sum() / total;
+    }
+
+    /**
+     * Ejecuta la operación con respaldos según esta política.
+     *
+     * @param attempt lanza un intento; el original en el hilo que llama y cada respaldo en el executor de la política
+     */
+    <R, E> CompletionStage<Result<R, E>> execute(Supplier<? extends CompletionStage<Result<R, E>>> attempt) {
+        calls.increment();
+        return new Call<R, E>(attempt).start();
+    }
+
+    private void record(long latencyNanos) {
+        if (histogram == null) {
+            return;
+        }
+        histogram.incrementAndGet(bucket(latencyNanos));
+        if (samples.incrementAndGet() % RECOMPUTE_EVERY == 0) {
+            recompute();
+        }
+    }
+
+    private void recompute() {
+        long total = 0;
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = histogram.get(i);
+            total += counts[i];
+        }
+        long threshold = (long) Math.ceil(total * percentile);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= threshold) {
+                delayNanos = upperBound(i);
+                break;
+            }
+        }
+        for (int i = 0; i < BUCKETS; i++) {
+            long half = counts[i] >> 1;
+            histogram.addAndGet(i, -(counts[i] - half));
+        }
+    }
+
+    static int bucket(long nanos) {
+        if (nanos < (1L << SUB_BUCKET_BITS)) {
+            return (int) Math.max(0L, nanos);
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) (nanos >>> (exponent - SUB_BUCKET_BITS)) & ((1 << SUB_BUCKET_BITS) - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | sub;
+    }
+
+    static long upperBound(int bucket) {
+        if (bucket < (1 << SUB_BUCKET_BITS)) {
+            return bucket + 1L;
+        }
+        int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long sub = bucket & ((1 << SUB_BUCKET_BITS) - 1);
+        long base = ((1L << SUB_BUCKET_BITS) | sub) << (exponent - SUB_BUCKET_BITS);
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return base + width > 0 ? base + width : Long.MAX_VALUE;
+    }
+
+    /**
+     * Estado de una llamada: intentos lanzados, intentos en curso y el temporizador del próximo respaldo.
+     * Todo cambio de estado ocurre con el monitor tomado; las cancelaciones y la completación, fuera de él.
+     */
+    private final class Call<R, E> {
+        private final Supplier<? extends CompletionStage<Result<R, E>>> attempt;
+        private final CompletableFuture<Result<R, E>> outcome = new CompletableFuture<>();
+        private final CompletableFuture<?>[] attempts = new CompletableFuture<?>[maxHedges + 1];
+        private int launched;
+        private int running;
+        private boolean decided;
+        private Timeouts.Scheduled nextHedge;
+
+        Call(Supplier<? extends CompletionStage<Result<R, E>>> attempt) {
+            this.attempt = attempt;
+        }
+
+        CompletionStage<Result<R, E>> start() {
+            launch();
+            return outcome;
+        }
+
+        private void launch() {
+            int index;
+            synchronized (this) {
+                if (decided || launched == attempts.length) {
+                    return;
+                }
+                index = launched++;
+                running++;
+                if (index > 0) {
+                    hedges.increment();
+                }
+                if (launched < attempts.length) {
+                    nextHedge = Timeouts.schedule(delayNanos, this::launchLater);
+                }
+            }
+            long startNanos = System.nanoTime();
+            CompletableFuture<Result<R, E>> future;
+            try {
+                future = attempt.get().toCompletableFuture();
+            } catch (Throwable ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+            boolean late;
+            synchronized (this) {
+                attempts[index] = future;
+                late = decided;
+            }
+            if (late) {
+                future.cancel(true);
+                return;
+            }
+            future.whenComplete((result, ex) -> onComplete(index, startNanos, result, ex));
+        }
+
+        /**
+         * Tarea del temporizador: solo despacha el respaldo al executor. Si el executor lo rechaza, la llamada
+         * sigue con los intentos en curso.
+         */
+        private void launchLater() {
+            try {
+                executor.execute(this::launch);
+            } catch (RejectedExecutionException ignored) {
+                // sin respaldo; el intento original sigue en curso
+            }
+        }
+
+        private void onComplete(int index, long startNanos, Result<R, E> result, Throwable ex) {
+            boolean won = ex == null && result != null && result.isSuccess();
+            CompletableFuture<?>[] losers;
+            synchronized (this) {
+                running--;
+                if (decided || (!won && running > 0)) {
+                    return;
+                }
+                decided = true;
+                if (nextHedge != null) {
+                    nextHedge.cancel();
+                    nextHedge = null;
+                }
+                losers = attempts.clone();
+                losers[index] = null;
+            }
+            for (CompletableFuture<?> loser : losers) {
+                if (loser != null) {
+                    loser.cancel(true);
+                }
+            }
+            if (won) {
+                record(System.nanoTime() - startNanos);
+                if (index > 0) {
+                    hedgeWins.increment();
+                }
+                outcome.complete(result);
+            } else if (ex != null) {
+                outcome.completeExceptionally(ex);
+            } else {
+                outcome.complete(result);
+            }
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package co.g3a.functionalrop.core;
+
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.IntToLongFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Especialización de {@link Result} para valores {@code int}: el valor exitoso se guarda sin boxing,
+ * de modo que las cadenas numéricas (conteos, puntajes, sumas) no asignan un {@code Integer} en cada paso.
+ * <p>
+ * Los puentes {@code mapToObj}, {@code mapToLong}, {@code mapToDouble} y {@link #boxed()} permiten entrar y salir de
+ * {@link Result} cuando el flujo lo requiera.
+ *
+ * @param <E> tipo del error
+ */
+public sealed interface IntResult<E> permits IntResult.Success, IntResult.Failure {
+
+    /**
+     * @return true si el resultado es exitoso
+     */
+    boolean isSuccess();
+
+    /**
+     * Obtiene el valor exitoso sin boxing.
+     *
+     * @throws UnsupportedOperationException si es un fracaso
+     */
+    int getAsInt();
+
+    /**
+     * Obtiene el error.
+     *
+     * @throws UnsupportedOperationException si es un éxito
+     */
+    E getError();
+
+    // 🟢 Factories
+
+    /**
+     * Crea un resultado exitoso.
+     *
+     * @param value valor de éxito
+     * @param <E>   tipo del error (no usado aquí)
+     * @return instancia de Success
+     */
+    static <E> IntResult<E> success(int value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Crea un resultado fallido.
+     *
+     * @param error error ocurrido
+     * @param <E>   tipo del error
+     * @return instancia de Failure
+     */
+    static <E> IntResult<E> failure(E error) {
+        return new Failure<>(error);
+    }
+
+    // 🧠 Transformaciones sin boxing
+
+    /**
+     * Aplica una función al valor exitoso, si existe.
+     *
+     * @param mapper función {@code int -> int}
+     * @return nuevo resultado (éxito o el mismo fracaso)
+     */
+    default IntResult<E> map(IntUnaryOperator mapper) {
+        return isSuccess() ? success(mapper.applyAsInt(getAsInt())) : this;
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code long}, sin boxing.
+     *
+     * @param mapper función {@code int -> long}
+     * @return resultado {@code long} con el valor transformado o el error original
+     */
+    default LongResult<E> mapToLong(IntToLongFunction mapper) {
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(getAsInt())) : LongResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code double}, sin boxing.
+     *
+     * @param mapper función {@code int -> double}
+     * @return resultado {@code double} con el valor transformado o el error original
+     */
+    default DoubleResult<E> mapToDouble(IntToDoubleFunction mapper) {
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(getAsInt())) : DoubleResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso en un objeto, pasando a un {@link Result} genérico.
+     *
+     * @param mapper función {@code int -> U}
+     * @param <U>    tipo del nuevo valor
+     * @return resultado genérico con el valor transformado o el error original
+     */
+    default <U> Result<U, E> mapToObj(IntFunction<? extends U> mapper) {
+        return isSuccess() ? Result.success(mapper.apply(getAsInt())) : Result.failure(getError());
+    }
+
+    /**
+     * Encadena otra operación que retorna un {@code IntResult}.
+     *
+     * @param mapper función {@code int -> IntResult<E>}
+     * @return resultado encadenado (éxito o propagación del fracaso)
+     */
+    default IntResult<E> flatMap(IntFunction<IntResult<E>> mapper) {
+        return isSuccess() ? mapper.apply(getAsInt()) : this;
+    }
+
+    /**
+     * Filtra el valor exitoso por una condición. Si no se cumple, convierte en error.
+     *
+     * @param predicate condición a verificar
+     * @param error     valor de error si no se cumple la condición
+     * @return el mismo resultado o un fracaso con {@code error}
+     */
+    default IntResult<E> filter(IntPredicate predicate, E error) {
+        return isSuccess() && !predicate.test(getAsInt()) ? failure(error) : this;
+    }
+
+    /**
+     * Transforma el error, sin afectar el valor en caso de éxito.
+     *
+     * @param mapper función {@code E -> U}
+     * @param <U>    nuevo tipo del error
+     * @return el mismo éxito o un fracaso con el error transformado
+     */
+    @SuppressWarnings("unchecked")
+    default <U> IntResult<U> mapFailure(Function<E, U> mapper) {
+        return isSuccess() ? (IntResult<U>) (IntResult<?>) this : failure(mapper.apply(getError()));
+    }
+
+    /**
+     * Combina ambos caminos (éxito/fracaso) en un solo valor final.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @param <U>       tipo del resultado final
+     * @return valor final U
+     */
+    default <U> U fold(Function<E, U> onError, IntFunction<U> onSuccess) {
+        return isSuccess() ? onSuccess.apply(getAsInt()) : onError.apply(getError());
+    }
+
+    /**
+     * Combina ambos caminos en un {@code int}, sin boxing.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @return valor final
+     */
+    default int foldToInt(ToIntFunction<E> onError, IntUnaryOperator onSuccess) {
+        return isSuccess() ? onSuccess.applyAsInt(getAsInt()) : onError.applyAsInt(getError());
+    }
+
+    /**
+     * @param other valor alternativo si es un fracaso
+     * @return el valor exitoso o {@code other}
+     */
+    default int orElse(int other) {
+        return isSuccess() ? getAsInt() : other;
+    }
+
+    /**
+     * Convierte este resultado en un {@link Result} genérico con el valor en su forma boxed.
+     *
+     * @return resultado genérico equivalente
+     */
+    default Result<Integer, E> boxed() {
+        return isSuccess() ? Result.success(getAsInt()) : Result.failure(getError());
+    }
+
+    /**
+     * Resultado exitoso (contiene el valor).
+     *
+     * @param value valor {@code int}
+     * @param <E>   tipo del error (no usado)
+     */
+    record Success<E>(int value) implements IntResult<E> {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public int getAsInt() {
+            return value;
+        }
+
+        @Override
+        public E getError() {
+            throw new UnsupportedOperationException("Success has no error");
+        }
+    }
+
+    /**
+     * Resultado fallido (contiene el error).
+     *
+     * @param error error de tipo E
+     * @param <E>   tipo del error
+     */
+    record Failure<E>(E error) implements IntResult<E> {
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public int getAsInt() {
+            throw new UnsupportedOperationException("Failure has no value");
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package co.g3a.functionalrop.core;
+
+import java.util.function.Function;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongToDoubleFunction;
+import java.util.function.LongToIntFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.ToLongFunction;
+
+/**
+ * Especialización de {@link Result} para valores {@code long}: el valor exitoso se guarda sin boxing,
+ * de modo que las cadenas numéricas (conteos, puntajes, sumas) no asignan un {@code Long} en cada paso.
+ * <p>
+ * Los puentes {@code mapToObj}, {@code mapToInt}, {@code mapToDouble} y {@link #boxed()} permiten entrar y salir de
+ * {@link Result} cuando el flujo lo requiera.
+ *
+ * @param <E> tipo del error
+ */
+public sealed interface LongResult<E> permits LongResult.Success, LongResult.Failure {
+
+    /**
+     * @return true si el resultado es exitoso
+     */
+    boolean isSuccess();
+
+    /**
+     * Obtiene el valor exitoso sin boxing.
+     *
+     * @throws UnsupportedOperationException si es un fracaso
+     */
+    long getAsLong();
+
+    /**
+     * Obtiene el error.
+     *
+     * @throws UnsupportedOperationException si es un éxito
+     */
+    E getError();
+
+    // 🟢 Factories
+
+    /**
+     * Crea un resultado exitoso.
+     *
+     * @param value valor de éxito
+     * @param <E>   tipo del error (no usado aquí)
+     * @return instancia de Success
+     */
+    static <E> LongResult<E> success(long value) {
+        return new Success<>(value);
+    }
+
+    /**
+     * Crea un resultado fallido.
+     *
+     * @param error error ocurrido
+     * @param <E>   tipo del error
+     * @return instancia de Failure
+     */
+    static <E> LongResult<E> failure(E error) {
+        return new Failure<>(error);
+    }
+
+    // 🧠 Transformaciones sin boxing
+
+    /**
+     * Aplica una función al valor exitoso, si existe.
+     *
+     * @param mapper función {@code long -> long}
+     * @return nuevo resultado (éxito o el mismo fracaso)
+     */
+    default LongResult<E> map(LongUnaryOperator mapper) {
+        return isSuccess() ? success(mapper.applyAsLong(getAsLong())) : this;
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code int}, sin boxing.
+     *
+     * @param mapper función {@code long -> int}
+     * @return resultado {@code int} con el valor transformado o el error original
+     */
+    default IntResult<E> mapToInt(LongToIntFunction mapper) {
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(getAsLong())) : IntResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code double}, sin boxing.
+     *
+     * @param mapper función {@code long -> double}
+     * @return resultado {@code double} con el valor transformado o el error original
+     */
+    default DoubleResult<E> mapToDouble(LongToDoubleFunction mapper) {
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(getAsLong())) : DoubleResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso en un objeto, pasando a un {@link Result} genérico.
+     *
+     * @param mapper función {@code long -> U}
+     * @param <U>    tipo del nuevo valor
+     * @return resultado genérico con el valor transformado o el error original
+     */
+    default <U> Result<U, E> mapToObj(LongFunction<? extends U> mapper) {
+        return isSuccess() ? Result.success(mapper.apply(getAsLong())) : Result.failure(getError());
+    }
+
+    /**
+     * Encadena otra operación que retorna un {@code LongResult}.
+     *
+     * @param mapper función {@code long -> LongResult<E>}
+     * @return resultado encadenado (éxito o propagación del fracaso)
+     */
+    default LongResult<E> flatMap(LongFunction<LongResult<E>> mapper) {
+        return isSuccess() ? mapper.apply(getAsLong()) : this;
+    }
+
+    /**
+     * Filtra el valor exitoso por una condición. Si no se cumple, convierte en error.
+     *
+     * @param predicate condición a verificar
+     * @param error     valor de error si no se cumple la condición
+     * @return el mismo resultado o un fracaso con {@code error}
+     */
+    default LongResult<E> filter(LongPredicate predicate, E error) {
+        return isSuccess() && !predicate.test(getAsLong()) ? failure(error) : this;
+    }
+
+    /**
+     * Transforma el error, sin afectar el valor en caso de éxito.
+     *
+     * @param mapper función {@code E -> U}
+     * @param <U>    nuevo tipo del error
+     * @return el mismo éxito o un fracaso con el error transformado
+     */
+    @SuppressWarnings("unchecked")
+    default <U> LongResult<U> mapFailure(Function<E, U> mapper) {
+        return isSuccess() ? (LongResult<U>) (LongResult<?>) this : failure(mapper.apply(getError()));
+    }
+
+    /**
+     * Combina ambos caminos (éxito/fracaso) en un solo valor final.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @param <U>       tipo del resultado final
+     * @return valor final U
+     */
+    default <U> U fold(Function<E, U> onError, LongFunction<U> onSuccess) {
+        return isSuccess() ? onSuccess.apply(getAsLong()) : onError.apply(getError());
+    }
+
+    /**
+     * Combina ambos caminos en un {@code long}, sin boxing.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @return valor final
+     */
+    default long foldToLong(ToLongFunction<E> onError, LongUnaryOperator onSuccess) {
+        return isSuccess() ? onSuccess.applyAsLong(getAsLong()) : onError.applyAsLong(getError());
+    }
+
+    /**
+     * @param other valor alternativo si es un fracaso
+     * @return el valor exitoso o {@code other}
+     */
+    default long orElse(long other) {
+        return isSuccess() ? getAsLong() : other;
+    }
+
+    /**
+     * Convierte este resultado en un {@link Result} genérico con el valor en su forma boxed.
+     *
+     * @return resultado genérico equivalente
+     */
+    default Result<Long, E> boxed() {
+        return isSuccess() ? Result.success(getAsLong()) : Result.failure(getError());
+    }
+
+    /**
+     * Resultado exitoso (contiene el valor).
+     *
+     * @param value valor {@code long}
+     * @param <E>   tipo del error (no usado)
+     */
+    record Success<E>(long value) implements LongResult<E> {
+        @Override
+        public boolean isSuccess() {
+            return true;
+        }
+
+        @Override
+        public long getAsLong() {
+            return value;
+        }
+
+        @Override
+        public E getError() {
+            throw new UnsupportedOperationException("Success has no error");
+        }
+    }
+
+    /**
+     * Resultado fallido (contiene el error).
+     *
+     * @param error error de tipo E
+     * @param <E>   tipo del error
+     */
+    record Failure<E>(E error) implements LongResult<E> {
+        @Override
+        public boolean isSuccess() {
+            return false;
+        }
+
+        @Override
+        public long getAsLong() {
+            throw new UnsupportedOperationException("Failure has no value");
+        }
+
+        @Override
+        public E getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package co.g3a.functionalrop.core;
+
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Variante mutable de {@link SyncResultPipeline} para lazos de alto volumen.
+ * <p>
+ * Guarda el valor o el error actual en campos y los actualiza en el lugar: los operadores retornan la misma
+ * instancia y no crean wrappers ni {@link Result} intermedios. Solo {@link #build()} crea el {@link Result} final,
+ * y {@link #reset(Object)} permite reutilizar la misma instancia para el siguiente registro.
+ * <p>
+ * <b>No es segura para uso concurrente</b>: está pensada para un solo hilo, por ejemplo un lote que procesa
+ * millones de registros con la misma cadena de validación y transformación.
+ *
+ * <pre>{@code
+ * MutableResultPipeline<Object, AppError> pipeline = SyncResultPipeline.mutable(null);
+ * for (Request request : lote) {
+ *     Result<Request, AppError> result = pipeline.reset(request)
+ *             .validate(this::validateRequest, this::mapValidationToAppError)
+ *             .map(this::canonicalizeEmail)
+ *             .build();
+ * }
+ * }</pre>
+ *
+ * @param <T> tipo del valor exitoso actual
+ * @param <E> tipo del error
+ */
+public final class MutableResultPipeline<T, E> {
+
+    private Object value;
+    private E error;
+    private boolean failed;
+
+    MutableResultPipeline(T value) {
+        this.value = value;
+    }
+
+    /**
+     * Reinicia la pipeline con un nuevo valor exitoso, descartando el estado anterior.
+     *
+     * @param value nuevo valor inicial
+     * @param <V>   tipo del nuevo valor
+     * @return esta misma instancia
+     */
+    public <V> MutableResultPipeline<V, E> reset(V value) {
+        this.value = value;
+        this.error = null;
+        this.failed = false;
+        return self();
+    }
+
+    /**
+     * Aplica una transformación síncrona al valor exitoso.
+     */
+    @SuppressWarnings("unchecked")
+    public <U> MutableResultPipeline<U, E> map(Function<T, U> mapper) {
+        if (!failed) {
+            value = mapper.apply((T) value);
+        }
+        return self();
+    }
+
+    /**
+     * Encadena una transformación que retorna otro Result.
+     */
+    @SuppressWarnings("unchecked")
+    public <U> MutableResultPipeline<U, E> flatMap(Function<T, Result<U, E>> mapper) {
+        if (!failed) {
+            Result<U, E> next = mapper.apply((T) value);
+            if (next.isSuccess()) {
+                value = next.getValue();
+            } else {
+                fail(next.getError());
+            }
+        }
+        return self();
+    }
+
+    /**
+     * Ejecuta un efecto colateral si el resultado es exitoso.
+     */
+    @SuppressWarnings("unchecked")
+    public MutableResultPipeline<T, E> peek(Consumer<T> action) {
+        if (!failed) {
+            action.accept((T) value);
+        }
+        return this;
+    }
+
+    /**
+     * Ejecuta una validación, convirtiendo a error si no pasa.
+     */
+    @SuppressWarnings("unchecked")
+    public MutableResultPipeline<T, E> validate(Function<T, ValidationResult<T>> validator, Function<String, E> errorMapper) {
+        if (!failed) {
+            ValidationResult<T> validation = validator.apply((T) value);
+            if (validation.isValid()) {
+                value = validation.getValue();
+            } else {
+                fail(errorMapper.apply(validation.firstError()));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Ejecuta una validación basada en {@link ErrorCode}, traduciendo el primer código con la tabla.
+     */
+    @SuppressWarnings("unchecked")
+    public MutableResultPipeline<T, E> validate(Function<T, ValidationResult<T>> validator, ErrorCodeTable<E> errors) {
+        if (!failed) {
+            ValidationResult<T> validation = validator.apply((T) value);
+            if (validation.isValid()) {
+                value = validation.getValue();
+            } else {
+                fail(errors.resolve(validation));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Filtra el valor exitoso según un predicado. Si no se cumple, se convierte en error.
+     */
+    @SuppressWarnings("unchecked")
+    public MutableResultPipeline<T, E> filter(Predicate<T> predicate, E error) {
+        if (!failed && !predicate.test((T) value)) {
+            fail(error);
+        }
+        return this;
+    }
+
+    /**
+     * Ejecuta una acción si el resultado es exitoso.
+     */
+    public MutableResultPipeline<T, E> onSuccess(Consumer<T> action) {
+        return peek(action);
+    }
+
+    /**
+     * Ejecuta una acción si el resultado es un error.
+     */
+    public MutableResultPipeline<T, E> onFailure(Consumer<E> errorConsumer) {
+        if (failed) {
+            errorConsumer.accept(error);
+        }
+        return this;
+    }
+
+    /**
+     * Permite recuperar el valor si hubo error.
+     */
+    public MutableResultPipeline<T, E> recover(Function<E, T> fallbackFunction) {
+        if (failed) {
+            value = fallbackFunction.apply(error);
+            error = null;
+            failed = false;
+        }
+        return this;
+    }
+
+    /**
+     * @return true si el estado actual es exitoso
+     */
+    public boolean isSuccess() {
+        return !failed;
+    }
+
+    /**
+     * Combina el estado actual en un solo valor, sin crear un {@link Result}.
+     *
+     * @param onError   función para manejar el error
+     * @param onSuccess función para manejar el valor exitoso
+     * @param <U>       tipo del resultado final
+     * @return valor final U
+     */
+    @SuppressWarnings("unchecked")
+    public <U> U fold(Function<E, U> onError, Function<T, U> onSuccess) {
+        return failed ? onError.apply(error) : onSuccess.apply((T) value);
+    }
+
+    /**
+     * Finaliza la pipeline y crea el único {@link Result} de la ejecución.
+     */
+    @SuppressWarnings("unchecked")
+    public Result<T, E> build() {
+        return failed ? Result.failure(error) : Result.success((T) value);
+    }
+
+    private void fail(E error) {
+        this.value = null;
+        this.error = error;
+        this.failed = true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> MutableResultPipeline<U, E> self() {
+        return (MutableResultPipeline<U, E>) this;
+    }
+}
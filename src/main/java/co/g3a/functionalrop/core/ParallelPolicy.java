@@ -0,0 +1,19 @@
+package co.g3a.functionalrop.core;
+
+/**
+ * Política de un fan-out estructurado ante el primer fallo de una tarea.
+ *
+ * @see ResultPipeline#runInParallelStructured
+ */
+public enum ParallelPolicy {
+
+    /**
+     * Cancela (interrumpe) las tareas hermanas en cuanto una falla y completa con ese único error.
+     */
+    FAIL_FAST,
+
+    /**
+     * Espera a todas las tareas y combina todos los errores con el {@code errorCombiner}.
+     */
+    COLLECT_ALL
+}
@@ -0,0 +1,320 @@
+package co.g3a.functionalrop.core;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Definición inmutable y reutilizable de una pipeline {@code In -> Result<Out, E>}.
+ * <p>
+ * Usa el mismo vocabulario de operadores que {@link ResultPipeline}, pero en lugar de ejecutar sobre un valor
+ * concreto, cada operador agrega una etapa a un arreglo de etapas. La definición se construye una sola vez
+ * (por ejemplo, como campo {@code final}) y se ejecuta muchas veces con {@link #run(Object)}, sin volver a
+ * capturar lambdas ni crear objetos de pipeline por cada petición.
+ * <p>
+ * Es segura para uso concurrente: el arreglo de etapas nunca se modifica después de construido.
+ * Al igual que {@link ResultPipeline}, la ejecución se mantiene síncrona mientras las etapas asíncronas
+ * retornen futuros ya completados.
+ *
+ * <pre>{@code
+ * Pipeline<Request, String, AppError> registro = Pipeline.<Request, AppError>define()
+ *         .validate(this::validateRequest, this::mapValidationToAppError)
+ *         .map(this::canonicalizeEmail)
+ *         .flatMapAsync(this::updateDb)
+ *         .map(r -> "Success");
+ *
+ * CompletionStage<Result<String, AppError>> result = registro.run(request);
+ * }</pre>
+ *
+ * @param <In>  tipo de la entrada
+ * @param <Out> tipo del valor exitoso final
+ * @param <E>   tipo del error
+ */
+public final class Pipeline<In, Out, E> {
+
+    private static final Stage[] NO_STAGES = new Stage[0];
+
+    private final Stage[] stages;
+
+    private Pipeline(Stage[] stages) {
+        this.stages = stages;
+    }
+
+    /**
+     * Inicia la definición de una pipeline vacía (identidad).
+     *
+     * @param <In> tipo de la entrada
+     * @param <E>  tipo del error
+     * @return definición sin etapas
+     */
+    public static <In, E> Pipeline<In, In, E> define() {
+        return new Pipeline<>(NO_STAGES);
+    }
+
+    /**
+     * Agrega una validación; si falla, la pipeline pasa a {@code Result.failure}.
+     *
+     * @param validator   función de validación que retorna un {@link ValidationResult}
+     * @param errorMapper conversor del primer mensaje de error al tipo {@code E}
+     * @return nueva definición con la etapa agregada
+     */
+    public Pipeline<In, Out, E> validate(Function<Out, ValidationResult<Out>> validator, Function<String, E> errorMapper) {
+        Function<ValidationResult<?>, E> failure = validation -> errorMapper.apply(validation.firstError());
+        return append(new Stage(Kind.VALIDATE, validator, failure));
+    }
+
+    /**
+     * Agrega una validación basada en {@link ErrorCode}; el primer código se traduce con la tabla.
+     *
+     * @param validator función de validación que retorna un {@link ValidationResult}
+     * @param errors    tabla código → error del tipo {@code E}; debe cubrir todos los códigos posibles
+     * @return nueva definición con la etapa agregada
+     */
+    public Pipeline<In, Out, E> validate(Function<Out, ValidationResult<Out>> validator, ErrorCodeTable<E> errors) {
+        Function<ValidationResult<?>, E> failure = errors::resolve;
+        return append(new Stage(Kind.VALIDATE, validator, failure));
+    }
+
+    /**
+     * Agrega una transformación síncrona del valor exitoso.
+     *
+     * @param mapper función {@code Out -> U}
+     * @param <U>    nuevo tipo del valor
+     * @return nueva definición con la etapa agregada
+     */
+    public <U> Pipeline<In, U, E> map(Function<Out, U> mapper) {
+        return append(new Stage(Kind.MAP, mapper, null));
+    }
+
+    /**
+     * Agrega una operación síncrona que retorna otro {@link Result}.
+     *
+     * @param mapper función {@code Out -> Result<U, E>}
+     * @param <U>    nuevo tipo del valor
+     * @return nueva definición con la etapa agregada
+     */
+    public <U> Pipeline<In, U, E> flatMap(Function<Out, Result<U, E>> mapper) {
+        return append(new Stage(Kind.FLAT_MAP, mapper, null));
+    }
+
+    /**
+     * Agrega una operación asíncrona que retorna otro {@link Result}.
+     *
+     * @param mapper función {@code Out -> CompletionStage<Result<U, E>>}
+     * @param <U>    nuevo tipo del valor
+     * @return nueva definición con la etapa agregada
+     */
+    public <U> Pipeline<In, U, E> flatMapAsync(Function<Out, CompletionStage<Result<U, E>>> mapper) {
+        return append(new Stage(Kind.FLAT_MAP_ASYNC, mapper, null));
+    }
+
+    /**
+     * Agrega un efecto colateral síncrono sobre el valor exitoso.
+     *
+     * @param action consumidor a ejecutar si el resultado es exitoso
+     * @return nueva definición con la etapa agregada
+     */
+    public Pipeline<In, Out, E> peek(Consumer<Out> action) {
+        return append(new Stage(Kind.PEEK, action, null));
+    }
+
+    /**
+     * Agrega un efecto colateral asíncrono sobre el valor exitoso.
+     *
+     * @param asyncAction función asíncrona a ejecutar si el resultado es exitoso
+     * @return nueva definición con la etapa agregada
+     */
+    public Pipeline<In, Out, E> peekAsync(Function<Out, CompletionStage<Void>> asyncAction) {
+        return append(new Stage(Kind.PEEK_ASYNC, asyncAction, null));
+    }
+
+    /**
+     * Agrega un filtro sobre el valor exitoso. Si no se cumple, convierte en error.
+     *
+     * @param predicate condición a verificar
+     * @param error     valor de error si no se cumple la condición
+     * @return nueva definición con la etapa agregada
+     */
+    public Pipeline<In, Out, E> filter(Predicate<Out> predicate, E error) {
+        return append(new Stage(Kind.FILTER, predicate, Result.failure(error)));
+    }
+
+    /**
+     * Agrega una recuperación del error a un valor "fallback".
+     *
+     * @param recoverFunction función que convierte el error en un valor
+     * @return nueva definición con la etapa agregada
+     */
+    public Pipeline<In, Out, E> recover(Function<E, Out> recoverFunction) {
+        return append(new Stage(Kind.RECOVER, recoverFunction, null));
+    }
+
+    /**
+     * Agrega una acción a ejecutar si el resultado es exitoso.
+     */
+    public Pipeline<In, Out, E> onSuccess(Consumer<Out> action) {
+        return peek(action);
+    }
+
+    /**
+     * Agrega una acción a ejecutar si el resultado es un error.
+     */
+    public Pipeline<In, Out, E> onFailure(Consumer<E> errorConsumer) {
+        return append(new Stage(Kind.ON_FAILURE, errorConsumer, null));
+    }
+
+    /**
+     * @return true si ninguna etapa es asíncrona, es decir, si se puede usar {@link #runSync(Object)}
+     */
+    public boolean isSynchronous() {
+        for (Stage stage : stages) {
+            if (stage.kind.async) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Ejecuta la pipeline con una entrada.
+     * <p>
+     * Las excepciones lanzadas por las etapas completan la etapa retornada de forma excepcional,
+     * igual que en {@link ResultPipeline}.
+     *
+     * @param input valor inicial
+     * @return etapa asíncrona con el {@link Result} final
+     */
+    public CompletionStage<Result<Out, E>> run(In input) {
+        return resume(Result.success(input), 0);
+    }
+
+    /**
+     * Ejecuta una pipeline completamente síncrona, con la misma semántica que {@link SyncResultPipeline}:
+     * las excepciones de las etapas se propagan directamente al llamador.
+     *
+     * @param input valor inicial
+     * @return {@link Result} final
+     * @throws IllegalStateException si la definición contiene etapas asíncronas
+     */
+    @SuppressWarnings("unchecked")
+    public Result<Out, E> runSync(In input) {
+        Result<Object, Object> res = Result.success(input);
+        for (Stage stage : stages) {
+            if (stage.kind.async) {
+                throw new IllegalStateException("Pipeline contains async stage: " + stage.kind);
+            }
+            res = stage.apply(res);
+        }
+        return (Result<Out, E>) (Result<?, ?>) res;
+    }
+
+    /**
+     * @return copia de las etapas, en orden, para compiladores e inspección
+     */
+    Stage[] stages() {
+        return stages.clone();
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<Result<Out, E>> resume(Result<?, ?> start, int from) {
+        Result<Object, Object> res = (Result<Object, Object>) start;
+        try {
+            for (int i = from; i < stages.length; i++) {
+                Stage stage = stages[i];
+                if (!stage.kind.async) {
+                    res = stage.apply(res);
+                    continue;
+                }
+                CompletionStage<Result<Object, Object>> next = stage.applyAsync(res);
+                Result<Object, Object> completed = ResultPipeline.completedValue(next);
+                if (completed != null) {
+                    res = completed;
+                    continue;
+                }
+                int resumeAt = i + 1;
+                return next.thenCompose(r -> resume(r, resumeAt));
+            }
+        } catch (Throwable ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+        return CompletableFuture.completedFuture((Result<Out, E>) (Result<?, ?>) res);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <U> Pipeline<In, U, E> append(Stage stage) {
+        Stage[] next = Arrays.copyOf(stages, stages.length + 1);
+        next[stages.length] = stage;
+        return (Pipeline<In, U, E>) new Pipeline<In, Object, E>(next);
+    }
+
+    /**
+     * Tipo de etapa. Las etapas asíncronas son las únicas que pueden suspender la ejecución.
+     */
+    enum Kind {
+        VALIDATE(false),
+        MAP(false),
+        FLAT_MAP(false),
+        PEEK(false),
+        FILTER(false),
+        RECOVER(false),
+        ON_FAILURE(false),
+        FLAT_MAP_ASYNC(true),
+        PEEK_ASYNC(true);
+
+        final boolean async;
+
+        Kind(boolean async) {
+            this.async = async;
+        }
+    }
+
+    /**
+     * Etapa de la definición: el tipo, la función del usuario y un argumento adicional
+     * (el conversor del resultado inválido de {@code validate} o el fracaso precalculado de {@code filter}).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    record Stage(Kind kind, Object fn, Object arg) {
+
+        Result<Object, Object> apply(Result<Object, Object> res) {
+            return switch (kind) {
+                case VALIDATE -> {
+                    if (!res.isSuccess()) yield res;
+                    ValidationResult<Object> validation = ((Function<Object, ValidationResult<Object>>) fn).apply(res.getValue());
+                    if (validation.isValid()) {
+                        Object value = validation.getValue();
+                        yield value == res.getValue() ? res : Result.success(value);
+                    }
+                    yield Result.failure(((Function<ValidationResult<?>, Object>) arg).apply(validation));
+                }
+                case MAP -> res.map((Function) fn);
+                case FLAT_MAP -> res.flatMap((Function) fn);
+                case PEEK -> {
+                    if (res.isSuccess()) ((Consumer<Object>) fn).accept(res.getValue());
+                    yield res;
+                }
+                case FILTER -> res.isSuccess() && !((Predicate<Object>) fn).test(res.getValue())
+                        ? (Result<Object, Object>) arg
+                        : res;
+                case RECOVER -> res.isSuccess() ? res : Result.success(((Function<Object, Object>) fn).apply(res.getError()));
+                case ON_FAILURE -> {
+                    if (!res.isSuccess()) ((Consumer<Object>) fn).accept(res.getError());
+                    yield res;
+                }
+                case FLAT_MAP_ASYNC, PEEK_ASYNC -> throw new IllegalStateException("Async stage: " + kind);
+            };
+        }
+
+        CompletionStage<Result<Object, Object>> applyAsync(Result<Object, Object> res) {
+            return switch (kind) {
+                case FLAT_MAP_ASYNC -> res.flatMapAsync((Function) fn);
+                case PEEK_ASYNC -> res.isSuccess()
+                        ? ((Function<Object, CompletionStage<Void>>) fn).apply(res.getValue()).thenApply(v -> res)
+                        : CompletableFuture.completedFuture(res);
+                default -> CompletableFuture.completedFuture(apply(res));
+            };
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package co.g3a.functionalrop.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Carrera entre tareas equivalentes que termina en cuanto {@code needed} de ellas tienen éxito, o en cuanto eso
+ * ya no es posible. Al decidirse, las tareas que siguen en curso se cancelan.
+ * <p>
+ * Las excepciones no cortan la carrera mientras todavía sea posible reunir los éxitos; si no lo es, la etapa
+ * termina con la primera excepción observada y, si no hubo ninguna, con los errores combinados.
+ */
+final class Race<O, E> {
+
+    private final int needed;
+    private final int total;
+    private final Function<List<E>, E> errorCombiner;
+    private final CompletableFuture<?>[] futures;
+    private final Object[] successes;
+    private final CompletableFuture<Result<List<O>, E>> outcome = new CompletableFuture<>();
+
+    private int succeeded;
+    private int failed;
+    private List<E> errors;
+    private Throwable firstException;
+    private boolean decided;
+
+    private Race(int needed, int total, Function<List<E>, E> errorCombiner) {
+        this.needed = needed;
+        this.total = total;
+        this.errorCombiner = errorCombiner;
+        this.futures = new CompletableFuture<?>[total];
+        this.successes = new Object[needed];
+    }
+
+    static <I, O, E> CompletionStage<Result<List<O>, E>> run(
+            I input,
+            List<? extends Function<? super I, ? extends CompletionStage<Result<O, E>>>> tasks,
+            int needed,
+            Function<List<E>, E> errorCombiner
+    ) {
+        if (needed < 1 || needed > tasks.size()) {
+            throw new IllegalArgumentException("needed must be between 1 and " + tasks.size() + ": " + needed);
+        }
+        Race<O, E> race = new Race<>(needed, tasks.size(), errorCombiner);
+        for (int i = 0; i < tasks.size(); i++) {
+            CompletableFuture<Result<O, E>> future;
+            try {
+                future = tasks.get(i).apply(input).toCompletableFuture();
+            } catch (Throwable ex) {
+                future = CompletableFuture.failedFuture(ex);
+            }
+            if (!race.register(i, future)) {
+                break;
+            }
+            int index = i;
+            future.whenComplete((result, ex) -> race.onComplete(index, result, ex));
+        }
+        return race.outcome;
+    }
+
+    /**
+     * Guarda la tarea para poder cancelarla; si la carrera ya se decidió, la cancela y corta el lanzamiento.
+     */
+    private boolean register(int index, CompletableFuture<?> future) {
+        synchronized (this) {
+            if (!decided) {
+                futures[index] = future;
+                return true;
+            }
+        }
+        future.cancel(true);
+        return false;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void onComplete(int index, Result<O, E> result, Throwable ex) {
+        Result<List<O>, E> decision;
+        Throwable failure = null;
+        synchronized (this) {
+            if (decided) {
+                return;
+            }
+            if (ex == null && result != null && result.isSuccess()) {
+                successes[succeeded++] = result.getValue();
+                if (succeeded < needed) {
+                    return;
+                }
+                decision = Result.success((List<O>) Arrays.asList(successes));
+            } else {
+                failed++;
+                if (ex != null || result == null) {
+                    if (firstException == null) {
+                        firstException = ex != null ? ex : new NullPointerException("Task " + index + " completed with null");
+                    }
+                } else {
+                    if (errors == null) {
+                        errors = new ArrayList<>();
+                    }
+                    errors.add(result.getError());
+                }
+                if (total - failed >= needed) {
+                    return;
+                }
+                decision = null;
+                failure = firstException;
+            }
+            decided = true;
+            futures[index] = null;
+        }
+        for (CompletableFuture<?> future : futures) {
+            if (future != null) {
+                future.cancel(true);
+            }
+        }
+        if (decision != null) {
+            outcome.complete(decision);
+        } else if (failure != null) {
+            outcome.completeExceptionally(failure);
+        } else {
+            try {
+                outcome.complete(Result.failure(errorCombiner.apply(errors)));
+            } catch (Throwable combinerFailure) {
+                outcome.completeExceptionally(combinerFailure);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package co.g3a.functionalrop.core;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limitador de tasa tipo balde de tokens ("token bucket") sin bloqueos, para dependencias con cuota.
+ * <p>
+ * El balde admite ráfagas de hasta {@code burst} permisos y se recarga a razón de {@code permits} por
+ * {@code period}. Se implementa como el algoritmo GCRA: un único {@link AtomicLong} guarda el instante teórico en
+ * que el balde vuelve a estar lleno y cada permiso lo adelanta un intervalo con una comparación e intercambio.
+ * <p>
+ * Sin espera, una petición sin token disponible se rechaza de inmediato. Con {@link #withMaxWait(Duration)},
+ * una petición puede reservar un token futuro si llega dentro de ese plazo; la espera se programa en
+ * {@link HashedWheelTimer#shared()}, sin dormir ningún hilo. La instancia guarda la cuota consumida, por lo que
+ * debe compartirse entre todas las llamadas a la misma dependencia.
+ *
+ * <pre>{@code
+ * static final RateLimiter EMAIL = RateLimiter.of(100, Duration.ofSeconds(1)).withMaxWait(Duration.ofMillis(200));
+ *
+ * pipeline.rateLimited(EMAIL, new AppError.EmailSendError("cuota excedida"))
+ *         .flatMapAsync(this::sendEmail);
+ * }</pre>
+ */
+public final class RateLimiter {
+
+    private final long intervalNanos;
+    private final long burst;
+    private final long burstNanos;
+    private final long maxWaitNanos;
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * Instante (relativo a {@code startNanos}) en el que el balde vuelve a estar lleno.
+     */
+    private final AtomicLong fullAt = new AtomicLong();
+
+    private final LongAdder acquired = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private RateLimiter(long intervalNanos, long burst, long maxWaitNanos) {
+        this.intervalNanos = intervalNanos;
+        this.burst = burst;
+        this.burstNanos = burst > Long.MAX_VALUE / 2 / intervalNanos ? Long.MAX_VALUE / 2 : intervalNanos * burst;
+        this.maxWaitNanos = maxWaitNanos;
+    }
+
+    /**
+     * Balde con capacidad {@code permits} que se recarga por completo cada {@code period}, sin espera.
+     *
+     * @param permits permisos por período (mínimo 1)
+     * @param period  período de recarga
+     * @return limitador lleno
+     */
+    public static RateLimiter of(long permits, Duration period) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("permits must be positive: " + permits);
+        }
+        long interval = period.toNanos() / permits;
+        if (interval < 1) {
+            throw new IllegalArgumentException("period too short for " + permits + " permits: " + period);
+        }
+        return new RateLimiter(interval, permits, 0L);
+    }
+
+    /**
+     * @param burst permisos que pueden usarse de golpe con el balde lleno (mínimo 1)
+     */
+    public RateLimiter withBurst(long burst) {
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+        return new RateLimiter(intervalNanos, burst, maxWaitNanos);
+    }
+
+    /**
+     * @param maxWait espera máxima por un permiso; cero rechaza de inmediato
+     */
+    public RateLimiter withMaxWait(Duration maxWait) {
+        if (maxWait.isNegative()) {
+            throw new IllegalArgumentException("maxWait must not be negative: " + maxWait);
+        }
+        return new RateLimiter(intervalNanos, burst, maxWait.toNanos());
+    }
+
+    /**
+     * Toma un permiso si hay uno disponible ahora, sin esperar.
+     *
+     * @return {@code true} si se obtuvo el permiso
+     */
+    public boolean tryAcquire() {
+        return reserve(0L) == 0L;
+    }
+
+    /**
+     * @return permisos disponibles ahora mismo
+     */
+    public long availablePermits() {
+        long now = System.nanoTime() - startNanos;
+        long empty = Math.max(fullAt.get(), now) - now;
+        return Math.max(0L, (burstNanos - empty) / intervalNanos);
+    }
+
+    /**
+     * @return permisos concedidos, con o sin espera
+     */
+    public long acquired() {
+        return acquired.sum();
+    }
+
+    /**
+     * @return peticiones rechazadas por exceder la cuota
+     */
+    public long rejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return espera máxima configurada por un permiso, en nanosegundos
+     */
+    long maxWaitNanos() {
+        return maxWaitNanos;
+    }
+
+    /**
+     * Reserva un permiso si está disponible dentro de {@code maxWaitNanos}.
+     *
+     * @return nanosegundos que hay que esperar antes de usar el permiso (0 si es inmediato), o {@code -1} si se
+     * rechazó sin consumir cuota
+     */
+    long reserve(long maxWaitNanos) {
+        long now = System.nanoTime() - startNanos;
+        while (true) {
+            long current = fullAt.get();
+            long next = Math.max(current, now) + intervalNanos;
+            long wait = next - now - burstNanos;
+            if (wait > maxWaitNanos) {
+                rejected.increment();
+                return -1L;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                acquired.increment();
+                return Math.max(0L, wait);
+            }
+        }
+    }
+}
@@ -1,13 +1,21 @@
 package co.g3a.functionalrop.core;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * Representa una operación que puede resultar en éxito (valor) o fracaso (error).
  * <p>
  * Inspirado en Option + Either, simplificado para Java.
+ * <p>
+ * Un fracaso no depende del tipo del valor, por lo que los operadores lo propagan como la misma instancia
+ * en lugar de crear un nuevo {@link Failure}. Los éxitos con valores frecuentes ({@code null},
+ * {@code Boolean.TRUE}, {@code Boolean.FALSE} y listas vacías) se comparten como instancias únicas.
  *
  * @param <T> Tipo del valor exitoso
  * @param <E> Tipo del error
@@ -44,9 +52,53 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return instancia de Success
      */
     static <T, E> Result<T, E> success(T value) {
+        if (value == null) {
+            return Success.shared(Success.NULL);
+        }
+        if (value == (Object) Boolean.TRUE) {
+            return Success.shared(Success.TRUE);
+        }
+        if (value == (Object) Boolean.FALSE) {
+            return Success.shared(Success.FALSE);
+        }
+        if (value == (Object) List.of()) {
+            return Success.shared(Success.EMPTY_LIST);
+        }
         return new Success<>(value);
     }
 
+    /**
+     * Retorna el éxito compartido sin valor, útil para operaciones {@code Void}.
+     *
+     * @param <E> tipo del error
+     * @return instancia única de {@code Success(null)}
+     */
+    static <E> Result<Void, E> successVoid() {
+        return Success.shared(Success.NULL);
+    }
+
+    /**
+     * Retorna el éxito compartido para un booleano, sin boxing ni asignación.
+     *
+     * @param value valor booleano
+     * @param <E>   tipo del error
+     * @return instancia única de {@code Success(TRUE)} o {@code Success(FALSE)}
+     */
+    static <E> Result<Boolean, E> successBoolean(boolean value) {
+        return Success.shared(value ? Success.TRUE : Success.FALSE);
+    }
+
+    /**
+     * Retorna el éxito compartido con una lista vacía inmutable.
+     *
+     * @param <U> tipo de los elementos
+     * @param <E> tipo del error
+     * @return instancia única de {@code Success(List.of())}
+     */
+    static <U, E> Result<List<U>, E> successEmptyList() {
+        return Success.shared(Success.EMPTY_LIST);
+    }
+
     /**
      * Crea un resultado fallido.
      *
@@ -69,7 +121,39 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return nuevo Result (éxito o mismo fracaso)
      */
     default <U> Result<U, E> map(Function<T, U> mapper) {
-        return isSuccess() ? success(mapper.apply(getValue())) : failure(getError());
+        return isSuccess() ? success(mapper.apply(getValue())) : propagate();
+    }
+
+    // 🔢 Puentes a resultados primitivos
+
+    /**
+     * Convierte el valor exitoso a {@code int}, sin boxing en las etapas posteriores.
+     *
+     * @param mapper función {@code T -> int}
+     * @return {@link IntResult} con el valor transformado o el error original
+     */
+    default IntResult<E> mapToInt(ToIntFunction<? super T> mapper) {
+        return isSuccess() ? IntResult.success(mapper.applyAsInt(getValue())) : IntResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code long}, sin boxing en las etapas posteriores.
+     *
+     * @param mapper función {@code T -> long}
+     * @return {@link LongResult} con el valor transformado o el error original
+     */
+    default LongResult<E> mapToLong(ToLongFunction<? super T> mapper) {
+        return isSuccess() ? LongResult.success(mapper.applyAsLong(getValue())) : LongResult.failure(getError());
+    }
+
+    /**
+     * Convierte el valor exitoso a {@code double}, sin boxing en las etapas posteriores.
+     *
+     * @param mapper función {@code T -> double}
+     * @return {@link DoubleResult} con el valor transformado o el error original
+     */
+    default DoubleResult<E> mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return isSuccess() ? DoubleResult.success(mapper.applyAsDouble(getValue())) : DoubleResult.failure(getError());
     }
 
     /**
@@ -94,7 +178,7 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      */
     default <U> Result<T, U> mapFailure(Function<E, U> mapper) {
         return this.isSuccess()
-                ? Result.success(this.getValue())
+                ? retypeSuccess()
                 : Result.failure(mapper.apply(this.getError()));
     }
 
@@ -108,7 +192,7 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return resultado anidado (éxito o propagación del fracaso)
      */
     default <U> Result<U, E> flatMap(Function<T, Result<U, E>> mapper) {
-        return isSuccess() ? mapper.apply(getValue()) : failure(getError());
+        return isSuccess() ? mapper.apply(getValue()) : propagate();
     }
 
     // ⚙️ flatMap async
@@ -121,7 +205,7 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @return etapa asíncrona con el resultado encadenado
      */
     default <U> CompletionStage<Result<U, E>> flatMapAsync(Function<T, CompletionStage<Result<U, E>>> mapper) {
-        return isSuccess() ? mapper.apply(getValue()) : CompletableFuture.completedFuture(failure(getError()));
+        return isSuccess() ? mapper.apply(getValue()) : CompletableFuture.completedFuture(propagate());
     }
 
     /**
@@ -136,6 +220,22 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
         return isSuccess() ? onSuccess.apply(getValue()) : onError.apply(getError());
     }
 
+    /**
+     * Reutiliza este fracaso con otro tipo de valor. Es seguro porque un {@link Failure} nunca expone {@code T}.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Result<U, E> propagate() {
+        return (Result<U, E>) (Result<?, ?>) this;
+    }
+
+    /**
+     * Reutiliza este éxito con otro tipo de error. Es seguro porque un {@link Success} nunca expone {@code E}.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> Result<T, U> retypeSuccess() {
+        return (Result<T, U>) (Result<?, ?>) this;
+    }
+
     /**
      * Resultado exitoso (contiene el valor).
      *
@@ -144,6 +244,17 @@ public sealed interface Result<T, E> permits Result.Success, Result.Failure {
      * @param <E>   tipo del error (no usado)
      */
     record Success<T, E>(T value) implements Result<T, E> {
+
+        private static final Success<?, ?> NULL = new Success<>(null);
+        private static final Success<?, ?> TRUE = new Success<>(Boolean.TRUE);
+        private static final Success<?, ?> FALSE = new Success<>(Boolean.FALSE);
+        private static final Success<?, ?> EMPTY_LIST = new Success<>(List.of());
+
+        @SuppressWarnings("unchecked")
+        private static <T, E> Result<T, E> shared(Success<?, ?> instance) {
+            return (Result<T, E>) instance;
+        }
+
         @Override
         public boolean isSuccess() {
             return true;
@@ -1,10 +1,23 @@
 package co.g3a.functionalrop.core;
 
+import co.g3a.functionalrop.utils.BiFunc;
+import co.g3a.functionalrop.utils.Func3;
+import co.g3a.functionalrop.utils.Func4;
+import co.g3a.functionalrop.utils.Func5;
+import co.g3a.functionalrop.utils.Func6;
+import co.g3a.functionalrop.utils.Func7;
+import co.g3a.functionalrop.utils.Func8;
+
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * {@code ResultPipeline} es una API fluida que permite encadenar operaciones funcionales y asíncronas
@@ -14,12 +27,44 @@ import java.util.function.Function;
  * <p>Está diseñada para flujos en los que se desea combinar procesamiento funcional con asincronía,
  * sin perder expresividad ni control del flujo de errores.</p>
  *
+ * <p>Los operadores síncronos consecutivos ({@code map}, {@code flatMap}, {@code validate}, {@code peek},
+ * {@code filter}, {@code recover}, {@code onFailure}) no encadenan una nueva etapa cada uno: se enganchan una sola
+ * vez a la última etapa asíncrona y se aplican en orden en una sola completación, apenas esta termina, aunque no
+ * se llame ninguna operación terminal. {@link #build()} y las demás operaciones terminales reutilizan esa misma
+ * etapa, por lo que cada operador corre una única vez.</p>
+ *
+ * <p>Mientras no exista una etapa asíncrona pendiente, la pipeline mantiene un {@link Result} plano y aplica
+ * los operadores directamente sobre él, sin crear futuros. Solo cambia a un {@link CompletionStage} en la
+ * primera frontera asíncrona que no esté ya completada, o al llamar {@link #build()}.</p>
+ *
+ * <p>Con {@link #withDeadline(Deadline, Object)} la pipeline lleva un {@link Deadline} que limita cada etapa
+ * asíncrona posterior; {@link #timeout(Duration, Object)} y {@link #flatMapAsync(Function, Duration, Object)}
+ * limitan tramos puntuales. Al vencer un plazo la pipeline continúa con un {@code Result.failure} tipado.</p>
+ *
  * @param <T> tipo del valor exitoso
  * @param <E> tipo del error
  */
 public class ResultPipeline<T, E> {
 
-    private final CompletionStage<Result<T, E>> result;
+    /**
+     * Resultado actual mientras la pipeline es síncrona; {@code null} si depende de una etapa asíncrona.
+     */
+    private final Result<T, E> current;
+
+    /**
+     * Última etapa asíncrona materializada; {@code null} mientras la pipeline es síncrona.
+     */
+    private final CompletionStage<Result<Object, E>> source;
+
+    /**
+     * Último operador síncrono encadenado después de {@code source}; {@code null} si no hay ninguno.
+     */
+    private final Fused<E> fused;
+
+    /**
+     * Límite de tiempo propagado a cada etapa asíncrona; {@code null} si la pipeline no tiene deadline.
+     */
+    private final Budget<E> budget;
 
     /**
      * Constructor privado. Usa {@link #use(Object)} para inicializar una pipeline.
@@ -27,7 +72,30 @@ public class ResultPipeline<T, E> {
      * @param result etapa asíncrona que encapsula un {@link Result}
      */
     ResultPipeline(CompletionStage<Result<T, E>> result) {
-        this.result = result;
+        this(result, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    private ResultPipeline(CompletionStage<Result<T, E>> result, Budget<E> budget) {
+        Result<T, E> completed = completedValue(result);
+        this.current = completed;
+        this.source = completed == null ? (CompletionStage<Result<Object, E>>) (CompletionStage<?>) result : null;
+        this.fused = null;
+        this.budget = budget;
+    }
+
+    private ResultPipeline(Result<T, E> current, Budget<E> budget) {
+        this.current = current;
+        this.source = null;
+        this.fused = null;
+        this.budget = budget;
+    }
+
+    private ResultPipeline(CompletionStage<Result<Object, E>> source, Fused<E> fused, Budget<E> budget) {
+        this.current = null;
+        this.source = source;
+        this.fused = fused;
+        this.budget = budget;
     }
 
     /**
@@ -39,7 +107,7 @@ public class ResultPipeline<T, E> {
      * @return instancia de {@code ResultPipeline}
      */
     public static <T, E> ResultPipeline<T, E> use(T value) {
-        return new ResultPipeline<>(CompletableFuture.completedFuture(Result.success(value)));
+        return new ResultPipeline<>(Result.success(value), null);
     }
 
     /**
@@ -51,15 +119,30 @@ public class ResultPipeline<T, E> {
      * @return pipeline actualizada según el resultado de la validación
      */
     public ResultPipeline<T, E> validate(Function<T, ValidationResult<T>> validator, Function<String, E> errorMapper) {
-        CompletionStage<Result<T, E>> newResult = result.thenApply(res -> {
+        return validateWith(validator, validation -> errorMapper.apply(validation.firstError()));
+    }
+
+    /**
+     * Ejecuta una validación basada en {@link ErrorCode}; el primer código se traduce con un acceso a arreglo.
+     *
+     * @param validator función de validación que retorna un {@link ValidationResult}
+     * @param errors    tabla código → error del tipo {@code E}; debe cubrir todos los códigos posibles
+     * @return pipeline actualizada según el resultado de la validación
+     */
+    public ResultPipeline<T, E> validate(Function<T, ValidationResult<T>> validator, ErrorCodeTable<E> errors) {
+        return validateWith(validator, errors::resolve);
+    }
+
+    private ResultPipeline<T, E> validateWith(Function<T, ValidationResult<T>> validator, Function<ValidationResult<T>, E> failure) {
+        return fuse(res -> {
             if (!res.isSuccess()) return res;
             ValidationResult<T> validation = validator.apply(res.getValue());
             if (validation.isValid()) {
-                return Result.success(validation.getValue());
+                T value = validation.getValue();
+                return value == res.getValue() ? res : Result.success(value);
             }
-            return Result.failure(errorMapper.apply(validation.getErrors().getFirst()));
+            return Result.failure(failure.apply(validation));
         });
-        return new ResultPipeline<>(newResult);
     }
 
     /**
@@ -70,8 +153,7 @@ public class ResultPipeline<T, E> {
      * @return nueva instancia de {@code ResultPipeline} con el tipo transformado
      */
     public <U> ResultPipeline<U, E> map(Function<T, U> mapper) {
-        CompletionStage<Result<U, E>> newResult = result.thenApply(res -> res.map(mapper));
-        return new ResultPipeline<>(newResult);
+        return fuse(res -> res.map(mapper));
     }
 
     /**
@@ -82,13 +164,7 @@ public class ResultPipeline<T, E> {
      * @return nueva pipeline con la etapa encadenada
      */
     public <U> ResultPipeline<U, E> flatMap(Function<T, Result<U, E>> mapper) {
-        CompletionStage<Result<U, E>> newResult = result.thenApply(res -> {
-            if (res.isSuccess()) {
-                return mapper.apply(res.getValue());
-            }
-            return Result.failure(res.getError());
-        });
-        return new ResultPipeline<>(newResult);
+        return fuse(res -> res.flatMap(mapper));
     }
 
     /**
@@ -99,12 +175,7 @@ public class ResultPipeline<T, E> {
      * @return nueva pipeline con la etapa asíncrona encadenada
      */
     public <U> ResultPipeline<U, E> flatMapAsync(Function<T, CompletionStage<Result<U, E>>> mapper) {
-        CompletionStage<Result<U, E>> newResult = result.thenCompose(res ->
-                res.isSuccess()
-                        ? mapper.apply(res.getValue())
-                        : CompletableFuture.completedFuture(Result.failure(res.getError()))
-        );
-        return new ResultPipeline<>(newResult);
+        return boundary(res -> res.flatMapAsync(mapper));
     }
 
     /**
@@ -115,13 +186,12 @@ public class ResultPipeline<T, E> {
      * @return pipeline original
      */
     public ResultPipeline<T, E> peek(Consumer<T> action) {
-        CompletionStage<Result<T, E>> newResult = result.thenApply(res -> {
+        return fuse(res -> {
             if (res.isSuccess()) {
                 action.accept(res.getValue());
             }
             return res;
         });
-        return new ResultPipeline<>(newResult);
     }
 
     /**
@@ -131,14 +201,165 @@ public class ResultPipeline<T, E> {
      * @return pipeline original
      */
     public ResultPipeline<T, E> peekAsync(Function<T, CompletionStage<Void>> asyncAction) {
-        CompletionStage<Result<T, E>> newResult = result.thenCompose(res -> {
+        return boundary(res -> {
             if (res.isSuccess()) {
                 return asyncAction.apply(res.getValue()).thenApply(v -> res);
             } else {
                 return CompletableFuture.completedFuture(res);
             }
         });
-        return new ResultPipeline<>(newResult);
+    }
+
+    /**
+     * Encadena una operación asíncrona limitada a {@code timeout}, contado desde que la operación arranca.
+     * Si no termina a tiempo, la pipeline continúa con {@code Result.failure(onTimeout)}.
+     *
+     * @param mapper    función transformadora asíncrona {@code T -> CompletionStage<Result<U, E>>}
+     * @param timeout   tiempo máximo de la operación
+     * @param onTimeout error con el que se completa si vence el plazo
+     * @param <U>       nuevo tipo del valor
+     * @return nueva pipeline con la etapa asíncrona encadenada
+     */
+    public <U> ResultPipeline<U, E> flatMapAsync(Function<T, CompletionStage<Result<U, E>>> mapper, Duration timeout, E onTimeout) {
+        long nanos = timeout.toNanos();
+        Result<U, E> timedOut = Result.failure(onTimeout);
+        return boundary(res -> {
+            CompletionStage<Result<U, E>> next = res.flatMapAsync(mapper);
+            return res.isSuccess() ? Timeouts.within(next, nanos, timedOut) : next;
+        });
+    }
+
+    /**
+     * Encadena una operación asíncrona idempotente con peticiones de respaldo: si no responde luego de
+     * {@code delay}, se lanza un duplicado (hasta {@code maxHedges} veces), gana el primer éxito y se cancelan
+     * los demás intentos.
+     *
+     * @param mapper    operación idempotente {@code T -> CompletionStage<Result<U, E>>}
+     * @param delay     espera antes de cada respaldo
+     * @param maxHedges cantidad máxima de respaldos por llamada
+     * @param <U>       nuevo tipo del valor
+     * @return nueva pipeline con la etapa asíncrona encadenada
+     * @see #flatMapAsyncHedged(Function, HedgePolicy)
+     */
+    public <U> ResultPipeline<U, E> flatMapAsyncHedged(Function<T, CompletionStage<Result<U, E>>> mapper, Duration delay, int maxHedges) {
+        return flatMapAsyncHedged(mapper, HedgePolicy.fixed(delay, maxHedges));
+    }
+
+    /**
+     * Igual que {@link #flatMapAsyncHedged(Function, Duration, int)}, con una {@link HedgePolicy} compartida
+     * que puede usar un retraso por percentil y expone la tasa de respaldos y de respaldos ganadores.
+     *
+     * @param mapper operación idempotente {@code T -> CompletionStage<Result<U, E>>}
+     * @param policy política de respaldos
+     * @param <U>    nuevo tipo del valor
+     * @return nueva pipeline con la etapa asíncrona encadenada
+     */
+    public <U> ResultPipeline<U, E> flatMapAsyncHedged(Function<T, CompletionStage<Result<U, E>>> mapper, HedgePolicy policy) {
+        return boundary(res -> res.isSuccess()
+                ? policy.execute(() -> mapper.apply(res.getValue()))
+                : res.flatMapAsync(mapper));
+    }
+
+    /**
+     * Pide un permiso a {@code limiter} antes de continuar, para que la etapa asíncrona siguiente respete la
+     * cuota de su dependencia. Si no hay permiso, la pipeline continúa con {@code Result.failure(onRejected)}
+     * en lugar de llamar a la dependencia.
+     * <p>
+     * Si el limitador admite espera, el permiso se reserva y la pipeline sigue cuando llega su turno, sin bloquear
+     * hilos; la continuación corre en el executor asíncrono por defecto y no en el hilo del temporizador. Con un
+     * deadline, la espera nunca supera el tiempo restante. Los fracasos previos pasan sin consumir permisos.
+     *
+     * <pre>{@code
+     * pipeline.rateLimited(EMAIL_QUOTA, new AppError.EmailSendError("cuota excedida"))
+     *         .flatMapAsync(this::sendEmail);
+     * }</pre>
+     *
+     * @param limiter    limitador compartido por las llamadas a la dependencia
+     * @param onRejected error con el que se continúa si se excede la cuota
+     * @return pipeline que continúa una vez obtenido el permiso
+     */
+    public ResultPipeline<T, E> rateLimited(RateLimiter limiter, E onRejected) {
+        Result<T, E> rejected = Result.failure(onRejected);
+        Deadline deadline = deadline();
+        return boundary(res -> {
+            if (!res.isSuccess()) {
+                return CompletableFuture.completedFuture(res);
+            }
+            long wait = limiter.reserve(Math.min(limiter.maxWaitNanos(), deadline.remainingNanos()));
+            if (wait < 0) {
+                return CompletableFuture.completedFuture(rejected);
+            }
+            if (wait == 0) {
+                return CompletableFuture.completedFuture(res);
+            }
+            CompletableFuture<Result<T, E>> permitted = new CompletableFuture<>();
+            Timeouts.schedule(wait, () -> permitted.completeAsync(() -> res));
+            return permitted;
+        });
+    }
+
+    /**
+     * Encadena una operación asíncrona que recibe además el {@link Deadline} de la pipeline, para que pueda
+     * omitir trabajo que ya no alcanza a terminar. Sin deadline recibe {@link Deadline#NONE}.
+     *
+     * @param mapper función {@code (T, Deadline) -> CompletionStage<Result<U, E>>}
+     * @param <U>    nuevo tipo del valor
+     * @return nueva pipeline con la etapa asíncrona encadenada
+     */
+    public <U> ResultPipeline<U, E> flatMapAsyncWithin(BiFunc<T, Deadline, CompletionStage<Result<U, E>>> mapper) {
+        Deadline deadline = deadline();
+        return flatMapAsync(value -> mapper.apply(value, deadline));
+    }
+
+    /**
+     * Fija un deadline para el resto de la pipeline. Cada etapa asíncrona posterior no arranca si ya venció,
+     * y si arranca queda limitada al tiempo restante; en ambos casos la pipeline continúa con
+     * {@code Result.failure(onExpired)}. Si ya había una etapa asíncrona pendiente, también queda limitada.
+     * <p>
+     * Si la pipeline ya tenía un deadline, se conserva el más cercano de los dos.
+     *
+     * @param deadline  límite de tiempo
+     * @param onExpired error para las etapas que no alcanzan a terminar
+     * @return pipeline con el deadline propagado
+     */
+    public ResultPipeline<T, E> withDeadline(Deadline deadline, E onExpired) {
+        Budget<E> next = new Budget<>(budget == null ? deadline : budget.deadline().earliest(deadline), Result.failure(onExpired));
+        if (current != null) {
+            return new ResultPipeline<>(current, next);
+        }
+        return new ResultPipeline<>(Timeouts.within(build(), next.deadline().remainingNanos(), next.timedOut()), next);
+    }
+
+    /**
+     * Fija un deadline a {@code timeout} desde ahora para el resto de la pipeline.
+     *
+     * @see #withDeadline(Deadline, Object)
+     */
+    public ResultPipeline<T, E> withDeadline(Duration timeout, E onExpired) {
+        return withDeadline(Deadline.in(timeout), onExpired);
+    }
+
+    /**
+     * @return deadline propagado por la pipeline, o {@link Deadline#NONE} si no tiene
+     */
+    public Deadline deadline() {
+        return budget == null ? Deadline.NONE : budget.deadline();
+    }
+
+    /**
+     * Limita la espera de todo lo encadenado hasta aquí a {@code timeout}, contado desde esta llamada.
+     * Si no termina a tiempo, la pipeline continúa con {@code Result.failure(onTimeout)}. Para limitar una sola
+     * operación desde que arranca, usa {@link #flatMapAsync(Function, Duration, Object)}.
+     *
+     * @param timeout   tiempo máximo de espera
+     * @param onTimeout error con el que se completa si vence el plazo
+     * @return pipeline limitada
+     */
+    public ResultPipeline<T, E> timeout(Duration timeout, E onTimeout) {
+        if (current != null) {
+            return this;
+        }
+        return new ResultPipeline<>(Timeouts.within(build(), timeout.toNanos(), Result.failure(onTimeout)), budget);
     }
 
     /**
@@ -146,8 +367,15 @@ public class ResultPipeline<T, E> {
      *
      * @return {@code CompletionStage<Result<T, E>>}
      */
+    @SuppressWarnings("unchecked")
     public CompletionStage<Result<T, E>> build() {
-        return result;
+        if (current != null) {
+            return CompletableFuture.completedFuture(current);
+        }
+        if (fused == null) {
+            return (CompletionStage<Result<T, E>>) (CompletionStage<?>) source;
+        }
+        return (CompletionStage<Result<T, E>>) (CompletionStage<?>) fused.stage();
     }
 
     /**
@@ -157,7 +385,7 @@ public class ResultPipeline<T, E> {
      * @return {@code CompletionStage<Void>} indicando la finalización
      */
     public CompletionStage<Void> thenAccept(Consumer<Result<T, E>> consumer) {
-        return result.thenAccept(consumer);
+        return build().thenAccept(consumer);
     }
 
     /**
@@ -183,7 +411,7 @@ public class ResultPipeline<T, E> {
                 .map(CompletionStage::toCompletableFuture)
                 .toList();
 
-        return CompletableFuture.allOf(cfList.toArray(new CompletableFuture[0]))
+        return CompletableFuture.allOf(cfList.toArray(new CompletableFuture<?>[0]))
                 .thenApply(v -> {
                     List<Object> results = new ArrayList<>();
                     List<E> errors = new ArrayList<>();
@@ -216,6 +444,7 @@ public class ResultPipeline<T, E> {
      * @param <Output>      tipo de salida común
      * @param <E>           tipo del error
      * @return resultado final con lista de salidas o error combinado
+     * @see FanOut para entradas grandes, con concurrencia acotada y entrega a medida que terminan
      */
     public static <Input, Output, E> CompletionStage<Result<List<Output>, E>> runInParallelTyped(
             Input input,
@@ -226,7 +455,7 @@ public class ResultPipeline<T, E> {
                 .map(task -> task.apply(input).toCompletableFuture())
                 .toList();
 
-        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]))
                 .thenApply(v -> {
                     List<Output> results = new ArrayList<>();
                     List<E> errors = new ArrayList<>();
@@ -249,6 +478,315 @@ public class ResultPipeline<T, E> {
                 });
     }
 
+    /**
+     * Ejecuta tareas bloqueantes en paralelo, cada una en su propio hilo virtual, dentro de un alcance estructurado.
+     * <p>
+     * Con {@link ParallelPolicy#FAIL_FAST} el primer fallo interrumpe a las tareas hermanas y la etapa completa
+     * con ese error sin esperarlas; con {@link ParallelPolicy#COLLECT_ALL} se espera a todas y los errores se
+     * combinan con {@code errorCombiner}. Una excepción en cualquier tarea cancela al resto y completa la etapa
+     * de forma excepcional en ambas políticas.
+     *
+     * @param input         input común para todas las tareas
+     * @param tasks         funciones bloqueantes {@code Input -> Result<Output, E>}; deben responder a la interrupción
+     * @param policy        política ante el primer fallo
+     * @param errorCombiner combinador de errores para {@link ParallelPolicy#COLLECT_ALL}
+     * @param <Input>       tipo de entrada
+     * @param <Output>      tipo de salida común
+     * @param <E>           tipo del error
+     * @return resultado con las salidas en el orden de las tareas, o el error correspondiente
+     */
+    public static <Input, Output, E> CompletionStage<Result<List<Output>, E>> runInParallelStructured(
+            Input input,
+            List<? extends Function<? super Input, Result<Output, E>>> tasks,
+            ParallelPolicy policy,
+            Function<List<E>, E> errorCombiner
+    ) {
+        return StructuredFanOut.run(input, tasks, policy, errorCombiner, StructuredFanOut.VIRTUAL_THREADS);
+    }
+
+    /**
+     * Igual que {@link #runInParallelStructured(Object, List, ParallelPolicy, Function)}, con una fábrica de hilos
+     * propia (por ejemplo, hilos de plataforma con nombre o prioridad específicos).
+     *
+     * @param threadFactory fábrica que crea un hilo por tarea
+     */
+    public static <Input, Output, E> CompletionStage<Result<List<Output>, E>> runInParallelStructured(
+            Input input,
+            List<? extends Function<? super Input, Result<Output, E>>> tasks,
+            ParallelPolicy policy,
+            Function<List<E>, E> errorCombiner,
+            ThreadFactory threadFactory
+    ) {
+        return StructuredFanOut.run(input, tasks, policy, errorCombiner, threadFactory);
+    }
+
+    /**
+     * Ejecuta tareas equivalentes (por ejemplo, varios proveedores) en paralelo y retorna el primer éxito,
+     * cancelando el resto. Si todas fallan, combina los errores con {@code errorCombiner}.
+     *
+     * @param input         input común para todas las tareas
+     * @param tasks         tareas equivalentes; al menos una
+     * @param errorCombiner combinador de errores si ninguna tiene éxito
+     * @param <Input>       tipo de entrada
+     * @param <Output>      tipo de salida común
+     * @param <E>           tipo del error
+     * @return el primer valor exitoso o el error combinado
+     */
+    public static <Input, Output, E> CompletionStage<Result<Output, E>> firstSuccess(
+            Input input,
+            List<? extends Function<? super Input, ? extends CompletionStage<Result<Output, E>>>> tasks,
+            Function<List<E>, E> errorCombiner
+    ) {
+        return Race.run(input, tasks, 1, errorCombiner).thenApply(res -> res.map(values -> values.get(0)));
+    }
+
+    /**
+     * Ejecuta tareas equivalentes en paralelo y completa en cuanto {@code n} de ellas tienen éxito, cancelando
+     * el resto. Falla, con los errores combinados, en cuanto reunir {@code n} éxitos deja de ser posible.
+     *
+     * @param n             cantidad de éxitos requeridos, entre 1 y {@code tasks.size()}
+     * @param input         input común para todas las tareas
+     * @param tasks         tareas equivalentes
+     * @param errorCombiner combinador de los errores observados si no se alcanza el quórum
+     * @param <Input>       tipo de entrada
+     * @param <Output>      tipo de salida común
+     * @param <E>           tipo del error
+     * @return los {@code n} primeros valores exitosos, en orden de llegada, o el error combinado
+     */
+    public static <Input, Output, E> CompletionStage<Result<List<Output>, E>> quorum(
+            int n,
+            Input input,
+            List<? extends Function<? super Input, ? extends CompletionStage<Result<Output, E>>>> tasks,
+            Function<List<E>, E> errorCombiner
+    ) {
+        return Race.run(input, tasks, n, errorCombiner);
+    }
+
+    /**
+     * Combina dos etapas ya en curso en un único resultado tipado, sin listas intermedias ni casts.
+     * <p>
+     * Se espera a ambas etapas; si todas son exitosas se aplica {@code combiner}, y si alguna falla se combinan
+     * los errores (en el orden de los argumentos) con {@code errorCombiner}. Las variantes {@code zip3} …
+     * {@code zip8} se comportan igual para más etapas.
+     *
+     * <pre>{@code
+     * ResultPipeline.zip3(buscarNombre(id), buscarEdad(id), verificarCuenta(id), DatosUsuario::new, AppError.MultipleErrors::new);
+     * }</pre>
+     *
+     * @param combiner      función que combina los valores exitosos
+     * @param errorCombiner combinador de los errores de las etapas fallidas
+     * @param <R>           tipo del valor combinado
+     * @param <E>           tipo del error
+     * @return etapa con el valor combinado o el error combinado
+     */
+    public static <T1, T2, R, E> CompletionStage<Result<R, E>> zip(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            BiFunc<? super T1, ? super T2, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        return a.thenCombine(b, (ra, rb) -> ra.isSuccess() && rb.isSuccess()
+                ? Result.success(combiner.apply(ra.getValue(), rb.getValue()))
+                : Result.failure(combineErrors(errorCombiner, ra, rb)));
+    }
+
+    /**
+     * Igual que {@link #zip}, para tres etapas.
+     */
+    public static <T1, T2, T3, R, E> CompletionStage<Result<R, E>> zip3(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            CompletionStage<Result<T3, E>> c,
+            Func3<? super T1, ? super T2, ? super T3, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        CompletableFuture<Result<T1, E>> fa = a.toCompletableFuture();
+        CompletableFuture<Result<T2, E>> fb = b.toCompletableFuture();
+        CompletableFuture<Result<T3, E>> fc = c.toCompletableFuture();
+        return CompletableFuture.allOf(fa, fb, fc).thenApply(v -> {
+            Result<T1, E> ra = fa.join();
+            Result<T2, E> rb = fb.join();
+            Result<T3, E> rc = fc.join();
+            return ra.isSuccess() && rb.isSuccess() && rc.isSuccess()
+                    ? Result.success(combiner.apply(ra.getValue(), rb.getValue(), rc.getValue()))
+                    : Result.failure(combineErrors(errorCombiner, ra, rb, rc));
+        });
+    }
+
+    /**
+     * Igual que {@link #zip}, para cuatro etapas.
+     */
+    public static <T1, T2, T3, T4, R, E> CompletionStage<Result<R, E>> zip4(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            CompletionStage<Result<T3, E>> c,
+            CompletionStage<Result<T4, E>> d,
+            Func4<? super T1, ? super T2, ? super T3, ? super T4, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        CompletableFuture<Result<T1, E>> fa = a.toCompletableFuture();
+        CompletableFuture<Result<T2, E>> fb = b.toCompletableFuture();
+        CompletableFuture<Result<T3, E>> fc = c.toCompletableFuture();
+        CompletableFuture<Result<T4, E>> fd = d.toCompletableFuture();
+        return CompletableFuture.allOf(fa, fb, fc, fd).thenApply(v -> {
+            Result<T1, E> ra = fa.join();
+            Result<T2, E> rb = fb.join();
+            Result<T3, E> rc = fc.join();
+            Result<T4, E> rd = fd.join();
+            return ra.isSuccess() && rb.isSuccess() && rc.isSuccess() && rd.isSuccess()
+                    ? Result.success(combiner.apply(ra.getValue(), rb.getValue(), rc.getValue(), rd.getValue()))
+                    : Result.failure(combineErrors(errorCombiner, ra, rb, rc, rd));
+        });
+    }
+
+    /**
+     * Igual que {@link #zip}, para cinco etapas.
+     */
+    public static <T1, T2, T3, T4, T5, R, E> CompletionStage<Result<R, E>> zip5(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            CompletionStage<Result<T3, E>> c,
+            CompletionStage<Result<T4, E>> d,
+            CompletionStage<Result<T5, E>> e,
+            Func5<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        CompletableFuture<Result<T1, E>> fa = a.toCompletableFuture();
+        CompletableFuture<Result<T2, E>> fb = b.toCompletableFuture();
+        CompletableFuture<Result<T3, E>> fc = c.toCompletableFuture();
+        CompletableFuture<Result<T4, E>> fd = d.toCompletableFuture();
+        CompletableFuture<Result<T5, E>> fe = e.toCompletableFuture();
+        return CompletableFuture.allOf(fa, fb, fc, fd, fe).thenApply(v -> {
+            Result<T1, E> ra = fa.join();
+            Result<T2, E> rb = fb.join();
+            Result<T3, E> rc = fc.join();
+            Result<T4, E> rd = fd.join();
+            Result<T5, E> re = fe.join();
+            return ra.isSuccess() && rb.isSuccess() && rc.isSuccess() && rd.isSuccess() && re.isSuccess()
+                    ? Result.success(combiner.apply(ra.getValue(), rb.getValue(), rc.getValue(), rd.getValue(), re.getValue()))
+                    : Result.failure(combineErrors(errorCombiner, ra, rb, rc, rd, re));
+        });
+    }
+
+    /**
+     * Igual que {@link #zip}, para seis etapas.
+     */
+    public static <T1, T2, T3, T4, T5, T6, R, E> CompletionStage<Result<R, E>> zip6(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            CompletionStage<Result<T3, E>> c,
+            CompletionStage<Result<T4, E>> d,
+            CompletionStage<Result<T5, E>> e,
+            CompletionStage<Result<T6, E>> f,
+            Func6<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        CompletableFuture<Result<T1, E>> fa = a.toCompletableFuture();
+        CompletableFuture<Result<T2, E>> fb = b.toCompletableFuture();
+        CompletableFuture<Result<T3, E>> fc = c.toCompletableFuture();
+        CompletableFuture<Result<T4, E>> fd = d.toCompletableFuture();
+        CompletableFuture<Result<T5, E>> fe = e.toCompletableFuture();
+        CompletableFuture<Result<T6, E>> ff = f.toCompletableFuture();
+        return CompletableFuture.allOf(fa, fb, fc, fd, fe, ff).thenApply(v -> {
+            Result<T1, E> ra = fa.join();
+            Result<T2, E> rb = fb.join();
+            Result<T3, E> rc = fc.join();
+            Result<T4, E> rd = fd.join();
+            Result<T5, E> re = fe.join();
+            Result<T6, E> rf = ff.join();
+            return ra.isSuccess() && rb.isSuccess() && rc.isSuccess() && rd.isSuccess() && re.isSuccess() && rf.isSuccess()
+                    ? Result.success(combiner.apply(ra.getValue(), rb.getValue(), rc.getValue(), rd.getValue(), re.getValue(), rf.getValue()))
+                    : Result.failure(combineErrors(errorCombiner, ra, rb, rc, rd, re, rf));
+        });
+    }
+
+    /**
+     * Igual que {@link #zip}, para siete etapas.
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, R, E> CompletionStage<Result<R, E>> zip7(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            CompletionStage<Result<T3, E>> c,
+            CompletionStage<Result<T4, E>> d,
+            CompletionStage<Result<T5, E>> e,
+            CompletionStage<Result<T6, E>> f,
+            CompletionStage<Result<T7, E>> g,
+            Func7<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        CompletableFuture<Result<T1, E>> fa = a.toCompletableFuture();
+        CompletableFuture<Result<T2, E>> fb = b.toCompletableFuture();
+        CompletableFuture<Result<T3, E>> fc = c.toCompletableFuture();
+        CompletableFuture<Result<T4, E>> fd = d.toCompletableFuture();
+        CompletableFuture<Result<T5, E>> fe = e.toCompletableFuture();
+        CompletableFuture<Result<T6, E>> ff = f.toCompletableFuture();
+        CompletableFuture<Result<T7, E>> fg = g.toCompletableFuture();
+        return CompletableFuture.allOf(fa, fb, fc, fd, fe, ff, fg).thenApply(v -> {
+            Result<T1, E> ra = fa.join();
+            Result<T2, E> rb = fb.join();
+            Result<T3, E> rc = fc.join();
+            Result<T4, E> rd = fd.join();
+            Result<T5, E> re = fe.join();
+            Result<T6, E> rf = ff.join();
+            Result<T7, E> rg = fg.join();
+            return ra.isSuccess() && rb.isSuccess() && rc.isSuccess() && rd.isSuccess() && re.isSuccess() && rf.isSuccess() && rg.isSuccess()
+                    ? Result.success(combiner.apply(ra.getValue(), rb.getValue(), rc.getValue(), rd.getValue(), re.getValue(), rf.getValue(), rg.getValue()))
+                    : Result.failure(combineErrors(errorCombiner, ra, rb, rc, rd, re, rf, rg));
+        });
+    }
+
+    /**
+     * Igual que {@link #zip}, para ocho etapas.
+     */
+    public static <T1, T2, T3, T4, T5, T6, T7, T8, R, E> CompletionStage<Result<R, E>> zip8(
+            CompletionStage<Result<T1, E>> a,
+            CompletionStage<Result<T2, E>> b,
+            CompletionStage<Result<T3, E>> c,
+            CompletionStage<Result<T4, E>> d,
+            CompletionStage<Result<T5, E>> e,
+            CompletionStage<Result<T6, E>> f,
+            CompletionStage<Result<T7, E>> g,
+            CompletionStage<Result<T8, E>> h,
+            Func8<? super T1, ? super T2, ? super T3, ? super T4, ? super T5, ? super T6, ? super T7, ? super T8, ? extends R> combiner,
+            Function<List<E>, E> errorCombiner
+    ) {
+        CompletableFuture<Result<T1, E>> fa = a.toCompletableFuture();
+        CompletableFuture<Result<T2, E>> fb = b.toCompletableFuture();
+        CompletableFuture<Result<T3, E>> fc = c.toCompletableFuture();
+        CompletableFuture<Result<T4, E>> fd = d.toCompletableFuture();
+        CompletableFuture<Result<T5, E>> fe = e.toCompletableFuture();
+        CompletableFuture<Result<T6, E>> ff = f.toCompletableFuture();
+        CompletableFuture<Result<T7, E>> fg = g.toCompletableFuture();
+        CompletableFuture<Result<T8, E>> fh = h.toCompletableFuture();
+        return CompletableFuture.allOf(fa, fb, fc, fd, fe, ff, fg, fh).thenApply(v -> {
+            Result<T1, E> ra = fa.join();
+            Result<T2, E> rb = fb.join();
+            Result<T3, E> rc = fc.join();
+            Result<T4, E> rd = fd.join();
+            Result<T5, E> re = fe.join();
+            Result<T6, E> rf = ff.join();
+            Result<T7, E> rg = fg.join();
+            Result<T8, E> rh = fh.join();
+            return ra.isSuccess() && rb.isSuccess() && rc.isSuccess() && rd.isSuccess() && re.isSuccess() && rf.isSuccess() && rg.isSuccess() && rh.isSuccess()
+                    ? Result.success(combiner.apply(ra.getValue(), rb.getValue(), rc.getValue(), rd.getValue(), re.getValue(), rf.getValue(), rg.getValue(), rh.getValue()))
+                    : Result.failure(combineErrors(errorCombiner, ra, rb, rc, rd, re, rf, rg, rh));
+        });
+    }
+
+    /**
+     * Reúne los errores de los resultados fallidos, en orden, y los combina.
+     */
+    @SafeVarargs
+    private static <E> E combineErrors(Function<List<E>, E> errorCombiner, Result<?, E>... results) {
+        List<E> errors = new ArrayList<>(results.length);
+        for (Result<?, E> result : results) {
+            if (!result.isSuccess()) {
+                errors.add(result.getError());
+            }
+        }
+        return errorCombiner.apply(errors);
+    }
+
     /**
      * Permite recuperar un valor predeterminado si el pipeline terminó en error.
      *
@@ -256,12 +794,11 @@ public class ResultPipeline<T, E> {
      * @return nueva pipeline con el valor recuperado o el valor original
      */
     public ResultPipeline<T, E> recover(Function<E, T> recoverFunction) {
-        CompletionStage<Result<T, E>> newResult = result.thenApply(res ->
+        return fuse(res ->
                 res.isSuccess()
                         ? res
                         : Result.success(recoverFunction.apply(res.getError()))
         );
-        return new ResultPipeline<>(newResult);
     }
 
     /**
@@ -272,12 +809,12 @@ public class ResultPipeline<T, E> {
      * @return pipeline filtrada
      */
     public ResultPipeline<T, E> filter(java.util.function.Predicate<T> predicate, E error) {
-        CompletionStage<Result<T, E>> newResult = result.thenApply(res ->
+        Result<T, E> rejected = Result.failure(error);
+        return fuse(res ->
                 res.isSuccess() && !predicate.test(res.getValue())
-                        ? Result.failure(error)
+                        ? rejected
                         : res
         );
-        return new ResultPipeline<>(newResult);
     }
 
     /**
@@ -291,13 +828,12 @@ public class ResultPipeline<T, E> {
      * Ejecuta una acción si el resultado es un error.
      */
     public ResultPipeline<T, E> onFailure(Consumer<E> errorConsumer) {
-        CompletionStage<Result<T, E>> newResult = result.thenApply(res -> {
+        return fuse(res -> {
             if (!res.isSuccess()) {
                 errorConsumer.accept(res.getError());
             }
             return res;
         });
-        return new ResultPipeline<>(newResult);
     }
 
     /**
@@ -309,6 +845,232 @@ public class ResultPipeline<T, E> {
      * @return etapa asíncrona con valor resuelto
      */
     public <U> CompletionStage<U> foldAsync(Function<E, U> onFailure, Function<T, U> onSuccess) {
-        return result.thenApply(res -> res.fold(onFailure, onSuccess));
+        return terminal(res -> res.fold(onFailure, onSuccess));
+    }
+
+    /**
+     * Finaliza la pipeline convirtiendo el valor exitoso a {@code int}, sin boxing.
+     *
+     * @param mapper función {@code T -> int}
+     * @return etapa asíncrona con el {@link IntResult}
+     */
+    public CompletionStage<IntResult<E>> mapToInt(ToIntFunction<? super T> mapper) {
+        return terminal(res -> res.mapToInt(mapper));
+    }
+
+    /**
+     * Finaliza la pipeline convirtiendo el valor exitoso a {@code long}, sin boxing.
+     *
+     * @param mapper función {@code T -> long}
+     * @return etapa asíncrona con el {@link LongResult}
+     */
+    public CompletionStage<LongResult<E>> mapToLong(ToLongFunction<? super T> mapper) {
+        return terminal(res -> res.mapToLong(mapper));
+    }
+
+    /**
+     * Finaliza la pipeline convirtiendo el valor exitoso a {@code double}, sin boxing.
+     *
+     * @param mapper función {@code T -> double}
+     * @return etapa asíncrona con el {@link DoubleResult}
+     */
+    public CompletionStage<DoubleResult<E>> mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return terminal(res -> res.mapToDouble(mapper));
+    }
+
+    /**
+     * Aplica una función final al {@link Result}; si la pipeline sigue siendo síncrona, sin encadenar etapas.
+     */
+    private <U> CompletionStage<U> terminal(Function<Result<T, E>, U> finisher) {
+        if (current != null) {
+            try {
+                return CompletableFuture.completedFuture(finisher.apply(current));
+            } catch (Throwable ex) {
+                return CompletableFuture.failedFuture(ex);
+            }
+        }
+        return build().thenApply(finisher);
+    }
+
+    /**
+     * Agrega un operador síncrono a la cadena fusionada de la última etapa asíncrona, sin crear una nueva etapa.
+     *
+     * @param stage transformación {@code Result<T, E> -> Result<U, E>}
+     * @param <U>   nuevo tipo del valor
+     * @return nueva pipeline con el operador fusionado
+     */
+    @SuppressWarnings("unchecked")
+    private <U> ResultPipeline<U, E> fuse(Function<Result<T, E>, Result<U, E>> stage) {
+        if (current != null) {
+            Result<U, E> next;
+            try {
+                next = stage.apply(current);
+            } catch (Throwable ex) {
+                return new ResultPipeline<>(CompletableFuture.failedFuture(ex), budget);
+            }
+            return next != null
+                    ? new ResultPipeline<>(next, budget)
+                    : new ResultPipeline<>(CompletableFuture.completedFuture(null), budget);
+        }
+        Fused<E> next = new Fused<>((Function<Result<Object, E>, Result<Object, E>>) (Function<?, ?>) stage);
+        if (fused == null) {
+            source.whenComplete((res, ex) -> Fused.run(next, res, ex));
+        } else {
+            fused.chain(next);
+        }
+        return new ResultPipeline<>(source, next, budget);
+    }
+
+    /**
+     * Encadena una etapa asíncrona después de los operadores síncronos fusionados.
+     *
+     * @param stage transformación asíncrona {@code Result<T, E> -> CompletionStage<Result<U, E>>}
+     * @param <U>   nuevo tipo del valor
+     * @return nueva pipeline cuya fuente es la etapa asíncrona
+     */
+    @SuppressWarnings("unchecked")
+    private <U> ResultPipeline<U, E> boundary(Function<Result<T, E>, CompletionStage<Result<U, E>>> asyncStage) {
+        Function<Result<T, E>, CompletionStage<Result<U, E>>> stage = budget == null ? asyncStage : budget.bound(asyncStage);
+        if (current != null) {
+            CompletionStage<Result<U, E>> next;
+            try {
+                next = stage.apply(current);
+            } catch (Throwable ex) {
+                return new ResultPipeline<>(CompletableFuture.failedFuture(ex), budget);
+            }
+            return next != null
+                    ? new ResultPipeline<>(next, budget)
+                    : new ResultPipeline<>(CompletableFuture.failedFuture(new NullPointerException()), budget);
+        }
+        CompletionStage<Result<Object, E>> previous = fused == null ? source : fused.stage();
+        CompletionStage<Result<U, E>> next = previous.thenCompose(
+                (Function<Result<Object, E>, CompletionStage<Result<U, E>>>) (Function<?, ?>) stage);
+        return new ResultPipeline<>(next, budget);
+    }
+
+    /**
+     * Operador síncrono fusionado. El primero después de una etapa asíncrona se engancha a ella como único
+     * dependiente; los siguientes se encadenan a su antecesor y los ejecuta el mismo recorrido en cuanto el
+     * antecesor termina, sin crear etapas intermedias.
+     * <p>
+     * Si el antecesor ya terminó o ya tiene otro sucesor (la pipeline se ramificó), el operador se engancha a la
+     * etapa memorizada del antecesor. Esa etapa solo se crea cuando alguien la pide y se completa una única vez.
+     */
+    private static final class Fused<E> {
+        private static final Object CLOSED = new Object();
+
+        private final Function<Result<Object, E>, Result<Object, E>> operator;
+        private final AtomicReference<Object> next = new AtomicReference<>();
+        private final AtomicReference<CompletableFuture<Result<Object, E>>> stage = new AtomicReference<>();
+
+        private Result<Object, E> value;
+        private Throwable failure;
+        private volatile boolean done;
+
+        Fused(Function<Result<Object, E>, Result<Object, E>> operator) {
+            this.operator = operator;
+        }
+
+        /**
+         * Encadena {@code successor} para que corra apenas termine este operador.
+         */
+        void chain(Fused<E> successor) {
+            if (!next.compareAndSet(null, successor)) {
+                stage().whenComplete((res, ex) -> run(successor, res, ex));
+            }
+        }
+
+        /**
+         * @return etapa con el resultado de este operador, creada una sola vez
+         */
+        CompletableFuture<Result<Object, E>> stage() {
+            CompletableFuture<Result<Object, E>> future = stage.get();
+            if (future == null) {
+                CompletableFuture<Result<Object, E>> created = new CompletableFuture<>();
+                future = stage.compareAndExchange(null, created);
+                if (future == null) {
+                    future = created;
+                }
+            }
+            if (done) {
+                publish(future);
+            }
+            return future;
+        }
+
+        /**
+         * Aplica {@code node} y sus sucesores ya encadenados sobre el resultado de la etapa previa.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> void run(Fused<E> node, Result<Object, E> res, Throwable ex) {
+            while (node != null) {
+                if (ex == null) {
+                    try {
+                        res = node.operator.apply(res);
+                    } catch (Throwable operatorFailure) {
+                        ex = operatorFailure;
+                        res = null;
+                    }
+                }
+                node.value = res;
+                node.failure = ex;
+                node.done = true;
+                CompletableFuture<Result<Object, E>> future = node.stage.get();
+                if (future != null) {
+                    node.publish(future);
+                }
+                Object successor = node.next.getAndSet(CLOSED);
+                node = successor instanceof Fused<?> fused ? (Fused<E>) fused : null;
+            }
+        }
+
+        private void publish(CompletableFuture<Result<Object, E>> future) {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(value);
+            }
+        }
+    }
+
+    /**
+     * Deadline de la pipeline junto con el fracaso (compartido) que producen las etapas que no alcanzan a terminar.
+     */
+    private record Budget<E>(Deadline deadline, Result<Object, E> expired) {
+
+        /**
+         * Envuelve una etapa asíncrona: no la inicia si el deadline ya venció y, si la inicia, la limita al
+         * tiempo restante. Los fracasos previos pasan sin cambios.
+         */
+        <T, U> Function<Result<T, E>, CompletionStage<Result<U, E>>> bound(Function<Result<T, E>, CompletionStage<Result<U, E>>> stage) {
+            return res -> {
+                if (!res.isSuccess()) {
+                    return stage.apply(res);
+                }
+                if (deadline.isExpired()) {
+                    return CompletableFuture.completedFuture(timedOut());
+                }
+                CompletionStage<Result<U, E>> next = stage.apply(res);
+                return next == null ? null : Timeouts.within(next, deadline.remainingNanos(), timedOut());
+            };
+        }
+
+        @SuppressWarnings("unchecked")
+        <U> Result<U, E> timedOut() {
+            return (Result<U, E>) (Result<?, E>) expired;
+        }
+    }
+
+    /**
+     * Retorna el {@link Result} de una etapa que ya terminó normalmente, o {@code null} si todavía está
+     * pendiente, terminó con excepción o no es un {@link CompletableFuture}.
+     */
+    static <T, E> Result<T, E> completedValue(CompletionStage<Result<T, E>> stage) {
+        if (stage instanceof CompletableFuture<Result<T, E>> future
+                && future.isDone()
+                && !future.isCompletedExceptionally()) {
+            return future.getNow(null);
+        }
+        return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,120 @@
+package co.g3a.functionalrop.core;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Predicate;
+
+/**
+ * Política inmutable de reintentos con backoff exponencial y jitter para {@link DeadEnd}.
+ * <p>
+ * El intento {@code n} (desde 1) que falla con un error reintentable espera
+ * {@code min(maxDelay, initialDelay * multiplier^(n-1))}, reducido al azar hasta en una fracción {@code jitter},
+ * antes del siguiente intento. La espera se programa en un temporizador; ningún hilo queda bloqueado.
+ *
+ * <pre>{@code
+ * static final RetryPolicy<AppError> SMTP = RetryPolicy.<AppError>exponential(Duration.ofMillis(50), 2.0, Duration.ofSeconds(2))
+ *         .withMaxAttempts(4)
+ *         .withJitter(0.5)
+ *         .retryIf(e -> e instanceof AppError.EmailSendError);
+ * }</pre>
+ *
+ * @param <E> tipo del error
+ */
+public final class RetryPolicy<E> {
+
+    private final int maxAttempts;
+    private final long initialDelayNanos;
+    private final double multiplier;
+    private final long maxDelayNanos;
+    private final double jitter;
+    private final Predicate<? super E> retryable;
+
+    private RetryPolicy(int maxAttempts, long initialDelayNanos, double multiplier, long maxDelayNanos,
+                        double jitter, Predicate<? super E> retryable) {
+        this.maxAttempts = maxAttempts;
+        this.initialDelayNanos = initialDelayNanos;
+        this.multiplier = multiplier;
+        this.maxDelayNanos = maxDelayNanos;
+        this.jitter = jitter;
+        this.retryable = retryable;
+    }
+
+    /**
+     * Backoff exponencial con 3 intentos, jitter de 0.5 y todos los errores reintentables.
+     *
+     * @param initialDelay espera antes del primer reintento
+     * @param multiplier   factor de crecimiento de la espera (mínimo 1)
+     * @param maxDelay     espera máxima entre intentos
+     * @param <E>          tipo del error
+     * @return política por defecto
+     */
+    public static <E> RetryPolicy<E> exponential(Duration initialDelay, double multiplier, Duration maxDelay) {
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("multiplier must be at least 1: " + multiplier);
+        }
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0) {
+            throw new IllegalArgumentException("expected 0 <= initialDelay <= maxDelay");
+        }
+        return new RetryPolicy<>(3, initialDelay.toNanos(), multiplier, maxDelay.toNanos(), 0.5, e -> true);
+    }
+
+    /**
+     * Espera constante entre intentos, sin jitter.
+     */
+    public static <E> RetryPolicy<E> fixed(Duration delay, int maxAttempts) {
+        return RetryPolicy.<E>exponential(delay, 1.0, delay).withJitter(0.0).withMaxAttempts(maxAttempts);
+    }
+
+    /**
+     * @param maxAttempts cantidad total de intentos, incluido el primero (mínimo 1)
+     */
+    public RetryPolicy<E> withMaxAttempts(int maxAttempts) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+        }
+        return new RetryPolicy<>(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryable);
+    }
+
+    /**
+     * @param jitter fracción de la espera que se resta al azar, entre 0 (sin jitter) y 1 ("full jitter")
+     */
+    public RetryPolicy<E> withJitter(double jitter) {
+        if (!(jitter >= 0.0 && jitter <= 1.0)) {
+            throw new IllegalArgumentException("jitter must be in [0, 1]: " + jitter);
+        }
+        return new RetryPolicy<>(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryable);
+    }
+
+    /**
+     * @param retryable condición sobre el error para volver a intentar; los demás errores se entregan de inmediato
+     */
+    public RetryPolicy<E> retryIf(Predicate<? super E> retryable) {
+        return new RetryPolicy<>(maxAttempts, initialDelayNanos, multiplier, maxDelayNanos, jitter, retryable);
+    }
+
+    /**
+     * @return cantidad total de intentos, incluido el primero
+     */
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Indica si después del intento {@code attempt} (desde 1) que falló con {@code error} corresponde reintentar.
+     */
+    boolean shouldRetry(int attempt, E error) {
+        return attempt < maxAttempts && retryable.test(error);
+    }
+
+    /**
+     * Espera, en nanosegundos, luego del intento {@code attempt} (desde 1), con el jitter aplicado.
+     */
+    long delayNanos(int attempt) {
+        double base = initialDelayNanos * Math.pow(multiplier, attempt - 1);
+        long capped = base >= maxDelayNanos ? maxDelayNanos : (long) base;
+        if (jitter == 0.0 || capped == 0) {
+            return capped;
+        }
+        return capped - (long) (capped * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+}
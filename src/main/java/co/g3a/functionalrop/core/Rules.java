@@ -0,0 +1,204 @@
+package co.g3a.functionalrop.core;
+
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Biblioteca de reglas para {@link Validator}.
+ * <p>
+ * Las reglas de strings recorren el valor una sola vez y no reservan memoria: {@link #notBlank(ErrorCode)} no
+ * usa {@code trim()} y {@link #email(ErrorCode)} verifica la forma en un único recorrido. Un valor {@code null}
+ * no cumple ninguna regla de strings.
+ */
+public final class Rules {
+
+    private Rules() {
+    }
+
+    /**
+     * Regla sobre un campo {@code String}.
+     *
+     * @param check condición que debe cumplir el valor
+     * @param code  código de error si no se cumple
+     */
+    public record StringRule(Predicate<String> check, ErrorCode code) {
+    }
+
+    /**
+     * Regla sobre un campo {@code int}, sin boxing.
+     *
+     * @param check condición que debe cumplir el valor
+     * @param code  código de error si no se cumple
+     */
+    public record IntRule(IntPredicate check, ErrorCode code) {
+    }
+
+    /**
+     * Regla sobre un campo {@code long}, sin boxing.
+     *
+     * @param check condición que debe cumplir el valor
+     * @param code  código de error si no se cumple
+     */
+    public record LongRule(LongPredicate check, ErrorCode code) {
+    }
+
+    // 🔤 Strings
+
+    /**
+     * @return regla personalizada sobre un string
+     */
+    public static StringRule string(Predicate<String> check, ErrorCode code) {
+        return new StringRule(check, code);
+    }
+
+    /**
+     * El valor no es {@code null} ni vacío.
+     */
+    public static StringRule notEmpty(ErrorCode code) {
+        return new StringRule(value -> value != null && !value.isEmpty(), code);
+    }
+
+    /**
+     * El valor contiene al menos un carácter mayor que {@code ' '}. Equivale a {@code !value.trim().isEmpty()}
+     * sin crear un string nuevo: los caracteres de control cuentan como blancos y los espacios Unicode no.
+     */
+    public static StringRule notBlank(ErrorCode code) {
+        return new StringRule(Rules::isNotBlank, code);
+    }
+
+    /**
+     * El valor tiene al menos {@code min} caracteres.
+     */
+    public static StringRule minLength(int min, ErrorCode code) {
+        return new StringRule(value -> value != null && value.length() >= min, code);
+    }
+
+    /**
+     * El valor tiene como máximo {@code max} caracteres.
+     */
+    public static StringRule maxLength(int max, ErrorCode code) {
+        return new StringRule(value -> value != null && value.length() <= max, code);
+    }
+
+    /**
+     * El valor tiene la forma {@code local@dominio.tld}: un {@code '@'} que no es el primer carácter, seguido
+     * de al menos un {@code '.'} que no está inmediatamente después del {@code '@'} ni al final.
+     * Se verifica en un único recorrido.
+     */
+    public static StringRule email(ErrorCode code) {
+        return new StringRule(Rules::isEmail, code);
+    }
+
+    /**
+     * El valor contiene los caracteres {@code first} y {@code second}, en cualquier orden. Equivale a
+     * {@code value.indexOf(first) >= 0 && value.indexOf(second) >= 0} en un único recorrido que se detiene al
+     * encontrar ambos.
+     */
+    public static StringRule containsBoth(char first, char second, ErrorCode code) {
+        return new StringRule(value -> containsBoth(value, first, second), code);
+    }
+
+    // 🔢 Números
+
+    /**
+     * @return regla personalizada sobre un {@code int}
+     */
+    public static IntRule integer(IntPredicate check, ErrorCode code) {
+        return new IntRule(check, code);
+    }
+
+    /**
+     * El valor es mayor o igual que {@code min}.
+     */
+    public static IntRule min(int min, ErrorCode code) {
+        return new IntRule(value -> value >= min, code);
+    }
+
+    /**
+     * El valor es menor o igual que {@code max}.
+     */
+    public static IntRule max(int max, ErrorCode code) {
+        return new IntRule(value -> value <= max, code);
+    }
+
+    /**
+     * El valor está en el rango {@code [min, max]}.
+     */
+    public static IntRule between(int min, int max, ErrorCode code) {
+        return new IntRule(value -> value >= min && value <= max, code);
+    }
+
+    /**
+     * @return regla personalizada sobre un {@code long}
+     */
+    public static LongRule longValue(LongPredicate check, ErrorCode code) {
+        return new LongRule(check, code);
+    }
+
+    /**
+     * El valor es mayor o igual que {@code min}.
+     */
+    public static LongRule min(long min, ErrorCode code) {
+        return new LongRule(value -> value >= min, code);
+    }
+
+    /**
+     * El valor es menor o igual que {@code max}.
+     */
+    public static LongRule max(long max, ErrorCode code) {
+        return new LongRule(value -> value <= max, code);
+    }
+
+    static boolean isNotBlank(String value) {
+        if (value == null) {
+            return false;
+        }
+        for (int i = 0, n = value.length(); i < n; i++) {
+            if (value.charAt(i) > ' ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean containsBoth(String value, char first, char second) {
+        if (value == null) {
+            return false;
+        }
+        boolean foundFirst = false;
+        boolean foundSecond = false;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            foundFirst |= c == first;
+            foundSecond |= c == second;
+            if (foundFirst && foundSecond) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean isEmail(String value) {
+        if (value == null) {
+            return false;
+        }
+        int at = -1;
+        int lastDot = -1;
+        for (int i = 0, n = value.length(); i < n; i++) {
+            char c = value.charAt(i);
+            if (c == '@') {
+                if (at >= 0) {
+                    return false;
+                }
+                at = i;
+            } else if (c == '.' && at >= 0) {
+                if (i == at + 1) {
+                    return false;
+                }
+                lastDot = i;
+            }
+        }
+        return at > 0 && lastDot > at && lastDot < value.length() - 1;
+    }
+}
@@ -0,0 +1,42 @@
+package co.g3a.functionalrop.core;
+
+/**
+ * Copia liviana de una excepción para diagnóstico: conserva el tipo y el mensaje, pero no la traza ni la
+ * causa original, por lo que crearla no recorre la pila y guardarla dentro de un error {@code E} no retiene
+ * el grafo de objetos de la excepción.
+ *
+ * <pre>{@code
+ * deadEnd.runSafeResult(input, this::guardar, ex -> new AppError.DbError(StacklessCause.of(ex).getMessage()));
+ * }</pre>
+ */
+public final class StacklessCause extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String causeType;
+
+    private StacklessCause(String causeType, String message) {
+        super(message == null ? causeType : causeType + ": " + message, null, false, false);
+        this.causeType = causeType;
+    }
+
+    /**
+     * Captura el tipo y el mensaje de {@code throwable}.
+     *
+     * @param throwable excepción original
+     * @return copia sin traza
+     */
+    public static StacklessCause of(Throwable throwable) {
+        if (throwable instanceof StacklessCause stackless) {
+            return stackless;
+        }
+        return new StacklessCause(throwable.getClass().getName(), throwable.getMessage());
+    }
+
+    /**
+     * @return nombre completo de la clase de la excepción original
+     */
+    public String causeType() {
+        return causeType;
+    }
+}
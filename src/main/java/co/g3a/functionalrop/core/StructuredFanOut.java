@@ -0,0 +1,158 @@
+package co.g3a.functionalrop.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * Alcance estructurado de un fan-out: cada tarea corre en su propio hilo (virtual por defecto) y el alcance
+ * se cierra una sola vez, ya sea porque terminaron todas, porque una falló con {@link ParallelPolicy#FAIL_FAST}
+ * o porque una lanzó una excepción. Al cerrarse antes de tiempo, las tareas que siguen vivas se interrumpen y
+ * las que aún no arrancaron no se inician.
+ * <p>
+ * Equivale a {@code StructuredTaskScope.ShutdownOnFailure} / {@code join()} sin depender de la API en preview,
+ * y sin bloquear un hilo dueño: el cierre completa un {@link CompletableFuture}.
+ */
+final class StructuredFanOut<I, O, E> {
+
+    /**
+     * Fábrica por defecto: un hilo virtual por tarea.
+     */
+    static final ThreadFactory VIRTUAL_THREADS = Thread.ofVirtual().name("rop-parallel-", 0).factory();
+
+    private final ParallelPolicy policy;
+    private final Function<List<E>, E> errorCombiner;
+    private final Result<O, E>[] results;
+    private final AtomicReferenceArray<Thread> threads;
+    private final AtomicInteger remaining;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private final CompletableFuture<Result<List<O>, E>> outcome = new CompletableFuture<>();
+
+    @SuppressWarnings("unchecked")
+    private StructuredFanOut(int size, ParallelPolicy policy, Function<List<E>, E> errorCombiner) {
+        this.policy = policy;
+        this.errorCombiner = errorCombiner;
+        this.results = (Result<O, E>[]) new Result<?, ?>[size];
+        this.threads = new AtomicReferenceArray<>(size);
+        this.remaining = new AtomicInteger(size);
+    }
+
+    static <I, O, E> CompletionStage<Result<List<O>, E>> run(
+            I input,
+            List<? extends Function<? super I, Result<O, E>>> tasks,
+            ParallelPolicy policy,
+            Function<List<E>, E> errorCombiner,
+            ThreadFactory threadFactory
+    ) {
+        if (tasks.isEmpty()) {
+            return CompletableFuture.completedFuture(Result.successEmptyList());
+        }
+        StructuredFanOut<I, O, E> scope = new StructuredFanOut<>(tasks.size(), policy, errorCombiner);
+        scope.fork(input, tasks, threadFactory);
+        return scope.outcome;
+    }
+
+    private void fork(I input, List<? extends Function<? super I, Result<O, E>>> tasks, ThreadFactory threadFactory) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (closed.get()) {
+                return;
+            }
+            int index = i;
+            Function<? super I, Result<O, E>> task = tasks.get(i);
+            Thread thread;
+            try {
+                thread = threadFactory.newThread(() -> runTask(index, task, input));
+                if (thread == null) {
+                    throw new IllegalStateException("ThreadFactory returned null");
+                }
+                threads.set(index, thread);
+                thread.start();
+            } catch (Throwable ex) {
+                fail(ex);
+                return;
+            }
+            if (closed.get()) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    private void runTask(int index, Function<? super I, Result<O, E>> task, I input) {
+        Result<O, E> result;
+        try {
+            result = task.apply(input);
+        } catch (Throwable ex) {
+            fail(ex);
+            return;
+        }
+        if (result == null) {
+            fail(new NullPointerException("Task " + index + " returned null"));
+            return;
+        }
+        if (policy == ParallelPolicy.FAIL_FAST && !result.isSuccess()) {
+            if (closed.compareAndSet(false, true)) {
+                cancel(index);
+                outcome.complete(retype(result));
+            }
+            return;
+        }
+        results[index] = result;
+        if (remaining.decrementAndGet() == 0 && closed.compareAndSet(false, true)) {
+            complete();
+        }
+    }
+
+    private void fail(Throwable ex) {
+        if (closed.compareAndSet(false, true)) {
+            cancel(-1);
+            outcome.completeExceptionally(new CompletionException("Task failed", ex));
+        }
+    }
+
+    /**
+     * Interrumpe las tareas vivas, excepto la que provocó el cierre.
+     */
+    private void cancel(int except) {
+        for (int i = 0; i < threads.length(); i++) {
+            Thread thread = threads.get(i);
+            if (i != except && thread != null) {
+                thread.interrupt();
+            }
+        }
+    }
+
+    private void complete() {
+        List<O> values = new ArrayList<>(results.length);
+        List<E> errors = null;
+        for (Result<O, E> result : results) {
+            if (result.isSuccess()) {
+                values.add(result.getValue());
+            } else {
+                if (errors == null) {
+                    errors = new ArrayList<>();
+                }
+                errors.add(result.getError());
+            }
+        }
+        try {
+            outcome.complete(errors == null ? Result.success(values) : Result.failure(errorCombiner.apply(errors)));
+        } catch (Throwable ex) {
+            outcome.completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Un {@link Result.Failure} no depende del tipo del valor, así que se propaga la misma instancia.
+     */
+    @SuppressWarnings("unchecked")
+    private static <O, E> Result<List<O>, E> retype(Result<O, E> failure) {
+        return (Result<List<O>, E>) (Result<?, E>) failure;
+    }
+}
@@ -0,0 +1,468 @@
+package co.g3a.functionalrop.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Compilador opcional que convierte una definición {@link Pipeline} completamente síncrona en bytecode lineal,
+ * cargado como clase oculta con {@link MethodHandles.Lookup#defineHiddenClass}.
+ * <p>
+ * En la ejecución interpretada ({@link Pipeline#runSync(Object)} o {@link SyncResultPipeline}) todas las etapas
+ * pasan por los mismos sitios de llamada ({@code Result.map}, {@code Result.flatMap}, ...), que el JIT ve como
+ * megamórficos. El código generado tiene un sitio de llamada propio por etapa, con las ramas de éxito y fracaso
+ * en línea, así que cada llamada es monomórfica y puede inlinearse.
+ * <p>
+ * La clase generada tiene dos tramos: el de éxito lleva el valor actual y salta al tramo de fracaso en la etapa
+ * siguiente cuando una etapa falla; el de fracaso solo ejecuta {@code onFailure} y {@code recover}, y este último
+ * vuelve al tramo de éxito. El resultado es idéntico al de la ejecución interpretada.
+ *
+ * <pre>{@code
+ * CompiledPipeline<Request, Request, AppError> validar = SyncPipelineCompiler.compile(
+ *         Pipeline.<Request, AppError>define()
+ *                 .validate(this::validateRequest, this::mapValidationToAppError)
+ *                 .map(this::canonicalizeEmail));
+ *
+ * Result<Request, AppError> result = validar.apply(request);
+ * }</pre>
+ */
+public final class SyncPipelineCompiler {
+
+    private SyncPipelineCompiler() {
+    }
+
+    /**
+     * Compila una definición síncrona.
+     *
+     * @param definition definición sin etapas asíncronas
+     * @param <In>       tipo de la entrada
+     * @param <Out>      tipo del valor exitoso final
+     * @param <E>        tipo del error
+     * @return pipeline compilada, equivalente a {@link Pipeline#runSync(Object)}
+     * @throws IllegalArgumentException si la definición tiene etapas asíncronas o es demasiado grande
+     */
+    @SuppressWarnings("unchecked")
+    public static <In, Out, E> CompiledPipeline<In, Out, E> compile(Pipeline<In, Out, E> definition) {
+        if (!definition.isSynchronous()) {
+            throw new IllegalArgumentException("Only synchronous pipelines can be compiled");
+        }
+        Pipeline.Stage[] stages = definition.stages();
+        Object[] args = new Object[stages.length * 2];
+        for (int i = 0; i < stages.length; i++) {
+            args[2 * i] = stages[i].fn();
+            args[2 * i + 1] = stages[i].arg();
+        }
+        byte[] bytes = new Emitter(stages).emit();
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(bytes, true);
+            MethodHandle constructor = lookup.findConstructor(
+                    lookup.lookupClass(), MethodType.methodType(void.class, Object[].class));
+            return (CompiledPipeline<In, Out, E>) constructor.invoke(args);
+        } catch (Throwable ex) {
+            throw new IllegalStateException("Could not compile pipeline", ex);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Ayudantes invocados desde el código generado
+    // ------------------------------------------------------------------------------------------------
+
+    static Result<Object, Object> success(Object value) {
+        return Result.success(value);
+    }
+
+    static Result<Object, Object> validationFailure(ValidationResult<?> validation, Function<ValidationResult<?>, Object> failure) {
+        return Result.failure(failure.apply(validation));
+    }
+
+    // ------------------------------------------------------------------------------------------------
+    // Generación del class file
+    // ------------------------------------------------------------------------------------------------
+
+    /**
+     * Escribe un class file mínimo (versión 49, sin StackMapTable) con un constructor que copia las funciones
+     * de las etapas a campos {@code final} y un método {@code apply} con el código lineal de la pipeline.
+     */
+    private static final class Emitter {
+
+        private static final int VERSION = 49;
+
+        private static final String SELF = "co/g3a/functionalrop/core/SyncPipelineCompiler$Compiled";
+        private static final String COMPILER = "co/g3a/functionalrop/core/SyncPipelineCompiler";
+        private static final String OBJECT = "java/lang/Object";
+        private static final String RESULT = "co/g3a/functionalrop/core/Result";
+        private static final String VALIDATION = "co/g3a/functionalrop/core/ValidationResult";
+        private static final String FUNCTION = "java/util/function/Function";
+        private static final String CONSUMER = "java/util/function/Consumer";
+        private static final String PREDICATE = "java/util/function/Predicate";
+
+        private static final int ACONST_NULL = 0x01;
+        private static final int ICONST_0 = 0x03;
+        private static final int BIPUSH = 0x10;
+        private static final int SIPUSH = 0x11;
+        private static final int ALOAD = 0x19;
+        private static final int ALOAD_0 = 0x2a;
+        private static final int ALOAD_1 = 0x2b;
+        private static final int ALOAD_2 = 0x2c;
+        private static final int ALOAD_3 = 0x2d;
+        private static final int AALOAD = 0x32;
+        private static final int ASTORE = 0x3a;
+        private static final int ASTORE_2 = 0x4d;
+        private static final int ASTORE_3 = 0x4e;
+        private static final int IFEQ = 0x99;
+        private static final int IFNE = 0x9a;
+        private static final int GOTO = 0xa7;
+        private static final int ARETURN = 0xb0;
+        private static final int RETURN = 0xb1;
+        private static final int GETFIELD = 0xb4;
+        private static final int PUTFIELD = 0xb5;
+        private static final int INVOKESPECIAL = 0xb7;
+        private static final int INVOKESTATIC = 0xb8;
+        private static final int INVOKEINTERFACE = 0xb9;
+        private static final int CHECKCAST = 0xc0;
+
+        /**
+         * Locales de {@code apply}: 0 this, 1 entrada, 2 valor actual, 3 fracaso actual, 4 validación.
+         */
+        private static final int VALUE = 2;
+        private static final int VALIDATION_LOCAL = 4;
+
+        private final Pipeline.Stage[] stages;
+        private final Bytes pool = new Bytes();
+        private final Map<String, Integer> constants = new HashMap<>();
+        private int constantCount = 1;
+
+        Emitter(Pipeline.Stage[] stages) {
+            this.stages = stages;
+        }
+
+        byte[] emit() {
+            int thisClass = classRef(SELF);
+            int superClass = classRef(OBJECT);
+            int iface = classRef("co/g3a/functionalrop/core/CompiledPipeline");
+
+            Bytes fields = new Bytes();
+            int fieldCount = 0;
+            for (int i = 0; i < stages.length; i++) {
+                fields.u2(0x0012).u2(utf8("f" + i)).u2(utf8(fnDescriptor(stages[i].kind()))).u2(0);
+                fieldCount++;
+                String argDescriptor = argDescriptor(stages[i].kind());
+                if (argDescriptor != null) {
+                    fields.u2(0x0012).u2(utf8("g" + i)).u2(utf8(argDescriptor)).u2(0);
+                    fieldCount++;
+                }
+            }
+
+            Bytes methods = new Bytes();
+            method(methods, 0x0001, "<init>", "([Ljava/lang/Object;)V", constructorCode(), 4, 2);
+            method(methods, 0x0001, "apply", "(Ljava/lang/Object;)L" + RESULT + ";", applyCode(), 3, 5);
+
+            Bytes out = new Bytes();
+            out.u4(0xCAFEBABE).u2(0).u2(VERSION);
+            out.u2(constantCount).append(pool);
+            out.u2(0x0030).u2(thisClass).u2(superClass);
+            out.u2(1).u2(iface);
+            out.u2(fieldCount).append(fields);
+            out.u2(2).append(methods);
+            out.u2(0);
+            return out.toByteArray();
+        }
+
+        private Bytes constructorCode() {
+            Bytes code = new Bytes();
+            code.u1(ALOAD_0).u1(INVOKESPECIAL).u2(methodRef(OBJECT, "<init>", "()V"));
+            for (int i = 0; i < stages.length; i++) {
+                Pipeline.Kind kind = stages[i].kind();
+                storeArg(code, 2 * i, "f" + i, fnDescriptor(kind));
+                String argDescriptor = argDescriptor(kind);
+                if (argDescriptor != null) {
+                    storeArg(code, 2 * i + 1, "g" + i, argDescriptor);
+                }
+            }
+            code.u1(RETURN);
+            return code;
+        }
+
+        private void storeArg(Bytes code, int index, String field, String descriptor) {
+            code.u1(ALOAD_0).u1(ALOAD_1);
+            if (index <= 5) {
+                code.u1(ICONST_0 + index);
+            } else if (index <= Byte.MAX_VALUE) {
+                code.u1(BIPUSH).u1(index);
+            } else {
+                code.u1(SIPUSH).u2(index);
+            }
+            code.u1(AALOAD);
+            code.u1(CHECKCAST).u2(classRef(descriptor.substring(1, descriptor.length() - 1)));
+            code.u1(PUTFIELD).u2(fieldRef(field, descriptor));
+        }
+
+        private Bytes applyCode() {
+            int n = stages.length;
+            int[] successAt = new int[n + 1];
+            int[] failureAt = new int[n + 1];
+            Bytes code = new Bytes();
+            // Saltos a etiquetas de tramo: {posición del opcode, 0 = éxito / 1 = fracaso, índice de etapa}
+            int[][] jumps = new int[4 * n + 1][];
+            int jumpCount = 0;
+
+            code.u1(ACONST_NULL).u1(ASTORE_3);
+            code.u1(ALOAD_1).u1(ASTORE_2);
+
+            // Tramo de éxito
+            for (int i = 0; i < n; i++) {
+                successAt[i] = code.size();
+                Pipeline.Kind kind = stages[i].kind();
+                switch (kind) {
+                    case MAP -> {
+                        loadField(code, "f", i, kind);
+                        code.u1(ALOAD_2);
+                        invokeInterface(code, FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", 2);
+                        code.u1(ASTORE_2);
+                    }
+                    case FLAT_MAP -> {
+                        loadField(code, "f", i, kind);
+                        code.u1(ALOAD_2);
+                        invokeInterface(code, FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", 2);
+                        code.u1(CHECKCAST).u2(classRef(RESULT));
+                        code.u1(ASTORE_3).u1(ALOAD_3);
+                        invokeInterface(code, RESULT, "isSuccess", "()Z", 1);
+                        jumps[jumpCount++] = new int[]{code.size(), 1, i + 1};
+                        code.u1(IFEQ).u2(0);
+                        code.u1(ALOAD_3);
+                        invokeInterface(code, RESULT, "getValue", "()Ljava/lang/Object;", 1);
+                        code.u1(ASTORE_2);
+                    }
+                    case PEEK -> {
+                        loadField(code, "f", i, kind);
+                        code.u1(ALOAD_2);
+                        invokeInterface(code, CONSUMER, "accept", "(Ljava/lang/Object;)V", 2);
+                    }
+                    case FILTER -> {
+                        loadField(code, "f", i, kind);
+                        code.u1(ALOAD_2);
+                        invokeInterface(code, PREDICATE, "test", "(Ljava/lang/Object;)Z", 2);
+                        int accepted = code.size();
+                        code.u1(IFNE).u2(0);
+                        loadField(code, "g", i, kind);
+                        code.u1(ASTORE_3);
+                        jumps[jumpCount++] = new int[]{code.size(), 1, i + 1};
+                        code.u1(GOTO).u2(0);
+                        code.patchBranch(accepted, code.size());
+                    }
+                    case VALIDATE -> {
+                        loadField(code, "f", i, kind);
+                        code.u1(ALOAD_2);
+                        invokeInterface(code, FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", 2);
+                        code.u1(CHECKCAST).u2(classRef(VALIDATION));
+                        code.u1(ASTORE).u1(VALIDATION_LOCAL);
+                        code.u1(ALOAD).u1(VALIDATION_LOCAL);
+                        invokeInterface(code, VALIDATION, "isValid", "()Z", 1);
+                        int valid = code.size();
+                        code.u1(IFNE).u2(0);
+                        code.u1(ALOAD).u1(VALIDATION_LOCAL);
+                        loadField(code, "g", i, kind);
+                        code.u1(INVOKESTATIC).u2(methodRef(COMPILER, "validationFailure",
+                                "(L" + VALIDATION + ";L" + FUNCTION + ";)L" + RESULT + ";"));
+                        code.u1(ASTORE_3);
+                        jumps[jumpCount++] = new int[]{code.size(), 1, i + 1};
+                        code.u1(GOTO).u2(0);
+                        code.patchBranch(valid, code.size());
+                        code.u1(ALOAD).u1(VALIDATION_LOCAL);
+                        invokeInterface(code, VALIDATION, "getValue", "()Ljava/lang/Object;", 1);
+                        code.u1(ASTORE_2);
+                    }
+                    case RECOVER, ON_FAILURE -> {
+                        // Sin efecto en el tramo de éxito
+                    }
+                    default -> throw new IllegalArgumentException("Unsupported stage: " + kind);
+                }
+            }
+            successAt[n] = code.size();
+            code.u1(ALOAD_2);
+            code.u1(INVOKESTATIC).u2(methodRef(COMPILER, "success", "(Ljava/lang/Object;)L" + RESULT + ";"));
+            code.u1(ARETURN);
+
+            // Tramo de fracaso
+            for (int i = 0; i < n; i++) {
+                failureAt[i] = code.size();
+                Pipeline.Kind kind = stages[i].kind();
+                if (kind == Pipeline.Kind.ON_FAILURE) {
+                    loadField(code, "f", i, kind);
+                    code.u1(ALOAD_3);
+                    invokeInterface(code, RESULT, "getError", "()Ljava/lang/Object;", 1);
+                    invokeInterface(code, CONSUMER, "accept", "(Ljava/lang/Object;)V", 2);
+                } else if (kind == Pipeline.Kind.RECOVER) {
+                    loadField(code, "f", i, kind);
+                    code.u1(ALOAD_3);
+                    invokeInterface(code, RESULT, "getError", "()Ljava/lang/Object;", 1);
+                    invokeInterface(code, FUNCTION, "apply", "(Ljava/lang/Object;)Ljava/lang/Object;", 2);
+                    code.u1(ASTORE_2);
+                    jumps[jumpCount++] = new int[]{code.size(), 0, i + 1};
+                    code.u1(GOTO).u2(0);
+                }
+            }
+            failureAt[n] = code.size();
+            code.u1(ALOAD_3).u1(ARETURN);
+
+            if (code.size() > Short.MAX_VALUE) {
+                throw new IllegalArgumentException("Pipeline too large to compile: " + n + " stages");
+            }
+            for (int j = 0; j < jumpCount; j++) {
+                int[] jump = jumps[j];
+                code.patchBranch(jump[0], jump[1] == 0 ? successAt[jump[2]] : failureAt[jump[2]]);
+            }
+            return code;
+        }
+
+        private void loadField(Bytes code, String prefix, int index, Pipeline.Kind kind) {
+            String descriptor = prefix.equals("f") ? fnDescriptor(kind) : argDescriptor(kind);
+            code.u1(ALOAD_0).u1(GETFIELD).u2(fieldRef(prefix + index, descriptor));
+        }
+
+        private void invokeInterface(Bytes code, String owner, String name, String descriptor, int argSlots) {
+            code.u1(INVOKEINTERFACE).u2(interfaceMethodRef(owner, name, descriptor)).u1(argSlots).u1(0);
+        }
+
+        private void method(Bytes methods, int access, String name, String descriptor, Bytes code, int maxStack, int maxLocals) {
+            methods.u2(access).u2(utf8(name)).u2(utf8(descriptor)).u2(1);
+            methods.u2(utf8("Code")).u4(12 + code.size());
+            methods.u2(maxStack).u2(maxLocals).u4(code.size()).append(code);
+            methods.u2(0).u2(0);
+        }
+
+        private static String fnDescriptor(Pipeline.Kind kind) {
+            return switch (kind) {
+                case MAP, FLAT_MAP, VALIDATE, RECOVER -> "L" + FUNCTION + ";";
+                case PEEK, ON_FAILURE -> "L" + CONSUMER + ";";
+                case FILTER -> "L" + PREDICATE + ";";
+                default -> throw new IllegalArgumentException("Unsupported stage: " + kind);
+            };
+        }
+
+        private static String argDescriptor(Pipeline.Kind kind) {
+            return switch (kind) {
+                case VALIDATE -> "L" + FUNCTION + ";";
+                case FILTER -> "L" + RESULT + ";";
+                default -> null;
+            };
+        }
+
+        // Pool de constantes
+
+        private int utf8(String value) {
+            return constant("U" + value, () -> pool.u1(1).utf(value));
+        }
+
+        private int classRef(String internalName) {
+            int name = utf8(internalName);
+            return constant("C" + internalName, () -> pool.u1(7).u2(name));
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            int n = utf8(name);
+            int d = utf8(descriptor);
+            return constant("N" + name + ":" + descriptor, () -> pool.u1(12).u2(n).u2(d));
+        }
+
+        private int fieldRef(String name, String descriptor) {
+            return memberRef(9, SELF, name, descriptor);
+        }
+
+        private int methodRef(String owner, String name, String descriptor) {
+            return memberRef(10, owner, name, descriptor);
+        }
+
+        private int interfaceMethodRef(String owner, String name, String descriptor) {
+            return memberRef(11, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            int c = classRef(owner);
+            int nt = nameAndType(name, descriptor);
+            return constant(tag + owner + "." + name + ":" + descriptor, () -> pool.u1(tag).u2(c).u2(nt));
+        }
+
+        private int constant(String key, Runnable writer) {
+            Integer index = constants.get(key);
+            if (index != null) {
+                return index;
+            }
+            writer.run();
+            constants.put(key, constantCount);
+            return constantCount++;
+        }
+    }
+
+    /**
+     * Buffer de bytes big-endian con soporte para parchear desplazamientos de saltos.
+     */
+    private static final class Bytes {
+
+        private byte[] data = new byte[256];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        Bytes u1(int value) {
+            ensure(1);
+            data[size++] = (byte) value;
+            return this;
+        }
+
+        Bytes u2(int value) {
+            return u1(value >>> 8).u1(value);
+        }
+
+        Bytes u4(int value) {
+            return u2(value >>> 16).u2(value);
+        }
+
+        Bytes utf(String value) {
+            Bytes encoded = new Bytes();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c != 0 && c < 0x80) {
+                    encoded.u1(c);
+                } else if (c < 0x800) {
+                    encoded.u1(0xC0 | (c >> 6)).u1(0x80 | (c & 0x3F));
+                } else {
+                    encoded.u1(0xE0 | (c >> 12)).u1(0x80 | ((c >> 6) & 0x3F)).u1(0x80 | (c & 0x3F));
+                }
+            }
+            return u2(encoded.size).append(encoded);
+        }
+
+        Bytes append(Bytes other) {
+            ensure(other.size);
+            System.arraycopy(other.data, 0, data, size, other.size);
+            size += other.size;
+            return this;
+        }
+
+        /**
+         * Escribe el desplazamiento relativo de la instrucción de salto ubicada en {@code opcodeAt}.
+         */
+        void patchBranch(int opcodeAt, int target) {
+            int offset = target - opcodeAt;
+            data[opcodeAt + 1] = (byte) (offset >>> 8);
+            data[opcodeAt + 2] = (byte) offset;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(data, size);
+        }
+
+        private void ensure(int extra) {
+            if (size + extra > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, size + extra));
+            }
+        }
+    }
+}
@@ -3,6 +3,9 @@ package co.g3a.functionalrop.core;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * {@code SyncResultPipeline} es una API fluida y completamente síncrona que permite encadenar operaciones
@@ -27,6 +30,16 @@ public class SyncResultPipeline<T, E> {
         return new SyncResultPipeline<>(Result.success(value));
     }
 
+    /**
+     * Inicializa una pipeline mutable de un solo hilo, que actualiza su estado en el lugar
+     * en lugar de crear un wrapper y un {@link Result} por operador.
+     *
+     * @see MutableResultPipeline
+     */
+    public static <T, E> MutableResultPipeline<T, E> mutable(T value) {
+        return new MutableResultPipeline<>(value);
+    }
+
     /**
      * Inicializa la pipeline con un resultado existente.
      */
@@ -39,7 +52,7 @@ public class SyncResultPipeline<T, E> {
      */
     public <U> SyncResultPipeline<U, E> map(Function<T, U> mapper) {
         if (!result.isSuccess()) {
-            return new SyncResultPipeline<>(Result.failure(result.getError()));
+            return propagate();
         }
         return new SyncResultPipeline<>(Result.success(mapper.apply(result.getValue())));
     }
@@ -49,7 +62,7 @@ public class SyncResultPipeline<T, E> {
      */
     public <U> SyncResultPipeline<U, E> flatMap(Function<T, Result<U, E>> mapper) {
         if (!result.isSuccess()) {
-            return new SyncResultPipeline<>(Result.failure(result.getError()));
+            return propagate();
         }
         return new SyncResultPipeline<>(mapper.apply(result.getValue()));
     }
@@ -68,14 +81,26 @@ public class SyncResultPipeline<T, E> {
      * Ejecuta una validación, convirtiendo a error si no pasa.
      */
     public SyncResultPipeline<T, E> validate(Function<T, ValidationResult<T>> validator, Function<String, E> errorMapper) {
+        return validateWith(validator, validation -> errorMapper.apply(validation.firstError()));
+    }
+
+    /**
+     * Ejecuta una validación basada en {@link ErrorCode}, traduciendo el primer código con la tabla.
+     */
+    public SyncResultPipeline<T, E> validate(Function<T, ValidationResult<T>> validator, ErrorCodeTable<E> errors) {
+        return validateWith(validator, errors::resolve);
+    }
+
+    private SyncResultPipeline<T, E> validateWith(Function<T, ValidationResult<T>> validator, Function<ValidationResult<T>, E> failure) {
         if (!result.isSuccess()) {
             return this;
         }
         ValidationResult<T> validation = validator.apply(result.getValue());
         if (validation.isValid()) {
-            return new SyncResultPipeline<>(Result.success(validation.getValue()));
+            T value = validation.getValue();
+            return value == result.getValue() ? this : new SyncResultPipeline<>(Result.success(value));
         }
-        return new SyncResultPipeline<>(Result.failure(errorMapper.apply(validation.getErrors().getFirst())));
+        return new SyncResultPipeline<>(Result.failure(failure.apply(validation)));
     }
 
     /**
@@ -121,4 +146,34 @@ public class SyncResultPipeline<T, E> {
     public Result<T, E> build() {
         return result;
     }
+
+    /**
+     * Finaliza la pipeline convirtiendo el valor exitoso a {@code int}.
+     * El {@link IntResult} resultante puede seguir encadenándose sin boxing.
+     */
+    public IntResult<E> mapToInt(ToIntFunction<? super T> mapper) {
+        return result.mapToInt(mapper);
+    }
+
+    /**
+     * Finaliza la pipeline convirtiendo el valor exitoso a {@code long}.
+     */
+    public LongResult<E> mapToLong(ToLongFunction<? super T> mapper) {
+        return result.mapToLong(mapper);
+    }
+
+    /**
+     * Finaliza la pipeline convirtiendo el valor exitoso a {@code double}.
+     */
+    public DoubleResult<E> mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return result.mapToDouble(mapper);
+    }
+
+    /**
+     * Reutiliza esta pipeline fallida con otro tipo de valor, sin crear un nuevo wrapper ni un nuevo fracaso.
+     */
+    @SuppressWarnings("unchecked")
+    private <U> SyncResultPipeline<U, E> propagate() {
+        return (SyncResultPipeline<U, E>) (SyncResultPipeline<?, ?>) this;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package co.g3a.functionalrop.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Límites de tiempo sobre etapas asíncronas, compartidos por los operadores con tiempo de {@link ResultPipeline}
+ * y {@link DeadEnd}. Todos los plazos se programan en {@link HashedWheelTimer#shared()}.
+ */
+final class Timeouts {
+
+    private Timeouts() {
+    }
+
+    /**
+     * Tarea diferida que todavía puede cancelarse.
+     */
+    interface Scheduled {
+        void cancel();
+    }
+
+    /**
+     * Ejecuta {@code task} luego de {@code nanos} nanosegundos. La tarea debe ser breve; el trabajo pesado
+     * debe despacharse a otro executor.
+     */
+    static Scheduled schedule(long nanos, Runnable task) {
+        HashedWheelTimer.Timeout timeout = HashedWheelTimer.shared().schedule(nanos, task);
+        return timeout::cancel;
+    }
+
+    /**
+     * Retorna una etapa que termina como {@code stage}, o con {@code fallback} si pasan {@code nanos}
+     * nanosegundos antes. La etapa original no se modifica, ya que puede estar compartida. Al vencer, el
+     * fallback se entrega en el executor asíncrono por defecto, para que las etapas dependientes no corran en el
+     * hilo del temporizador.
+     *
+     * @param stage    etapa a limitar
+     * @param nanos    tiempo máximo de espera; {@link Long#MAX_VALUE} significa sin límite
+     * @param fallback valor con el que se completa al vencer el plazo
+     * @param <R>      tipo del valor
+     * @return etapa limitada
+     */
+    static <R> CompletionStage<R> within(CompletionStage<R> stage, long nanos, R fallback) {
+        if (nanos == Long.MAX_VALUE) {
+            return stage;
+        }
+        CompletableFuture<R> future = stage.toCompletableFuture();
+        if (future.isDone()) {
+            return future;
+        }
+        if (nanos <= 0) {
+            return CompletableFuture.completedFuture(fallback);
+        }
+        CompletableFuture<R> bounded = future.copy();
+        Scheduled timeout = schedule(nanos, () -> bounded.completeAsync(() -> fallback));
+        bounded.whenComplete((result, ex) -> timeout.cancel());
+        return bounded;
+    }
+}
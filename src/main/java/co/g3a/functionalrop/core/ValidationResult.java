@@ -1,19 +1,61 @@
 package co.g3a.functionalrop.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
 /**
  * Representa el resultado de una validación: puede ser válido (un valor)
  * o inválido (una lista de errores).
+ * <p>
+ * Los errores pueden ser claves {@code String} ({@link Invalid}) o {@link ErrorCode} registrados
+ * ({@link InvalidCodes}). Estos últimos guardan los códigos en el orden en que fallaron las reglas, junto con
+ * un {@link ErrorSet} para consultarlos, y solo materializan la lista de claves si se llama {@link #getErrors()}.
+ * En ambos casos {@link #getErrors()} conserva el orden de las reglas y las repeticiones.
+ * Un {@code switch} exhaustivo sobre los subtipos debe cubrir también {@link InvalidCodes}.
  */
 public sealed interface ValidationResult<T>
-        permits ValidationResult.Valid, ValidationResult.Invalid {
+        permits ValidationResult.Valid, ValidationResult.Invalid, ValidationResult.InvalidCodes {
 
     boolean isValid();
     T getValue();
+
+    /**
+     * @return las claves de los errores, en el orden en que fallaron las reglas
+     * @throws IllegalStateException si el resultado es válido
+     */
     List<String> getErrors();
 
+    /**
+     * @return la clave del error de la primera regla que falló, sin materializar la lista de errores
+     * @throws IllegalStateException si el resultado es válido
+     */
+    default String firstError() {
+        return getErrors().getFirst();
+    }
+
+    /**
+     * @return el código del error de la primera regla que falló, o {@code null} si su clave no está registrada
+     * @throws IllegalStateException si el resultado es válido
+     */
+    default ErrorCode firstErrorCode() {
+        return ErrorCode.find(firstError());
+    }
+
+    /**
+     * @return los errores como {@link ErrorSet}; las claves no registradas se omiten
+     * @throws IllegalStateException si el resultado es válido
+     */
+    default ErrorSet getErrorCodes() {
+        ErrorSet codes = ErrorSet.EMPTY;
+        for (String key : getErrors()) {
+            ErrorCode code = ErrorCode.find(key);
+            if (code != null) codes = codes.with(code);
+        }
+        return codes;
+    }
+
     // 🟢 Factories
     static <T> ValidationResult<T> valid(T value) {
         return new Valid<>(value);
@@ -27,24 +69,133 @@ public sealed interface ValidationResult<T>
         return new Invalid<>(List.of(error));
     }
 
+    /**
+     * @param code código del error
+     * @return resultado inválido compartido para el código; no reserva memoria
+     */
+    static <T> ValidationResult<T> invalid(ErrorCode code) {
+        return code.invalid();
+    }
+
+    /**
+     * @param codes códigos de error; no puede estar vacío
+     * @return resultado inválido con los códigos, en orden de identificador
+     */
+    static <T> ValidationResult<T> invalid(ErrorSet codes) {
+        if (codes.isEmpty()) {
+            throw new IllegalArgumentException("ErrorSet must not be empty");
+        }
+        List<ErrorCode> failures = new ArrayList<>(codes.size());
+        for (ErrorCode code : codes) {
+            failures.add(code);
+        }
+        return new InvalidCodes<>(codes, Collections.unmodifiableList(failures));
+    }
+
     // 🧠 Transformar valor si es válido
+    @SuppressWarnings("unchecked")
     default <U> ValidationResult<U> map(Function<? super T, ? extends U> mapper) {
         return switch (this) {
             case Valid<T> v -> valid(mapper.apply(v.value()));
             case Invalid<T> i -> invalid(i.errors());
+            case InvalidCodes<T> i -> (ValidationResult<U>) (ValidationResult<?>) i;
         };
     }
 
     // ➕ Combinar múltiples validaciones y acumular errores
     static <T> ValidationResult<T> combine(List<ValidationResult<T>> results) {
-        List<String> allErrors = results.stream()
-                .filter(r -> !r.isValid())
-                .flatMap(r -> r.getErrors().stream())
-                .toList();
+        ErrorAccumulator errors = new ErrorAccumulator();
+        for (ValidationResult<T> r : results) {
+            if (!r.isValid()) errors.add(r);
+        }
+
+        if (errors.isEmpty()) return results.getFirst();
+        return errors.result();
+    }
+
+    // 🦥 Composición perezosa de reglas
+
+    /**
+     * Modo de composición de reglas de validación.
+     */
+    enum Mode {
+        /** Se detiene en la primera regla que falla; las siguientes no se evalúan. */
+        FAIL_FAST,
+        /** Evalúa todas las reglas y acumula sus errores. */
+        ACCUMULATE
+    }
+
+    /**
+     * Compone reglas en un validador que se detiene en la primera regla que falla.
+     * <p>
+     * Las reglas se evalúan en orden y solo hasta el primer fallo, cuyo {@link Invalid} se retorna tal cual.
+     * Es el modo adecuado cuando solo se usa el primer error, como en {@code ResultPipeline.validate}.
+     *
+     * @param rules reglas sobre el valor; su tipo de valor no importa, solo si son válidas
+     * @param <T>   tipo del valor validado
+     * @return validador que retorna {@code valid(value)} o el primer fallo
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> Function<T, ValidationResult<T>> failFast(Function<? super T, ? extends ValidationResult<?>>... rules) {
+        return compose(Mode.FAIL_FAST, rules.clone());
+    }
 
-        return allErrors.isEmpty()
-                ? results.getFirst()
-                : invalid(allErrors);
+    /**
+     * Compone reglas en un validador que evalúa todas y acumula sus errores.
+     * <p>
+     * No usa streams: si falla una sola regla, se retorna su {@link Invalid} tal cual, y la lista combinada
+     * solo se crea cuando falla una segunda regla. Si todas las reglas fallan con {@link ErrorCode}, los errores
+     * se acumulan como uniones de {@link ErrorSet}.
+     *
+     * @param rules reglas sobre el valor; su tipo de valor no importa, solo si son válidas
+     * @param <T>   tipo del valor validado
+     * @return validador que retorna {@code valid(value)} o los errores de todas las reglas que fallaron
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static <T> Function<T, ValidationResult<T>> accumulate(Function<? super T, ? extends ValidationResult<?>>... rules) {
+        return compose(Mode.ACCUMULATE, rules.clone());
+    }
+
+    /**
+     * Compone reglas según el {@link Mode} indicado.
+     *
+     * @param mode  modo de composición
+     * @param rules reglas sobre el valor
+     * @param <T>   tipo del valor validado
+     * @return validador compuesto
+     */
+    static <T> Function<T, ValidationResult<T>> compose(Mode mode, List<? extends Function<? super T, ? extends ValidationResult<?>>> rules) {
+        @SuppressWarnings("unchecked")
+        Function<? super T, ? extends ValidationResult<?>>[] array =
+                (Function<? super T, ? extends ValidationResult<?>>[]) new Function<?, ?>[rules.size()];
+        int i = 0;
+        for (Function<? super T, ? extends ValidationResult<?>> rule : rules) {
+            array[i++] = rule;
+        }
+        return compose(mode, array);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Function<T, ValidationResult<T>> compose(Mode mode, Function<? super T, ? extends ValidationResult<?>>[] rules) {
+        if (mode == Mode.FAIL_FAST) {
+            return value -> {
+                for (Function<? super T, ? extends ValidationResult<?>> rule : rules) {
+                    ValidationResult<?> r = rule.apply(value);
+                    if (!r.isValid()) return (ValidationResult<T>) r;
+                }
+                return valid(value);
+            };
+        }
+        return value -> {
+            ErrorAccumulator errors = new ErrorAccumulator();
+            for (Function<? super T, ? extends ValidationResult<?>> rule : rules) {
+                ValidationResult<?> r = rule.apply(value);
+                if (!r.isValid()) errors.add(r);
+            }
+            return errors.isEmpty() ? valid(value) : errors.result();
+        };
     }
 
     // ✅ Resultado válido
@@ -68,4 +219,33 @@ public sealed interface ValidationResult<T>
 
         @Override public List<String> getErrors() { return errors; }
     }
-}
\ No newline at end of file
+
+    // ❌ Resultado inválido con códigos registrados: failures en el orden de las reglas, codes para consultas
+    record InvalidCodes<T>(ErrorSet codes, List<ErrorCode> failures) implements ValidationResult<T> {
+        public InvalidCodes {
+            if (failures.isEmpty()) {
+                throw new IllegalArgumentException("failures must not be empty");
+            }
+        }
+
+        @Override public boolean isValid() { return false; }
+
+        @Override public T getValue() {
+            throw new IllegalStateException("Invalid does not contain a value");
+        }
+
+        @Override public List<String> getErrors() {
+            String[] keys = new String[failures.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = failures.get(i).key();
+            }
+            return List.of(keys);
+        }
+
+        @Override public String firstError() { return failures.getFirst().key(); }
+
+        @Override public ErrorCode firstErrorCode() { return failures.getFirst(); }
+
+        @Override public ErrorSet getErrorCodes() { return codes; }
+    }
+}
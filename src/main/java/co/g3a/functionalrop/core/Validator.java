@@ -0,0 +1,426 @@
+package co.g3a.functionalrop.core;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Validador precompilado: una definición inmutable de reglas por campo, aplanada en un arreglo de chequeos.
+ * <p>
+ * Cada campo y regla se compila una sola vez (por ejemplo, como campo {@code static final}) en un chequeo
+ * {@code T -> boolean} con su {@link ErrorCode}. Al validar solo se recorre el arreglo: no se crean listas,
+ * los campos numéricos no se encajonan y un fallo retorna el {@link ValidationResult} compartido de su código.
+ * {@link #firstError(Object)} y {@link #errors(Object)} no reservan memoria cuando el valor es válido.
+ * <p>
+ * Las reglas declaradas con nombre de campo permiten revalidación incremental: {@link #snapshot(Object)} guarda
+ * el estado de cada regla y {@link #revalidate(Snapshot, Object, Set)} vuelve a evaluar solo las reglas de los
+ * campos modificados, reutilizando el resto. Las reglas sin campo se evalúan siempre.
+ *
+ * <pre>{@code
+ * static final Validator<Request> REQUEST = Validator.<Request>failFast()
+ *         .string("email", r -> r.email, Rules.notBlank(EMPTY_EMAIL), Rules.email(INVALID_EMAIL))
+ *         .string("name", r -> r.name, Rules.minLength(3, SHORT_NAME))
+ *         .integer("age", r -> r.age, Rules.min(18, UNDERAGE));
+ *
+ * ResultPipeline.use(request).validate(REQUEST, ERRORES);
+ * }</pre>
+ *
+ * @param <T> tipo del valor validado
+ */
+public final class Validator<T> implements Function<T, ValidationResult<T>> {
+
+    private static final Predicate<?>[] NO_CHECKS = new Predicate<?>[0];
+    private static final ErrorCode[] NO_CODES = new ErrorCode[0];
+    private static final int[] NO_FIELD_IDS = new int[0];
+    private static final String[] NO_FIELDS = new String[0];
+
+    private final ValidationResult.Mode mode;
+    private final Predicate<? super T>[] checks;
+    private final ErrorCode[] codes;
+
+    /**
+     * Índice en {@link #fields} del campo de cada chequeo; {@code -1} si el chequeo no declara campo.
+     */
+    private final int[] fieldIds;
+    private final String[] fields;
+
+    private Validator(ValidationResult.Mode mode, Predicate<? super T>[] checks, ErrorCode[] codes,
+                      int[] fieldIds, String[] fields) {
+        this.mode = mode;
+        this.checks = checks;
+        this.codes = codes;
+        this.fieldIds = fieldIds;
+        this.fields = fields;
+    }
+
+    /**
+     * @param mode modo de composición de las reglas
+     * @param <T>  tipo del valor validado
+     * @return validador sin reglas
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Validator<T> define(ValidationResult.Mode mode) {
+        return new Validator<>(mode, (Predicate<? super T>[]) NO_CHECKS, NO_CODES, NO_FIELD_IDS, NO_FIELDS);
+    }
+
+    /**
+     * @return validador sin reglas que se detiene en la primera regla que falla
+     */
+    public static <T> Validator<T> failFast() {
+        return define(ValidationResult.Mode.FAIL_FAST);
+    }
+
+    /**
+     * @return validador sin reglas que evalúa todas y acumula sus códigos
+     */
+    public static <T> Validator<T> accumulate() {
+        return define(ValidationResult.Mode.ACCUMULATE);
+    }
+
+    /**
+     * Agrega reglas sobre un campo {@code String}, en el orden indicado.
+     *
+     * @param getter extractor del campo
+     * @param rules  reglas del campo
+     * @return nuevo validador con las reglas agregadas
+     */
+    public Validator<T> string(Function<? super T, String> getter, Rules.StringRule... rules) {
+        return string(null, getter, rules);
+    }
+
+    /**
+     * Agrega reglas sobre un campo {@code String} con nombre, para revalidación incremental.
+     *
+     * @param field  nombre del campo
+     * @param getter extractor del campo
+     * @param rules  reglas del campo
+     * @return nuevo validador con las reglas agregadas
+     */
+    public Validator<T> string(String field, Function<? super T, String> getter, Rules.StringRule... rules) {
+        Validator<T> next = this;
+        for (Rules.StringRule rule : rules) {
+            Predicate<String> check = rule.check();
+            next = next.check(field, value -> check.test(getter.apply(value)), rule.code());
+        }
+        return next;
+    }
+
+    /**
+     * Agrega reglas sobre un campo {@code int}, sin boxing.
+     *
+     * @param getter extractor del campo
+     * @param rules  reglas del campo
+     * @return nuevo validador con las reglas agregadas
+     */
+    public Validator<T> integer(ToIntFunction<? super T> getter, Rules.IntRule... rules) {
+        return integer(null, getter, rules);
+    }
+
+    /**
+     * Agrega reglas sobre un campo {@code int} con nombre, para revalidación incremental.
+     *
+     * @param field  nombre del campo
+     * @param getter extractor del campo
+     * @param rules  reglas del campo
+     * @return nuevo validador con las reglas agregadas
+     */
+    public Validator<T> integer(String field, ToIntFunction<? super T> getter, Rules.IntRule... rules) {
+        Validator<T> next = this;
+        for (Rules.IntRule rule : rules) {
+            var check = rule.check();
+            next = next.check(field, value -> check.test(getter.applyAsInt(value)), rule.code());
+        }
+        return next;
+    }
+
+    /**
+     * Agrega reglas sobre un campo {@code long}, sin boxing.
+     *
+     * @param getter extractor del campo
+     * @param rules  reglas del campo
+     * @return nuevo validador con las reglas agregadas
+     */
+    public Validator<T> longValue(ToLongFunction<? super T> getter, Rules.LongRule... rules) {
+        return longValue(null, getter, rules);
+    }
+
+    /**
+     * Agrega reglas sobre un campo {@code long} con nombre, para revalidación incremental.
+     *
+     * @param field  nombre del campo
+     * @param getter extractor del campo
+     * @param rules  reglas del campo
+     * @return nuevo validador con las reglas agregadas
+     */
+    public Validator<T> longValue(String field, ToLongFunction<? super T> getter, Rules.LongRule... rules) {
+        Validator<T> next = this;
+        for (Rules.LongRule rule : rules) {
+            var check = rule.check();
+            next = next.check(field, value -> check.test(getter.applyAsLong(value)), rule.code());
+        }
+        return next;
+    }
+
+    /**
+     * Agrega una regla sobre el valor completo.
+     *
+     * @param check condición que debe cumplir el valor
+     * @param code  código de error si no se cumple
+     * @return nuevo validador con la regla agregada
+     */
+    public Validator<T> check(Predicate<? super T> check, ErrorCode code) {
+        return check(null, check, code);
+    }
+
+    /**
+     * Agrega una regla sobre el valor completo que depende de un único campo.
+     *
+     * @param field nombre del campo del que depende la regla; {@code null} si depende de todo el valor
+     * @param check condición que debe cumplir el valor
+     * @param code  código de error si no se cumple
+     * @return nuevo validador con la regla agregada
+     */
+    public Validator<T> check(String field, Predicate<? super T> check, ErrorCode code) {
+        String[] nextFields = fields;
+        int fieldId = -1;
+        if (field != null) {
+            fieldId = Arrays.asList(fields).indexOf(field);
+            if (fieldId < 0) {
+                fieldId = fields.length;
+                nextFields = Arrays.copyOf(fields, fields.length + 1);
+                nextFields[fieldId] = field;
+            }
+        }
+        Predicate<? super T>[] nextChecks = Arrays.copyOf(checks, checks.length + 1);
+        ErrorCode[] nextCodes = Arrays.copyOf(codes, codes.length + 1);
+        int[] nextFieldIds = Arrays.copyOf(fieldIds, fieldIds.length + 1);
+        nextChecks[checks.length] = check;
+        nextCodes[codes.length] = code;
+        nextFieldIds[fieldIds.length] = fieldId;
+        return new Validator<>(mode, nextChecks, nextCodes, nextFieldIds, nextFields);
+    }
+
+    /**
+     * Valida el valor según el {@link ValidationResult.Mode} del validador.
+     *
+     * @param value valor a validar
+     * @return {@code valid(value)}, o el resultado inválido con el primer código (FAIL_FAST) o todos (ACCUMULATE)
+     */
+    @Override
+    public ValidationResult<T> apply(T value) {
+        if (mode == ValidationResult.Mode.FAIL_FAST) {
+            ErrorCode code = firstError(value);
+            return code == null ? ValidationResult.valid(value) : code.invalid();
+        }
+        ErrorAccumulator errors = new ErrorAccumulator();
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(value)) {
+                errors.add(codes[i].invalid());
+            }
+        }
+        return errors.isEmpty() ? ValidationResult.valid(value) : errors.result();
+    }
+
+    /**
+     * Evalúa las reglas en orden hasta la primera que falla.
+     *
+     * @param value valor a validar
+     * @return el código de la primera regla que falla, o {@code null} si el valor es válido
+     */
+    public ErrorCode firstError(T value) {
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(value)) {
+                return codes[i];
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Evalúa todas las reglas, sin importar el modo.
+     *
+     * @param value valor a validar
+     * @return los códigos de las reglas que fallan; {@link ErrorSet#EMPTY} si el valor es válido
+     */
+    public ErrorSet errors(T value) {
+        ErrorSet errors = ErrorSet.EMPTY;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(value)) {
+                errors = errors.with(codes[i]);
+            }
+        }
+        return errors;
+    }
+
+    /**
+     * @return cantidad de chequeos compilados
+     */
+    public int size() {
+        return checks.length;
+    }
+
+    // 🔁 Revalidación incremental
+
+    /**
+     * Evalúa todas las reglas y guarda el estado de cada una para revalidaciones posteriores.
+     *
+     * @param value valor a validar
+     * @return estado de validación del valor
+     */
+    public Snapshot<T> snapshot(T value) {
+        ErrorCode[] failed = new ErrorCode[checks.length];
+        int failures = 0;
+        for (int i = 0; i < checks.length; i++) {
+            if (!checks[i].test(value)) {
+                failed[i] = codes[i];
+                failures++;
+            }
+        }
+        return new Snapshot<>(this, value, failed, failures);
+    }
+
+    /**
+     * Revalida un valor actualizado evaluando solo las reglas de los campos modificados y las reglas sin campo;
+     * el resto conserva el estado de {@code previous}.
+     *
+     * @param previous      estado de la validación anterior, obtenido de este mismo validador
+     * @param updated       valor actualizado
+     * @param changedFields nombres de los campos modificados
+     * @return nuevo estado de validación
+     * @throws IllegalArgumentException si {@code previous} proviene de otro validador
+     */
+    public Snapshot<T> revalidate(Snapshot<T> previous, T updated, Set<String> changedFields) {
+        if (previous.validator != this) {
+            throw new IllegalArgumentException("Snapshot was created by a different validator");
+        }
+        boolean[] dirty = new boolean[fields.length];
+        for (int f = 0; f < fields.length; f++) {
+            dirty[f] = changedFields.contains(fields[f]);
+        }
+        ErrorCode[] failed = previous.failed.clone();
+        int failures = previous.failures;
+        for (int i = 0; i < checks.length; i++) {
+            int fieldId = fieldIds[i];
+            if (fieldId >= 0 && !dirty[fieldId]) {
+                continue;
+            }
+            ErrorCode now = checks[i].test(updated) ? null : codes[i];
+            if (failed[i] == null && now != null) {
+                failures++;
+            } else if (failed[i] != null && now == null) {
+                failures--;
+            }
+            failed[i] = now;
+        }
+        return new Snapshot<>(this, updated, failed, failures);
+    }
+
+    /**
+     * Estado inmutable de una validación: el valor y el resultado de cada regla.
+     *
+     * @param <T> tipo del valor validado
+     */
+    public static final class Snapshot<T> {
+
+        private final Validator<T> validator;
+        private final T value;
+        private final ErrorCode[] failed;
+        private final int failures;
+
+        private Snapshot(Validator<T> validator, T value, ErrorCode[] failed, int failures) {
+            this.validator = validator;
+            this.value = value;
+            this.failed = failed;
+            this.failures = failures;
+        }
+
+        /**
+         * @return el valor validado
+         */
+        public T value() {
+            return value;
+        }
+
+        /**
+         * @return true si todas las reglas se cumplen
+         */
+        public boolean isValid() {
+            return failures == 0;
+        }
+
+        /**
+         * @return el código de la primera regla que falla, o {@code null} si el valor es válido
+         */
+        public ErrorCode firstError() {
+            if (failures == 0) {
+                return null;
+            }
+            for (ErrorCode code : failed) {
+                if (code != null) {
+                    return code;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * @return los códigos de todas las reglas que fallan
+         */
+        public ErrorSet errors() {
+            ErrorSet errors = ErrorSet.EMPTY;
+            if (failures == 0) {
+                return errors;
+            }
+            for (ErrorCode code : failed) {
+                if (code != null) {
+                    errors = errors.with(code);
+                }
+            }
+            return errors;
+        }
+
+        /**
+         * @return el {@link ValidationResult} según el modo del validador, igual al de {@link Validator#apply(Object)}
+         */
+        public ValidationResult<T> result() {
+            if (failures == 0) {
+                return ValidationResult.valid(value);
+            }
+            return validator.mode == ValidationResult.Mode.FAIL_FAST
+                    ? firstError().invalid()
+                    : accumulated();
+        }
+
+        private ValidationResult<T> accumulated() {
+            ErrorAccumulator errors = new ErrorAccumulator();
+            for (ErrorCode code : failed) {
+                if (code != null) {
+                    errors.add(code.invalid());
+                }
+            }
+            return errors.result();
+        }
+
+        /**
+         * @param field nombre del campo
+         * @return el resultado de las reglas de ese campo, con el primer código que falla
+         * @throws IllegalArgumentException si el validador no declara el campo
+         */
+        public ValidationResult<T> field(String field) {
+            int fieldId = Arrays.asList(validator.fields).indexOf(field);
+            if (fieldId < 0) {
+                throw new IllegalArgumentException("Unknown field: " + field);
+            }
+            for (int i = 0; i < failed.length; i++) {
+                if (validator.fieldIds[i] == fieldId && failed[i] != null) {
+                    return failed[i].invalid();
+                }
+            }
+            return ValidationResult.valid(value);
+        }
+    }
+}
+
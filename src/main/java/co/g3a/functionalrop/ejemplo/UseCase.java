@@ -1,21 +1,117 @@
 package co.g3a.functionalrop.ejemplo;
 
 import co.g3a.functionalrop.core.*;
+import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
-import java.util.List;
+import java.util.Set;
 import java.util.concurrent.Executor;
-import java.util.function.Function;
 
 
 public class UseCase {
+    static final ErrorCode EMPTY_EMAIL = ErrorCode.register("empty_email");
+    static final ErrorCode INVALID_EMAIL = ErrorCode.register("invalid_email");
+    static final ErrorCode SHORT_NAME = ErrorCode.register("short_name");
+    static final ErrorCode EMPTY_PASSWORD = ErrorCode.register("empty_password");
+    static final ErrorCode SHORT_PASSWORD = ErrorCode.register("short_password");
+    static final ErrorCode UNDERAGE = ErrorCode.register("underage");
+
+    /**
+     * Traducción código → {@link AppError} por acceso a arreglo, sin {@code switch} sobre strings.
+     */
+    static final ErrorCodeTable<AppError> VALIDATION_ERRORS = ErrorCodeTable.<AppError>empty()
+            .with(EMPTY_EMAIL, new AppError.EmailBlank())
+            .with(INVALID_EMAIL, new AppError.EmailInvalid("unknown"))
+            .with(SHORT_NAME, new AppError.NameTooShort())
+            .with(EMPTY_PASSWORD, new AppError.PasswordBlank())
+            .with(SHORT_PASSWORD, new AppError.PasswordTooShort())
+            .with(UNDERAGE, new AppError.UnderAge(0));
+
     private final DeadEnd deadEnd;
 
+    /**
+     * Si la base de datos falla o responde lento en la mitad de los últimos 20 guardados, se deja de llamarla
+     * durante 10 segundos y {@code updateDb} falla de inmediato.
+     */
+    private final CircuitBreaker<AppError> dbBreaker = CircuitBreaker.<AppError>of(20, 0.5, Duration.ofSeconds(10),
+                    new AppError.DbError("Base de datos no disponible"))
+            .withSlowCalls(Duration.ofSeconds(2), 0.5)
+            .withMinimumCalls(10);
+
+    /**
+     * Flujo de registro definido una sola vez, en el primer uso, y reutilizado en cada petición. Se arma fuera del
+     * constructor porque sus pasos referencian métodos de instancia que una subclase puede sobrescribir.
+     */
+    private volatile Pipeline<Request, String, AppError> registroPipeline;
+
+    /**
+     * Pasos posteriores al guardado: el email y el código de activación solo dependen de {@code updateDb},
+     * así que corren en paralelo. Se arma en el primer uso, igual que el flujo de registro.
+     */
+    private volatile Dag<Request, String, AppError> activacionDag;
+
+    /**
+     * Formato de email del caso de uso: basta con que tenga {@code '@'} y {@code '.'}. Es más permisivo que
+     * {@link Rules#email(ErrorCode)}, que además exige la forma {@code local@dominio.tld}.
+     */
+    static final Rules.StringRule EMAIL_FORMAT = Rules.containsBoth('@', '.', INVALID_EMAIL);
+
+    /**
+     * Las reglas se compilan una sola vez y se detienen en la primera que falla,
+     * ya que el flujo de registro solo usa el primer error.
+     */
+    static final Validator<Request> REQUEST_VALIDATOR = requestRules(Validator.failFast());
+
+    /**
+     * Las mismas reglas, evaluadas todas, para {@link #validateRequest(Request)}: quien la llama recibe todos los
+     * errores de la petición, no solo el primero.
+     */
+    static final Validator<Request> REQUEST_ERRORS = requestRules(Validator.accumulate());
+
+    private static Validator<Request> requestRules(Validator<Request> validator) {
+        return validator
+                .string("email", r -> r.email, Rules.notBlank(EMPTY_EMAIL), EMAIL_FORMAT)
+                .string("name", r -> r.name, Rules.minLength(3, SHORT_NAME))
+                .string("password", r -> r.password, Rules.notBlank(EMPTY_PASSWORD), Rules.minLength(8, SHORT_PASSWORD))
+                .integer("age", r -> r.age, Rules.min(18, UNDERAGE));
+    }
+
     public UseCase() {
         Executor executor = Runnable::run;
         this.deadEnd = new DeadEnd(executor);
     }
 
+    /**
+     * Si dos hilos llegan a la vez ambos arman la definición; es inmutable, así que cualquiera de las dos sirve.
+     */
+    private Pipeline<Request, String, AppError> registroPipeline() {
+        Pipeline<Request, String, AppError> pipeline = registroPipeline;
+        if (pipeline == null) {
+            pipeline = Pipeline.<Request, AppError>define()
+                    .validate(REQUEST_VALIDATOR, VALIDATION_ERRORS)
+                    .map(this::canonicalizeEmail)
+                    .flatMapAsync(this::updateDb)
+                    .flatMapAsync(this::sendEmail)
+                    .flatMapAsync(this::generateActivationCode)
+                    .map(r -> "Success");
+            registroPipeline = pipeline;
+        }
+        return pipeline;
+    }
+
+    private Dag<Request, String, AppError> activacionDag() {
+        Dag<Request, String, AppError> graph = activacionDag;
+        if (graph == null) {
+            Dag.Builder<Request, AppError> dag = Dag.builder();
+            Dag.Node<Request> guardado = dag.stage(dag.input(), this::updateDb);
+            Dag.Node<Request> enviado = dag.stage(guardado, this::sendEmail);
+            Dag.Node<String> codigo = dag.stage(guardado, this::generateActivationCode);
+            graph = dag.build(dag.combine(enviado, codigo, (r, c) -> "Success"));
+            activacionDag = graph;
+        }
+        return graph;
+    }
+
     public static class Request {
         public String email;
         public String name;
@@ -41,55 +137,26 @@ public class UseCase {
     }
 
     public CompletionStage<Result<String, AppError>> executeUseCase(Request request) {
-        ValidationResult<Request> validation = validateRequest(request);
-        if (validation.isValid()) {
-            AppError error = mapValidationToAppError(validation.getErrors().getFirst());
+        ValidationResult<Request> validation = REQUEST_VALIDATOR.apply(request);
+        if (!validation.isValid()) {
+            AppError error = VALIDATION_ERRORS.get(validation.firstErrorCode());
             return CompletableFuture.completedFuture(Result.failure(error));
         }
 
         Request canonical = canonicalizeEmail(validation.getValue());
 
-        return updateDb(canonical)
-                .thenCompose(res -> res.flatMapAsync(this::sendEmail))
-                .thenCompose(res -> res.flatMapAsync(this::generateActivationCode))
-                .thenApply(res -> res.map(r -> "Success"));
+        return activacionDag().run(canonical);
     }
 
     public ValidationResult<Request> validateRequest(Request r) {
-        List<ValidationResult<Void>> validations = List.of(
-                validateNotEmpty(r.email, "empty_email"),
-                validateEmailFormat(r.email, "invalid_email"),
-                validateMinLength(r.name, 3, "short_name"),
-                validateNotEmpty(r.password, "empty_password"),
-                validateMinLength(r.password, 8, "short_password"),
-                validateMinAge(r.age, 18, "underage")
-        );
-
-        return ValidationResult.combine(validations).map(x -> r);
-    }
-
-    private ValidationResult<Void> validateNotEmpty(String value, String errorKey) {
-        return (value == null || value.trim().isEmpty())
-                ? ValidationResult.invalid(errorKey)
-                : ValidationResult.valid(null);
-    }
-
-    private ValidationResult<Void> validateMinLength(String value, int minLength, String errorKey) {
-        return (value == null || value.length() < minLength)
-                ? ValidationResult.invalid(errorKey)
-                : ValidationResult.valid(null);
-    }
-
-    private ValidationResult<Void> validateEmailFormat(String email, String errorKey) {
-        return (!email.contains("@") || !email.contains("."))
-                ? ValidationResult.invalid(errorKey)
-                : ValidationResult.valid(null);
+        return REQUEST_ERRORS.apply(r);
     }
 
-    private ValidationResult<Void> validateMinAge(int age, int minAge, String errorKey) {
-        return (age < minAge)
-                ? ValidationResult.invalid(errorKey)
-                : ValidationResult.valid(null);
+    /**
+     * Revalida una actualización parcial (PUT /usuario) evaluando solo las reglas de los campos modificados.
+     */
+    public Validator.Snapshot<Request> revalidateRequest(Validator.Snapshot<Request> previous, Request updated, Set<String> changedFields) {
+        return REQUEST_VALIDATOR.revalidate(previous, updated, changedFields);
     }
 
     public Request canonicalizeEmail(Request r) {
@@ -98,14 +165,15 @@ public class UseCase {
     }
 
     public CompletionStage<Result<Request, AppError>> updateDb(Request input) {
-        return deadEnd.runSafeResultTransform(
+        return deadEnd.runSafeResult(
                 input,
                 function -> {
                     System.out.println("🗃️ Guardando en base de datos: " + input.email);
                     sleep(100);
                     return Result.success(input);
                 },
-                ex -> new AppError.DbError("Error guardando en DB: " + ex.getMessage())
+                ex -> new AppError.DbError("Error guardando en DB: " + ex.getMessage()),
+                dbBreaker
         );
     }
 
@@ -144,15 +212,9 @@ public class UseCase {
     }
 
     public AppError mapValidationToAppError(String errorMessage) {
-        return switch (errorMessage) {
-            case "empty_email" -> new AppError.EmailBlank();
-            case "invalid_email" -> new AppError.EmailInvalid("unknown");
-            case "short_name" -> new AppError.NameTooShort();
-            case "empty_password" -> new AppError.PasswordBlank();
-            case "short_password" -> new AppError.PasswordTooShort();
-            case "underage" -> new AppError.UnderAge(0);
-            default -> new AppError.DbError(errorMessage); // fallback para mensajes no mapeados
-        };
+        ErrorCode code = ErrorCode.find(errorMessage);
+        AppError error = code != null ? VALIDATION_ERRORS.get(code) : null;
+        return error != null ? error : new AppError.DbError(errorMessage); // fallback para mensajes no mapeados
     }
 
     public static void main(String[] args) {
@@ -172,14 +234,8 @@ public class UseCase {
                 30
         );
 
-        ResultPipeline
-                .<Request, AppError>use(request) // 👈 Aseguras tipo explícito
-                .validate(this::validateRequest, this::mapValidationToAppError)
-                .map(this::canonicalizeEmail)
-                .flatMapAsync(this::updateDb)
-                .flatMapAsync(this::sendEmail)
-                .flatMapAsync(this::generateActivationCode)
-                .map(r -> "Success")
+        registroPipeline()
+                .run(request)
                 .thenAccept(result -> {
                     if (result.isSuccess()) {
                         System.out.println("✅ Resultado: " + result.getValue());
@@ -242,38 +298,13 @@ public class UseCase {
     }
 
     public CompletionStage<Result<DatosUsuario, AppError>> consultarDatosUsuarioParalelo(String userId) {
-        // Encapsular cada tarea como Function<String, CompletionStage<Result<Object>>>
-        Function<String, CompletionStage<Result<Object, AppError>>> nombreTask =
-                id -> buscarNombreUsuario(id).thenApply(r -> r.map(v -> (Object) v));
-
-        Function<String, CompletionStage<Result<Object, AppError>>> edadTask =
-                id -> buscarEdadUsuario(id).thenApply(r -> r.map(v -> (Object) v));
-
-        Function<String, CompletionStage<Result<Object, AppError>>> estadoTask =
-                id -> verificarCuentaActiva(id).thenApply(r -> r.map(v -> (Object) v));
-
-        List<Function<String, CompletionStage<Result<Object, AppError>>>> tasks = List.of(
-                nombreTask, edadTask, estadoTask
-        );
-
-        return ResultPipeline.runInParallelTyped(
-                userId,
-                tasks,
+        return ResultPipeline.zip3(
+                buscarNombreUsuario(userId),
+                buscarEdadUsuario(userId),
+                verificarCuentaActiva(userId),
+                DatosUsuario::new,
                 AppError.MultipleErrors::new
-        ).thenApply(result -> {
-            if (result.isSuccess()) {
-                List<Object> values = result.getValue();
-
-                String nombre = (String) values.get(0);
-                int edad = (Integer) values.get(1);
-                boolean activa = (Boolean) values.get(2);
-
-                DatosUsuario datosUsuario = new DatosUsuario(nombre, edad, activa);
-                return Result.success(datosUsuario);
-            } else {
-                return Result.failure(result.getError());
-            }
-        });
+        );
     }
 
 }
\ No newline at end of file
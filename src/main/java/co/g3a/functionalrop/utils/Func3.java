@@ -0,0 +1,9 @@
+package co.g3a.functionalrop.utils;
+
+/**
+ * Función de tres argumentos, usada por {@code ResultPipeline.zip3}.
+ */
+@FunctionalInterface
+public interface Func3<A, B, C, R> {
+    R apply(A a, B b, C c);
+}
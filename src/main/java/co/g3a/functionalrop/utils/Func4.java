@@ -0,0 +1,9 @@
+package co.g3a.functionalrop.utils;
+
+/**
+ * Función de cuatro argumentos, usada por {@code ResultPipeline.zip4}.
+ */
+@FunctionalInterface
+public interface Func4<A, B, C, D, R> {
+    R apply(A a, B b, C c, D d);
+}
@@ -0,0 +1,9 @@
+package co.g3a.functionalrop.utils;
+
+/**
+ * Función de cinco argumentos, usada por {@code ResultPipeline.zip5}.
+ */
+@FunctionalInterface
+public interface Func5<A, B, C, D, E, R> {
+    R apply(A a, B b, C c, D d, E e);
+}
@@ -0,0 +1,9 @@
+package co.g3a.functionalrop.utils;
+
+/**
+ * Función de seis argumentos, usada por {@code ResultPipeline.zip6}.
+ */
+@FunctionalInterface
+public interface Func6<A, B, C, D, E, F, R> {
+    R apply(A a, B b, C c, D d, E e, F f);
+}
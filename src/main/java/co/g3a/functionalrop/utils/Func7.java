@@ -0,0 +1,9 @@
+package co.g3a.functionalrop.utils;
+
+/**
+ * Función de siete argumentos, usada por {@code ResultPipeline.zip7}.
+ */
+@FunctionalInterface
+public interface Func7<A, B, C, D, E, F, G, R> {
+    R apply(A a, B b, C c, D d, E e, F f, G g);
+}
@@ -0,0 +1,9 @@
+package co.g3a.functionalrop.utils;
+
+/**
+ * Función de ocho argumentos, usada por {@code ResultPipeline.zip8}.
+ */
+@FunctionalInterface
+public interface Func8<A, B, C, D, E, F, G, H, R> {
+    R apply(A a, B b, C c, D d, E e, F f, G g, H h);
+}
@@ -0,0 +1,83 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkValidationTest {
+
+    private static final ErrorCode NEGATIVE = ErrorCode.register("test_bulk_negative");
+    private static final ErrorCode ODD = ErrorCode.register("test_bulk_odd");
+
+    private static final Validator<Integer> NON_NEGATIVE = Validator.<Integer>failFast().check(i -> i >= 0, NEGATIVE);
+
+    private static List<Integer> numbers(int size) {
+        return IntStream.range(0, size).map(i -> i % 1000 == 0 ? -i - 1 : i).boxed().toList();
+    }
+
+    @Test
+    void reports_failures_by_index_in_order() {
+        List<Integer> items = numbers(100_000);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            BulkValidationResult<Integer> report = BulkValidation.validateAll(items, NON_NEGATIVE, 256, pool);
+
+            assertEquals(100_000, report.size());
+            assertEquals(100, report.invalidCount());
+            assertFalse(report.isValid());
+            assertArrayEquals(IntStream.range(0, 100).map(i -> i * 1000).toArray(), report.invalidIndexes());
+            assertSame(ValidationResult.invalid(NEGATIVE), report.errorsAt(5000));
+            assertNull(report.errorsAt(5001));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallel_and_sequential_runs_agree() {
+        List<Integer> items = numbers(20_000);
+
+        BulkValidationResult<Integer> parallel = BulkValidation.validateAll(items, NON_NEGATIVE, 64, ForkJoinPool.commonPool());
+        BulkValidationResult<Integer> sequential = BulkValidation.validateAll(items, NON_NEGATIVE, Integer.MAX_VALUE, ForkJoinPool.commonPool());
+
+        assertArrayEquals(sequential.invalidIndexes(), parallel.invalidIndexes());
+    }
+
+    @Test
+    void arrays_and_non_random_access_lists_are_supported() {
+        Integer[] array = {1, -2, 3, -4};
+        List<Integer> linked = new LinkedList<>(List.of(1, -2, 3, -4));
+
+        assertArrayEquals(new int[]{1, 3}, BulkValidation.validateAll(array, NON_NEGATIVE).invalidIndexes());
+        assertArrayEquals(new int[]{1, 3}, BulkValidation.validateAll(linked, NON_NEGATIVE, 1, ForkJoinPool.commonPool()).invalidIndexes());
+        assertTrue(BulkValidation.validateAll(List.<Integer>of(), NON_NEGATIVE).isValid());
+    }
+
+    @Test
+    void combined_accumulates_all_error_codes() {
+        Validator<Integer> validator = Validator.<Integer>accumulate()
+                .check(i -> i >= 0, NEGATIVE)
+                .check(i -> i % 2 == 0, ODD);
+        List<Integer> items = List.of(2, -2, 3);
+
+        BulkValidationResult<Integer> report = BulkValidation.validateAll(items, validator);
+        List<Integer> visited = new ArrayList<>();
+        report.forEachInvalid((index, errors) -> visited.add(index));
+
+        assertEquals(List.of(1, 2), visited);
+        assertEquals(ErrorSet.of(NEGATIVE, ODD), report.combined(items).getErrorCodes());
+        assertTrue(BulkValidation.validateAll(List.of(2, 4), validator).combined(List.of(2, 4)).isValid());
+    }
+
+    @Test
+    void rejects_non_positive_threshold() {
+        assertThrows(IllegalArgumentException.class,
+                () -> BulkValidation.validateAll(List.of(1), NON_NEGATIVE, 0, ForkJoinPool.commonPool()));
+    }
+}
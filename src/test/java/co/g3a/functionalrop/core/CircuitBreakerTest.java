@@ -0,0 +1,163 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicInteger submitted = new AtomicInteger();
+    private final DeadEnd deadEnd = new DeadEnd(countingExecutor());
+
+    private Executor countingExecutor() {
+        return task -> {
+            submitted.incrementAndGet();
+            task.run();
+        };
+    }
+
+    private Result<String, String> call(CircuitBreaker<String> breaker, boolean fail) throws Exception {
+        return deadEnd.<String, String, String>runSafeResult(
+                "fila",
+                input -> {
+                    if (fail) {
+                        throw new IllegalStateException("DB caída");
+                    }
+                    return Result.success(input);
+                },
+                Throwable::getMessage,
+                breaker
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void opens_when_failure_rate_reaches_threshold() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(4, 0.5, Duration.ofMinutes(1), "CIRCUITO_ABIERTO");
+
+        call(breaker, false);
+        call(breaker, true);
+        call(breaker, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        call(breaker, true);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals(4, submitted.get());
+    }
+
+    @Test
+    void open_circuit_fails_fast_without_touching_the_executor() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(2, 1.0, Duration.ofMinutes(1), "CIRCUITO_ABIERTO")
+                .withMinimumCalls(1);
+        call(breaker, true);
+        int before = submitted.get();
+
+        Result<String, String> result = call(breaker, false);
+
+        assertEquals("CIRCUITO_ABIERTO", result.getError());
+        assertEquals(before, submitted.get());
+        assertEquals(1, breaker.rejectedCalls());
+    }
+
+    @Test
+    void half_open_probe_success_closes_the_circuit() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(2, 1.0, Duration.ofMillis(20), "CIRCUITO_ABIERTO")
+                .withMinimumCalls(1);
+        call(breaker, true);
+        Thread.sleep(40);
+
+        Result<String, String> probe = call(breaker, false);
+
+        assertEquals("fila", probe.getValue());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate());
+    }
+
+    @Test
+    void half_open_probe_failure_reopens_the_circuit() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(2, 1.0, Duration.ofMillis(20), "CIRCUITO_ABIERTO")
+                .withMinimumCalls(1);
+        call(breaker, true);
+        Thread.sleep(40);
+
+        assertEquals("DB caída", call(breaker, true).getError());
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertEquals("CIRCUITO_ABIERTO", call(breaker, false).getError());
+    }
+
+    @Test
+    void half_open_admits_only_the_configured_probes() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(2, 1.0, Duration.ofMillis(20), "CIRCUITO_ABIERTO")
+                .withSlowCalls(Duration.ofMinutes(1), 1.0)
+                .withMinimumCalls(1);
+        call(breaker, true);
+        Thread.sleep(40);
+        CompletableFuture<Result<String, String>> probe = new CompletableFuture<>();
+
+        breaker.execute(() -> probe);
+        Result<String, String> second = breaker.<String>execute(() -> CompletableFuture.completedFuture(Result.success("x")))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("CIRCUITO_ABIERTO", second.getError());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        for (int i = 0; i < 1000; i++) {
+            breaker.execute(() -> CompletableFuture.completedFuture(Result.success("x")));
+        }
+        assertEquals(1001, breaker.rejectedCalls());
+        probe.complete(Result.success("ok"));
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void stuck_probe_reopens_the_circuit() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(2, 1.0, Duration.ofMillis(20), "CIRCUITO_ABIERTO")
+                .withMinimumCalls(1);
+        call(breaker, true);
+        Thread.sleep(40);
+        CompletableFuture<Result<String, String>> probe = new CompletableFuture<>();
+
+        breaker.execute(() -> probe);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        Thread.sleep(80);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        probe.complete(Result.success("tarde"));
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void slow_calls_open_the_circuit() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(2, 1.0, Duration.ofMinutes(1), "CIRCUITO_ABIERTO")
+                .withSlowCalls(Duration.ofMillis(10), 1.0)
+                .withMinimumCalls(1);
+
+        deadEnd.<String, String, String>runSafeResult("fila", input -> {
+            Thread.sleep(30);
+            return Result.success(input);
+        }, Throwable::getMessage, breaker).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    void window_forgets_old_failures() throws Exception {
+        CircuitBreaker<String> breaker = CircuitBreaker.of(4, 0.75, Duration.ofMinutes(1), "CIRCUITO_ABIERTO");
+
+        call(breaker, true);
+        call(breaker, true);
+        call(breaker, false);
+        call(breaker, false);
+        assertEquals(0.5, breaker.failureRate());
+        call(breaker, false);
+        call(breaker, true);
+
+        assertEquals(0.25, breaker.failureRate());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
@@ -0,0 +1,104 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DagTest {
+
+    @Test
+    void runs_independent_branches_concurrently() throws Exception {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        Dag.Builder<Integer, String> dag = Dag.builder();
+        Dag.Node<Integer> base = dag.map(dag.input(), i -> i + 1);
+        Dag.Node<Integer> left = dag.stage(base, i -> awaitSibling(bothStarted, i * 10));
+        Dag.Node<Integer> right = dag.stage(base, i -> awaitSibling(bothStarted, i * 100));
+        Dag<Integer, Integer, String> sum = dag.build(dag.combine(left, right, Integer::sum));
+
+        Result<Integer, String> result = sum.run(1).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess());
+        assertEquals(220, result.getValue());
+    }
+
+    @Test
+    void failure_skips_dependent_stages_and_propagates_same_instance() {
+        AtomicInteger calls = new AtomicInteger();
+        Result<Integer, String> failure = Result.failure("db down");
+        Dag.Builder<Integer, String> dag = Dag.builder();
+        Dag.Node<Integer> saved = dag.stage(dag.input(), i -> CompletableFuture.completedFuture(failure));
+        Dag.Node<Integer> email = dag.stage(saved, i -> {
+            calls.incrementAndGet();
+            return CompletableFuture.completedFuture(Result.success(i));
+        });
+
+        Result<Integer, String> result = dag.build(email).run(1).toCompletableFuture().join();
+
+        assertSame(failure, result);
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void first_input_failure_completes_without_waiting_for_second() {
+        CompletableFuture<Result<Integer, String>> slow = new CompletableFuture<>();
+        Dag.Builder<Integer, String> dag = Dag.builder();
+        Dag.Node<Integer> failing = dag.stage(dag.input(), i -> CompletableFuture.completedFuture(Result.failure("E1")));
+        Dag.Node<Integer> pending = dag.stage(dag.input(), i -> slow);
+
+        CompletionStage<Result<Integer, String>> result = dag.build(dag.combine(failing, pending, Integer::sum)).run(1);
+
+        assertEquals("E1", result.toCompletableFuture().getNow(null).getError());
+    }
+
+    @Test
+    void first_failing_input_in_argument_order_wins() {
+        CompletableFuture<Result<Integer, String>> first = new CompletableFuture<>();
+        Dag.Builder<Integer, String> dag = Dag.builder();
+        Dag.Node<Integer> a = dag.stage(dag.input(), i -> first);
+        Dag.Node<Integer> b = dag.stage(dag.input(), i -> CompletableFuture.completedFuture(Result.failure("E2")));
+
+        CompletionStage<Result<Integer, String>> result = dag.build(dag.combine(a, b, Integer::sum)).run(1);
+        assertFalse(result.toCompletableFuture().isDone());
+
+        first.complete(Result.failure("E1"));
+        assertEquals("E1", result.toCompletableFuture().join().getError());
+    }
+
+    @Test
+    void nodes_not_reaching_the_output_are_not_run() {
+        AtomicInteger calls = new AtomicInteger();
+        Dag.Builder<Integer, String> dag = Dag.builder();
+        Dag.Node<Integer> doubled = dag.map(dag.input(), i -> i * 2);
+        dag.map(dag.input(), i -> calls.incrementAndGet());
+
+        Dag<Integer, Integer, String> definition = dag.build(doubled);
+
+        assertEquals(8, definition.run(4).toCompletableFuture().join().getValue());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void rejects_nodes_from_another_builder() {
+        Dag.Builder<Integer, String> one = Dag.builder();
+        Dag.Builder<Integer, String> other = Dag.builder();
+
+        assertThrows(IllegalArgumentException.class, () -> one.map(other.input(), i -> i));
+    }
+
+    private static CompletionStage<Result<Integer, String>> awaitSibling(CountDownLatch latch, int value) {
+        return CompletableFuture.supplyAsync(() -> {
+            latch.countDown();
+            try {
+                return latch.await(5, TimeUnit.SECONDS) ? Result.success(value) : Result.failure("sequential");
+            } catch (InterruptedException e) {
+                return Result.failure("interrupted");
+            }
+        });
+    }
+}
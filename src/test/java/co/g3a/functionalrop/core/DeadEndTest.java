@@ -68,4 +68,47 @@ public class DeadEndTest {
         assertEquals("Resultado calculado: 10", result.getValue());
     }
 
-}
\ No newline at end of file
+    @Test
+    void runSafeResult_returnsFailureInsteadOfThrowing() {
+        CompletionStage<Result<String, AppError>> future = deadEnd.runSafeResult(
+                "Fallando",
+                val -> { throw new RuntimeException("💥 BOOM"); },
+                ex -> new AppError.DbError("Falló con: " + ex.getMessage())
+        );
+
+        Result<String, AppError> result = future.toCompletableFuture().join();
+
+        assertFalse(result.isSuccess());
+        assertEquals(new AppError.DbError("Falló con: 💥 BOOM"), result.getError());
+    }
+
+    @Test
+    void runSafeResult_handlesCheckedExceptionsWithoutWrapping() {
+        CompletionStage<Result<String, Throwable>> future = deadEnd.runSafeResult(
+                "archivo.txt",
+                name -> { throw new java.io.IOException("no existe: " + name); },
+                ex -> ex
+        );
+
+        Throwable error = future.toCompletableFuture().join().getError();
+
+        assertInstanceOf(java.io.IOException.class, error);
+        assertEquals("no existe: archivo.txt", error.getMessage());
+    }
+
+    @Test
+    void stacklessCause_keepsTypeAndMessageWithoutTrace() {
+        CompletionStage<Result<String, StacklessCause>> future = deadEnd.runSafeResult(
+                "x",
+                val -> { throw new IllegalStateException("pool agotado"); },
+                StacklessCause::of
+        );
+
+        StacklessCause cause = future.toCompletableFuture().join().getError();
+
+        assertEquals(IllegalStateException.class.getName(), cause.causeType());
+        assertEquals(IllegalStateException.class.getName() + ": pool agotado", cause.getMessage());
+        assertEquals(0, cause.getStackTrace().length);
+        assertNull(cause.getCause());
+    }
+}
@@ -0,0 +1,176 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListResourceBundle;
+import java.util.ResourceBundle;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ErrorSetTest {
+
+    private static final ErrorCode A = ErrorCode.register("test_set_a");
+    private static final ErrorCode B = ErrorCode.register("test_set_b");
+    private static final ErrorCode C = ErrorCode.register("test_set_c");
+
+    @Test
+    void register_is_idempotent_and_assigns_stable_ids() {
+        assertSame(A, ErrorCode.register("test_set_a"));
+        assertSame(A, ErrorCode.find("test_set_a"));
+        assertSame(A, ErrorCode.byId(A.id()));
+        assertNull(ErrorCode.find("test_set_unknown"));
+        assertTrue(A.id() < B.id() && B.id() < C.id());
+    }
+
+    @Test
+    void set_operations_follow_id_order() {
+        ErrorSet set = ErrorSet.of(C, A);
+
+        assertEquals(2, set.size());
+        assertTrue(set.contains(A));
+        assertFalse(set.contains(B));
+        assertSame(A, set.first());
+        assertEquals(List.of("test_set_a", "test_set_c"), set.keys());
+
+        List<ErrorCode> iterated = new ArrayList<>();
+        set.forEach(iterated::add);
+        assertEquals(List.of(A, C), iterated);
+    }
+
+    @Test
+    void with_and_union_reuse_instances_when_nothing_is_added() {
+        ErrorSet set = ErrorSet.of(A, B);
+
+        assertSame(set, set.with(A));
+        assertSame(set, set.union(A.asSet()));
+        assertSame(set, A.asSet().union(set));
+        assertEquals(ErrorSet.of(A, B, C), set.union(C.asSet()));
+        assertTrue(ErrorSet.EMPTY.isEmpty());
+    }
+
+    @Test
+    void codes_beyond_the_first_word_are_supported() {
+        List<ErrorCode> many = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            many.add(ErrorCode.register("test_set_many_" + i));
+        }
+        ErrorSet set = ErrorSet.of(many.getLast(), A);
+
+        assertEquals(2, set.size());
+        assertSame(A, set.first());
+        assertTrue(set.contains(many.getLast()));
+        assertFalse(set.contains(many.getFirst()));
+    }
+
+    @Test
+    void invalid_from_code_is_shared_and_lazy() {
+        ValidationResult<String> first = ValidationResult.invalid(A);
+        ValidationResult<Integer> second = ValidationResult.invalid(A);
+
+        assertSame(first, second);
+        assertFalse(first.isValid());
+        assertEquals("test_set_a", first.firstError());
+        assertSame(A, first.firstErrorCode());
+        assertEquals(List.of("test_set_a"), first.getErrors());
+    }
+
+    @Test
+    void accumulate_unions_codes_and_keeps_rule_order() {
+        ValidationResult<String> result = ValidationResult.<String>accumulate(
+                s -> ValidationResult.invalid(C),
+                s -> ValidationResult.valid(s),
+                s -> ValidationResult.invalid(A)
+        ).apply("x");
+
+        assertEquals(ErrorSet.of(A, C), result.getErrorCodes());
+        assertEquals(List.of("test_set_c", "test_set_a"), result.getErrors());
+        assertSame(C, result.firstErrorCode());
+    }
+
+    @Test
+    void codes_and_strings_give_the_same_order_and_repetitions() {
+        ValidationResult<String> codes = ValidationResult.<String>accumulate(
+                s -> ValidationResult.invalid(C),
+                s -> ValidationResult.invalid(A),
+                s -> ValidationResult.invalid(C)
+        ).apply("x");
+        ValidationResult<String> strings = ValidationResult.<String>accumulate(
+                s -> ValidationResult.invalid("test_set_c"),
+                s -> ValidationResult.invalid("test_set_a"),
+                s -> ValidationResult.invalid("test_set_c")
+        ).apply("x");
+        ValidationResult<String> compiled = Validator.<String>accumulate()
+                .check(s -> false, C)
+                .check(s -> false, A)
+                .check(s -> false, C)
+                .apply("x");
+
+        assertEquals(strings.getErrors(), codes.getErrors());
+        assertEquals(strings.getErrors(), compiled.getErrors());
+        assertEquals(strings.getErrors(), Validator.<String>accumulate()
+                .check(s -> false, C)
+                .check(s -> false, A)
+                .check(s -> false, C)
+                .snapshot("x").result().getErrors());
+        assertEquals(ErrorSet.of(A, C), compiled.getErrorCodes());
+    }
+
+    @Test
+    void rule_order_survives_the_fall_back_to_keys() {
+        ValidationResult<String> result = ValidationResult.combine(List.of(
+                ValidationResult.<String>accumulate(
+                        s -> ValidationResult.invalid(C),
+                        s -> ValidationResult.invalid(B)
+                ).apply("x"),
+                ValidationResult.invalid(A),
+                ValidationResult.invalid("otro")
+        ));
+
+        assertEquals(List.of("test_set_c", "test_set_b", "test_set_a", "otro"), result.getErrors());
+    }
+
+    @Test
+    void mixing_codes_and_strings_falls_back_to_keys() {
+        ValidationResult<String> result = ValidationResult.combine(List.of(
+                ValidationResult.invalid(A),
+                ValidationResult.invalid("otro")
+        ));
+
+        assertEquals(List.of("test_set_a", "otro"), result.getErrors());
+        assertEquals(ErrorSet.of(A), result.getErrorCodes());
+    }
+
+    @Test
+    void table_maps_codes_and_pipelines_use_it() {
+        ErrorCodeTable<String> table = ErrorCodeTable.<String>empty().with(A, "error A").with(B, "error B");
+
+        assertEquals("error B", table.get(B));
+        assertNull(table.get(C));
+        assertEquals("none", table.getOrDefault(C, "none"));
+
+        Result<String, String> result = SyncResultPipeline.<String, String>use("x")
+                .validate(s -> ValidationResult.invalid(B), table)
+                .build();
+        assertEquals("error B", result.getError());
+
+        assertThrows(IllegalStateException.class, () -> SyncResultPipeline.<String, String>use("x")
+                .validate(s -> ValidationResult.invalid(C), table));
+    }
+
+    @Test
+    void messages_table_reads_registered_keys_from_bundle() {
+        ResourceBundle bundle = new ListResourceBundle() {
+            @Override
+            protected Object[][] getContents() {
+                return new Object[][]{{"test_set_a", "Mensaje A"}};
+            }
+        };
+
+        ErrorCodeTable<String> messages = ErrorCodeTable.messages(bundle);
+
+        assertEquals("Mensaje A", messages.get(A));
+        assertNull(messages.get(B));
+    }
+}
@@ -0,0 +1,144 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FanOutTest {
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().toList();
+    }
+
+    @Test
+    void never_exceeds_max_in_flight() throws Exception {
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        AtomicInteger delivered = new AtomicInteger();
+
+        FanOut.<Integer, Integer, String>forEach(range(2_000), i -> {
+            peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return Result.success(i);
+            });
+        }, 8, (i, r) -> delivered.incrementAndGet()).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(2_000, delivered.get());
+        assertTrue(peak.get() <= 8, "peak " + peak.get());
+    }
+
+    @Test
+    void delivers_in_completion_order() throws Exception {
+        List<CompletableFuture<Result<String, String>>> pending = List.of(new CompletableFuture<>(), new CompletableFuture<>());
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        CompletionStage<Void> done = FanOut.forEach(List.of(0, 1), pending::get, 2, (i, r) -> order.add(i));
+        pending.get(1).complete(Result.success("b"));
+        pending.get(0).complete(Result.success("a"));
+        done.toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1, 0), order);
+    }
+
+    @Test
+    void ordered_variant_reorders_within_the_window() throws Exception {
+        List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+
+        FanOut.<Integer, Integer, String>forEachOrdered(range(500), i -> CompletableFuture.supplyAsync(() -> {
+            if (i % 7 == 0) {
+                sleep(2);
+            }
+            return Result.success(i);
+        }), 16, (i, r) -> order.add(r.getValue())).toCompletableFuture().get(10, TimeUnit.SECONDS);
+
+        assertEquals(range(500), order);
+    }
+
+    @Test
+    void publisher_respects_demand() {
+        AtomicInteger started = new AtomicInteger();
+        List<Long> received = new ArrayList<>();
+        AtomicReference<Flow.Subscription> subscription = new AtomicReference<>();
+
+        FanOut.<Integer, Integer, String>publishOrdered(range(100), i -> {
+            started.incrementAndGet();
+            return CompletableFuture.completedFuture(Result.success(i));
+        }, 4).subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription.set(s);
+            }
+
+            @Override
+            public void onNext(FanOut.Completion<Integer, Integer, String> item) {
+                received.add(item.index());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+
+        assertEquals(4, started.get());
+        subscription.get().request(2);
+        assertEquals(List.of(0L, 1L), received);
+        assertEquals(6, started.get());
+    }
+
+    @Test
+    void task_exception_stops_the_fan_out() {
+        AtomicInteger started = new AtomicInteger();
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> FanOut.<Integer, Integer, String>forEach(range(1_000), i -> {
+            started.incrementAndGet();
+            if (i == 3) {
+                throw new IllegalStateException("boom");
+            }
+            return CompletableFuture.completedFuture(Result.success(i));
+        }, 2, (i, r) -> {
+        }).toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertEquals(4, started.get());
+    }
+
+    @Test
+    void failures_are_delivered_as_results() throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+
+        FanOut.<Integer, Integer, String>forEach(range(10), i -> CompletableFuture.completedFuture(
+                i % 2 == 0 ? Result.failure("even") : Result.success(i)
+        ), 3, (i, r) -> {
+            if (!r.isSuccess()) {
+                failures.incrementAndGet();
+            }
+        }).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals(5, failures.get());
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
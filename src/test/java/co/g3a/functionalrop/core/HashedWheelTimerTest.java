@@ -0,0 +1,122 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HashedWheelTimerTest {
+
+    @Test
+    void task_runs_after_its_delay() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8, "test-timer");
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        HashedWheelTimer.Timeout timeout = timer.schedule(Duration.ofMillis(30), fired::countDown);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(30).toNanos());
+        assertTrue(timeout.isExpired());
+        assertEquals(0, timer.pendingTimers());
+    }
+
+    @Test
+    void delays_longer_than_one_rotation_wait_their_rounds() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 4, "test-timer");
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        timer.schedule(Duration.ofMillis(25), fired::countDown);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(25).toNanos());
+    }
+
+    @Test
+    void cancelled_timeouts_never_run() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 64, "test-timer");
+        AtomicInteger runs = new AtomicInteger();
+        List<HashedWheelTimer.Timeout> timeouts = new ArrayList<>();
+
+        for (int i = 0; i < 10_000; i++) {
+            timeouts.add(timer.schedule(Duration.ofMillis(20), runs::incrementAndGet));
+        }
+        assertEquals(10_000, timer.pendingTimers());
+        for (HashedWheelTimer.Timeout timeout : timeouts) {
+            assertTrue(timeout.cancel());
+        }
+        Thread.sleep(60);
+
+        assertEquals(0, runs.get());
+        assertEquals(0, timer.pendingTimers());
+        assertFalse(timeouts.get(0).cancel());
+        assertTrue(timeouts.get(0).isCancelled());
+    }
+
+    @Test
+    void wakes_up_after_being_idle() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8, "test-timer");
+        CountDownLatch first = new CountDownLatch(1);
+        timer.schedule(Duration.ZERO, first::countDown);
+        assertTrue(first.await(5, TimeUnit.SECONDS));
+        Thread.sleep(50);
+
+        CountDownLatch second = new CountDownLatch(1);
+        timer.schedule(Duration.ofMillis(5), second::countDown);
+
+        assertTrue(second.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void failing_task_does_not_stop_the_timer() throws Exception {
+        HashedWheelTimer timer = new HashedWheelTimer(Duration.ofMillis(1), 8, "test-timer");
+        CountDownLatch fired = new CountDownLatch(1);
+
+        timer.schedule(Duration.ofMillis(1), () -> {
+            throw new IllegalStateException("boom");
+        });
+        timer.schedule(Duration.ofMillis(3), fired::countDown);
+
+        assertTrue(fired.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void timeout_operator_releases_its_timer_when_the_stage_completes() throws Exception {
+        CompletableFuture<Result<String, String>> slow = new CompletableFuture<>();
+        long before = HashedWheelTimer.shared().pendingTimers();
+
+        CompletableFuture<Result<String, String>> stage = ResultPipeline.<String, String>use("id")
+                .flatMapAsync(id -> slow)
+                .timeout(Duration.ofSeconds(30), "TIMEOUT")
+                .build().toCompletableFuture();
+        assertEquals(before + 1, HashedWheelTimer.shared().pendingTimers());
+        slow.complete(Result.success("nombre"));
+
+        assertEquals("nombre", stage.get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(before, HashedWheelTimer.shared().pendingTimers());
+        assertTrue(HashedWheelTimer.shared().tickLag().compareTo(Duration.ofSeconds(1)) < 0);
+    }
+
+    @Test
+    void timed_out_stages_continue_off_the_timer_thread() throws Exception {
+        AtomicReference<String> thread = new AtomicReference<>();
+
+        Result<String, String> result = ResultPipeline.<String, String>use("id")
+                .flatMapAsync(id -> new CompletableFuture<Result<String, String>>())
+                .timeout(Duration.ofMillis(10), "TIMEOUT")
+                .onFailure(e -> thread.set(Thread.currentThread().getName()))
+                .build().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("TIMEOUT", result.getError());
+        assertNotEquals("rop-timer", thread.get());
+    }
+}
@@ -0,0 +1,127 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HedgePolicyTest {
+
+    @Test
+    void fast_primary_does_not_hedge() throws Exception {
+        HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(200), 2);
+        AtomicInteger attempts = new AtomicInteger();
+
+        Result<String, String> result = ResultPipeline.<String, String>use("id")
+                .flatMapAsyncHedged(id -> {
+                    attempts.incrementAndGet();
+                    return CompletableFuture.completedFuture(Result.success("nombre"));
+                }, policy)
+                .build().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("nombre", result.getValue());
+        assertEquals(1, attempts.get());
+        assertEquals(1, policy.calls());
+        assertEquals(0, policy.hedges());
+    }
+
+    @Test
+    void slow_primary_is_hedged_and_cancelled() throws Exception {
+        HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(20), 1);
+        List<CompletableFuture<Result<String, String>>> attempts = new CopyOnWriteArrayList<>();
+
+        Result<String, String> result = ResultPipeline.<String, String>use("id")
+                .flatMapAsyncHedged(id -> {
+                    CompletableFuture<Result<String, String>> attempt = attempts.isEmpty()
+                            ? new CompletableFuture<>()
+                            : CompletableFuture.completedFuture(Result.success("respaldo"));
+                    attempts.add(attempt);
+                    return attempt;
+                }, policy)
+                .build().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("respaldo", result.getValue());
+        assertEquals(2, attempts.size());
+        assertTrue(attempts.get(0).isCancelled());
+        assertEquals(1, policy.hedges());
+        assertEquals(1, policy.hedgeWins());
+        assertEquals(1.0, policy.winRate());
+    }
+
+    @Test
+    void failure_waits_for_attempts_in_flight() throws Exception {
+        HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(10), 1);
+        CompletableFuture<Result<String, String>> primary = new CompletableFuture<>();
+        AtomicInteger calls = new AtomicInteger();
+
+        CompletionStage<Result<String, String>> stage = policy.execute(() -> calls.getAndIncrement() == 0
+                ? primary
+                : CompletableFuture.completedFuture(Result.failure("E-hedge")));
+
+        Thread.sleep(100);
+        assertFalse(stage.toCompletableFuture().isDone());
+        primary.complete(Result.success("ok"));
+
+        assertEquals("ok", stage.toCompletableFuture().get(5, TimeUnit.SECONDS).getValue());
+        assertEquals(0, policy.hedgeWins());
+    }
+
+    @Test
+    void failure_is_returned_once_nothing_is_in_flight() throws Exception {
+        HedgePolicy policy = HedgePolicy.fixed(Duration.ofSeconds(10), 3);
+
+        Result<String, String> result = policy.<String, String>execute(
+                () -> CompletableFuture.completedFuture(Result.failure("E1"))
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("E1", result.getError());
+        assertEquals(0, policy.hedges());
+    }
+
+    @Test
+    void percentile_policy_adapts_to_observed_latency() {
+        HedgePolicy policy = HedgePolicy.percentile(0.9, 1, Duration.ofSeconds(1));
+
+        for (int i = 0; i < 1024; i++) {
+            policy.execute(() -> CompletableFuture.completedFuture(Result.success(1))).toCompletableFuture().join();
+        }
+
+        assertTrue(policy.delay().compareTo(Duration.ofMillis(100)) < 0, policy.delay().toString());
+    }
+
+    @Test
+    void histogram_buckets_cover_their_values() {
+        for (long nanos = 0; nanos < 100_000; nanos += 7) {
+            assertTrue(HedgePolicy.upperBound(HedgePolicy.bucket(nanos)) > nanos);
+        }
+        assertTrue(HedgePolicy.upperBound(HedgePolicy.bucket(Long.MAX_VALUE)) >= Long.MAX_VALUE);
+    }
+
+    @Test
+    void hedges_are_launched_on_the_policy_executor() throws Exception {
+        AtomicInteger dispatched = new AtomicInteger();
+        HedgePolicy policy = HedgePolicy.fixed(Duration.ofMillis(10), 1).withExecutor(task -> {
+            dispatched.incrementAndGet();
+            new Thread(task, "hedge-test").start();
+        });
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        Result<String, String> result = policy.<String, String>execute(() -> {
+            threads.add(Thread.currentThread().getName());
+            return threads.size() == 1
+                    ? new CompletableFuture<>()
+                    : CompletableFuture.completedFuture(Result.success("respaldo"));
+        }).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("respaldo", result.getValue());
+        assertEquals(1, dispatched.get());
+        assertEquals("hedge-test", threads.get(1));
+    }
+}
@@ -0,0 +1,73 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutableResultPipelineTest {
+
+    private static ValidationResult<String> noVacio(String s) {
+        return s.isBlank() ? ValidationResult.invalid("blank") : ValidationResult.valid(s);
+    }
+
+    @Test
+    void mutable_should_match_sync_pipeline_for_each_record() {
+        MutableResultPipeline<Object, String> pipeline = SyncResultPipeline.mutable(null);
+
+        for (String input : List.of("hola", "  ", "abcdefghijk", "x")) {
+            Result<Integer, String> expected = SyncResultPipeline.<String, String>use(input)
+                    .validate(MutableResultPipelineTest::noVacio, key -> "ERR:" + key)
+                    .map(String::trim)
+                    .flatMap(s -> s.length() > 10 ? Result.<Integer, String>failure("too_long") : Result.success(s.length()))
+                    .filter(n -> n > 1, "too_short")
+                    .build();
+
+            Result<Integer, String> actual = pipeline.reset(input)
+                    .validate(MutableResultPipelineTest::noVacio, key -> "ERR:" + key)
+                    .map(String::trim)
+                    .flatMap(s -> s.length() > 10 ? Result.<Integer, String>failure("too_long") : Result.success(s.length()))
+                    .filter(n -> n > 1, "too_short")
+                    .build();
+
+            assertEquals(expected, actual, "input " + input);
+        }
+    }
+
+    @Test
+    void operators_should_return_same_instance() {
+        MutableResultPipeline<Integer, String> pipeline = SyncResultPipeline.mutable(1);
+
+        assertSame(pipeline, pipeline.map(v -> v + 1));
+        assertSame(pipeline, pipeline.filter(v -> v > 0, "negative"));
+        assertSame(pipeline, pipeline.reset(5));
+    }
+
+    @Test
+    void recover_and_onFailure_should_handle_error_state() {
+        List<String> errors = new ArrayList<>();
+
+        Result<Integer, String> result = SyncResultPipeline.<Integer, String>mutable(3)
+                .filter(v -> v > 5, "too_small")
+                .map(v -> v * 100)
+                .onFailure(errors::add)
+                .recover(String::length)
+                .map(v -> v + 1)
+                .build();
+
+        assertEquals(10, result.getValue());
+        assertEquals(List.of("too_small"), errors);
+    }
+
+    @Test
+    void fold_should_read_state_without_building() {
+        MutableResultPipeline<Integer, String> pipeline = SyncResultPipeline.mutable(4);
+
+        assertEquals("OK 8", pipeline.map(v -> v * 2).fold(e -> "ERR " + e, v -> "OK " + v));
+        assertTrue(pipeline.isSuccess());
+        assertEquals("ERR odd", pipeline.filter(v -> v % 2 == 1, "odd").fold(e -> "ERR " + e, v -> "OK " + v));
+        assertFalse(pipeline.isSuccess());
+    }
+}
@@ -0,0 +1,91 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PipelineTest {
+
+    private final Pipeline<String, Integer, String> longitud = Pipeline.<String, String>define()
+            .validate(s -> s.isBlank() ? ValidationResult.invalid("blank") : ValidationResult.valid(s), key -> "ERR:" + key)
+            .map(String::trim)
+            .flatMap(s -> s.length() > 10 ? Result.failure("too_long") : Result.success(s))
+            .map(String::length)
+            .filter(n -> n > 1, "too_short");
+
+    @Test
+    void run_should_execute_all_stages_for_each_input() {
+        assertEquals(4, longitud.run(" hola ").toCompletableFuture().join().getValue());
+        assertEquals("ERR:blank", longitud.run("   ").toCompletableFuture().join().getError());
+        assertEquals("too_long", longitud.run("abcdefghijklmno").toCompletableFuture().join().getError());
+        assertEquals("too_short", longitud.run("a").toCompletableFuture().join().getError());
+    }
+
+    @Test
+    void definition_should_be_immutable() {
+        Pipeline<Integer, Integer, String> base = Pipeline.<Integer, String>define().map(i -> i + 1);
+        Pipeline<Integer, Integer, String> doubled = base.map(i -> i * 2);
+
+        assertEquals(2, base.runSync(1).getValue());
+        assertEquals(4, doubled.runSync(1).getValue());
+    }
+
+    @Test
+    void run_should_match_result_pipeline_with_async_stages() {
+        List<String> trace = new ArrayList<>();
+        Pipeline<Integer, String, String> pipeline = Pipeline.<Integer, String>define()
+                .map(i -> i * 10)
+                .flatMapAsync(i -> CompletableFuture.supplyAsync(() -> Result.success(i + 1)))
+                .peekAsync(i -> CompletableFuture.runAsync(() -> trace.add("async " + i)))
+                .onSuccess(i -> trace.add("ok " + i))
+                .filter(i -> i < 100, "too_big")
+                .onFailure(e -> trace.add("failure " + e))
+                .recover(e -> -1)
+                .map(i -> "N" + i);
+
+        assertEquals("N21", pipeline.run(2).toCompletableFuture().join().getValue());
+        assertEquals("N-1", pipeline.run(20).toCompletableFuture().join().getValue());
+        assertEquals(List.of("async 21", "ok 21", "async 201", "ok 201", "failure too_big"), trace);
+        assertFalse(pipeline.isSynchronous());
+    }
+
+    @Test
+    void run_should_stay_synchronous_with_completed_stages() {
+        AtomicInteger calls = new AtomicInteger();
+        Pipeline<Integer, Integer, String> pipeline = Pipeline.<Integer, String>define()
+                .flatMapAsync(i -> CompletableFuture.completedFuture(Result.success(i + 1)))
+                .peek(i -> calls.incrementAndGet());
+
+        CompletionStage<Result<Integer, String>> stage = pipeline.run(1);
+
+        assertTrue(stage.toCompletableFuture().isDone());
+        assertEquals(2, stage.toCompletableFuture().join().getValue());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void run_should_complete_exceptionally_when_stage_throws() {
+        Pipeline<Integer, Integer, String> pipeline = Pipeline.<Integer, String>define()
+                .map(i -> 10 / i);
+
+        CompletionException ex = assertThrows(CompletionException.class,
+                () -> pipeline.run(0).toCompletableFuture().join());
+        assertInstanceOf(ArithmeticException.class, ex.getCause());
+    }
+
+    @Test
+    void runSync_should_reject_async_stages() {
+        Pipeline<Integer, Integer, String> pipeline = Pipeline.<Integer, String>define()
+                .flatMapAsync(i -> CompletableFuture.completedFuture(Result.success(i)));
+
+        assertThrows(IllegalStateException.class, () -> pipeline.runSync(1));
+        assertTrue(longitud.isSynchronous());
+    }
+}
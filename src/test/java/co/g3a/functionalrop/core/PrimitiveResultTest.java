@@ -0,0 +1,89 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveResultTest {
+
+    @Test
+    void intResult_map_and_filter_should_chain_without_boxing() {
+        IntResult<String> result = IntResult.<String>success(10)
+                .map(v -> v * 3)
+                .filter(v -> v > 20, "too_small")
+                .flatMap(v -> IntResult.success(v + 1));
+
+        assertTrue(result.isSuccess());
+        assertEquals(31, result.getAsInt());
+        assertThrows(UnsupportedOperationException.class, result::getError);
+    }
+
+    @Test
+    void intResult_failure_should_propagate_same_instance() {
+        IntResult<String> failure = IntResult.failure("error");
+
+        assertSame(failure, failure.map(v -> v + 1));
+        assertSame(failure, failure.flatMap(v -> IntResult.success(v)));
+        assertSame(failure, failure.filter(v -> false, "other"));
+        assertEquals(-1, failure.orElse(-1));
+        assertThrows(UnsupportedOperationException.class, failure::getAsInt);
+    }
+
+    @Test
+    void intResult_filter_should_fail_if_predicate_fails() {
+        IntResult<String> result = IntResult.<String>success(3).filter(v -> v > 5, "too_small");
+
+        assertFalse(result.isSuccess());
+        assertEquals("too_small", result.getError());
+    }
+
+    @Test
+    void bridges_should_convert_between_primitive_and_object_results() {
+        Result<String, String> source = Result.success("abcd");
+
+        LongResult<String> length = source.mapToInt(String::length).mapToLong(v -> v * 1_000_000_000L);
+        DoubleResult<String> ratio = length.mapToDouble(v -> v / 8.0);
+        Result<String, String> text = ratio.mapToObj(v -> "ratio=" + v);
+
+        assertEquals(4_000_000_000L, length.getAsLong());
+        assertEquals(5.0E8, ratio.getAsDouble());
+        assertEquals("ratio=5.0E8", text.getValue());
+        assertEquals(Result.success(4), source.mapToInt(String::length).boxed());
+    }
+
+    @Test
+    void bridges_should_keep_error_on_failure() {
+        Result<String, String> source = Result.failure("missing");
+
+        IntResult<String> asInt = source.mapToInt(String::length);
+        Result<Long, Integer> boxed = asInt.mapToLong(v -> v).mapFailure(String::length).boxed();
+
+        assertFalse(asInt.isSuccess());
+        assertEquals("missing", asInt.getError());
+        assertEquals(7, boxed.getError());
+    }
+
+    @Test
+    void fold_should_resolve_both_paths() {
+        assertEquals("OK 2.5", DoubleResult.<String>success(2.5).fold(e -> "ERR " + e, v -> "OK " + v));
+        assertEquals(-3L, LongResult.<String>failure("bad").foldToLong(e -> -e.length(), v -> v));
+        assertEquals(9, IntResult.<String>success(3).foldToInt(String::length, v -> v * v));
+    }
+
+    @Test
+    void pipelines_should_bridge_to_primitive_results() {
+        IntResult<String> sync = SyncResultPipeline.<String, String>use("hola")
+                .map(String::toUpperCase)
+                .mapToInt(String::length)
+                .map(v -> v * 10);
+
+        DoubleResult<String> async = ResultPipeline.<String, String>use("abc")
+                .filter(s -> !s.isEmpty(), "empty")
+                .mapToDouble(s -> s.length() / 2.0)
+                .toCompletableFuture()
+                .join();
+
+        assertEquals(40, sync.getAsInt());
+        assertEquals(1.5, async.getAsDouble());
+    }
+}
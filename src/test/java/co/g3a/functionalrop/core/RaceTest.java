@@ -0,0 +1,100 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RaceTest {
+
+    @Test
+    void firstSuccess_returns_fastest_and_cancels_losers() throws Exception {
+        CompletableFuture<Result<String, String>> slow = new CompletableFuture<>();
+        List<Function<String, CompletionStage<Result<String, String>>>> providers = List.of(
+                id -> slow,
+                id -> CompletableFuture.completedFuture(Result.failure("E1")),
+                id -> CompletableFuture.supplyAsync(() -> Result.success("geo:" + id))
+        );
+
+        Result<String, String> result = ResultPipeline.firstSuccess("u1", providers, errs -> String.join(",", errs))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("geo:u1", result.getValue());
+        assertTrue(slow.isCancelled());
+    }
+
+    @Test
+    void firstSuccess_combines_errors_when_all_fail() throws Exception {
+        List<Function<String, CompletionStage<Result<String, String>>>> providers = List.of(
+                id -> CompletableFuture.completedFuture(Result.failure("E1")),
+                id -> CompletableFuture.supplyAsync(() -> Result.failure("E2"))
+        );
+
+        Result<String, String> result = ResultPipeline.firstSuccess("u1", providers, errs -> String.join(",", errs.stream().sorted().toList()))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("E1,E2", result.getError());
+    }
+
+    @Test
+    void quorum_completes_after_n_successes() throws Exception {
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+        List<Function<String, CompletionStage<Result<Integer, String>>>> replicas = List.of(
+                id -> CompletableFuture.completedFuture(Result.success(1)),
+                id -> pending,
+                id -> CompletableFuture.completedFuture(Result.success(3))
+        );
+
+        Result<List<Integer>, String> result = ResultPipeline.quorum(2, "k", replicas, errs -> String.join(",", errs))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(1, 3), result.getValue());
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void quorum_fails_as_soon_as_it_becomes_unreachable() throws Exception {
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+        List<Function<String, CompletionStage<Result<Integer, String>>>> replicas = List.of(
+                id -> CompletableFuture.completedFuture(Result.failure("E1")),
+                id -> CompletableFuture.completedFuture(Result.failure("E2")),
+                id -> pending
+        );
+
+        Result<List<Integer>, String> result = ResultPipeline.quorum(2, "k", replicas, errs -> String.join(",", errs))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("E1,E2", result.getError());
+        assertTrue(pending.isCancelled());
+    }
+
+    @Test
+    void exception_only_surfaces_when_success_is_impossible() {
+        List<Function<String, CompletionStage<Result<Integer, String>>>> replicas = List.of(
+                id -> {
+                    throw new IllegalStateException("down");
+                },
+                id -> CompletableFuture.completedFuture(Result.failure("E2"))
+        );
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> ResultPipeline.firstSuccess("k", replicas, errs -> String.join(",", errs))
+                .toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void quorum_rejects_unreachable_n() {
+        List<Function<String, CompletionStage<Result<Integer, String>>>> replicas = List.of(
+                id -> CompletableFuture.completedFuture(Result.success(1))
+        );
+
+        assertThrows(IllegalArgumentException.class, () -> ResultPipeline.quorum(2, "k", replicas, errs -> String.join(",", errs)));
+    }
+}
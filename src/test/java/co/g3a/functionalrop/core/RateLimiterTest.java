@@ -0,0 +1,111 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RateLimiterTest {
+
+    @Test
+    void allows_a_burst_then_rejects() {
+        RateLimiter limiter = RateLimiter.of(3, Duration.ofMinutes(1));
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        assertEquals(3, limiter.acquired());
+        assertEquals(1, limiter.rejected());
+        assertEquals(0, limiter.availablePermits());
+    }
+
+    @Test
+    void refills_over_time() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMillis(20));
+
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        Thread.sleep(30);
+
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void burst_can_be_smaller_than_the_rate() {
+        RateLimiter limiter = RateLimiter.of(100, Duration.ofSeconds(1)).withBurst(1);
+
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+    }
+
+    @Test
+    void rejected_stage_fails_without_calling_the_dependency() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        List<Result<String, String>> results = new ArrayList<>();
+
+        for (int i = 0; i < 2; i++) {
+            results.add(ResultPipeline.<String, String>use("correo")
+                    .rateLimited(limiter, "CUOTA_EXCEDIDA")
+                    .flatMapAsync(to -> {
+                        calls.incrementAndGet();
+                        return CompletableFuture.completedFuture(Result.success("enviado a " + to));
+                    })
+                    .build().toCompletableFuture().get(5, TimeUnit.SECONDS));
+        }
+
+        assertEquals("enviado a correo", results.get(0).getValue());
+        assertEquals("CUOTA_EXCEDIDA", results.get(1).getError());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void waits_for_a_permit_without_blocking() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMillis(50)).withMaxWait(Duration.ofSeconds(1));
+        assertTrue(limiter.tryAcquire());
+        long start = System.nanoTime();
+
+        CompletableFuture<Result<String, String>> stage = ResultPipeline.<String, String>use("correo")
+                .rateLimited(limiter, "CUOTA_EXCEDIDA")
+                .build().toCompletableFuture();
+
+        assertFalse(stage.isDone());
+        assertEquals("correo", stage.get(5, TimeUnit.SECONDS).getValue());
+        assertTrue(System.nanoTime() - start >= Duration.ofMillis(40).toNanos());
+    }
+
+    @Test
+    void wait_is_bounded_by_the_pipeline_deadline() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofSeconds(10)).withMaxWait(Duration.ofMinutes(1));
+        assertTrue(limiter.tryAcquire());
+
+        Result<String, String> result = ResultPipeline.<String, String>use("correo")
+                .withDeadline(Duration.ofMillis(100), "VENCIDO")
+                .rateLimited(limiter, "CUOTA_EXCEDIDA")
+                .build().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("CUOTA_EXCEDIDA", result.getError());
+        assertEquals(1, limiter.rejected());
+    }
+
+    @Test
+    void previous_failures_do_not_consume_permits() throws Exception {
+        RateLimiter limiter = RateLimiter.of(1, Duration.ofMinutes(1));
+
+        Result<String, String> result = ResultPipeline.<String, String>use("correo")
+                .filter(to -> false, "INVALIDO")
+                .rateLimited(limiter, "CUOTA_EXCEDIDA")
+                .build().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("INVALIDO", result.getError());
+        assertEquals(1, limiter.availablePermits());
+    }
+}
@@ -0,0 +1,122 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultPipelineDeadlineTest {
+
+    private static CompletionStage<Result<String, String>> never() {
+        return new CompletableFuture<>();
+    }
+
+    @Test
+    void stage_timeout_completes_with_typed_failure() throws Exception {
+        Result<String, String> result = ResultPipeline.<String, String>use("x")
+                .flatMapAsync(v -> never(), Duration.ofMillis(20), "TIMEOUT")
+                .build()
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+        assertEquals("TIMEOUT", result.getError());
+    }
+
+    @Test
+    void stage_timeout_does_not_replace_previous_failure() throws Exception {
+        Result<String, String> result = ResultPipeline.<String, String>use("x")
+                .flatMap(v -> Result.failure("EARLIER"))
+                .flatMapAsync(v -> never(), Duration.ofMillis(20), "TIMEOUT")
+                .build()
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("EARLIER", result.getError());
+    }
+
+    @Test
+    void timeout_bounds_pending_pipeline() throws Exception {
+        Result<String, String> result = ResultPipeline.<String, String>use("x")
+                .flatMapAsync(v -> never())
+                .map(String::toUpperCase)
+                .timeout(Duration.ofMillis(20), "TIMEOUT")
+                .build()
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("TIMEOUT", result.getError());
+    }
+
+    @Test
+    void deadline_bounds_every_later_stage() throws Exception {
+        Result<String, String> result = ResultPipeline.<String, String>use("x")
+                .withDeadline(Duration.ofMillis(30), "DEADLINE")
+                .flatMapAsync(v -> CompletableFuture.completedFuture(Result.success(v + "1")))
+                .flatMapAsync(v -> never())
+                .build()
+                .toCompletableFuture()
+                .get(5, TimeUnit.SECONDS);
+
+        assertEquals("DEADLINE", result.getError());
+    }
+
+    @Test
+    void expired_deadline_skips_the_stage() throws Exception {
+        AtomicBoolean called = new AtomicBoolean();
+
+        Result<String, String> result = ResultPipeline.<String, String>use("x")
+                .withDeadline(Deadline.in(Duration.ZERO), "DEADLINE")
+                .flatMapAsync(v -> {
+                    called.set(true);
+                    return CompletableFuture.completedFuture(Result.success(v));
+                })
+                .build()
+                .toCompletableFuture()
+                .get();
+
+        assertEquals("DEADLINE", result.getError());
+        assertFalse(called.get());
+    }
+
+    @Test
+    void stages_see_the_remaining_budget() throws Exception {
+        AtomicReference<Deadline> seen = new AtomicReference<>();
+
+        Result<String, String> result = ResultPipeline.<String, String>use("x")
+                .withDeadline(Duration.ofSeconds(10), "DEADLINE")
+                .flatMapAsyncWithin((v, deadline) -> {
+                    seen.set(deadline);
+                    return CompletableFuture.completedFuture(Result.success(v));
+                })
+                .build()
+                .toCompletableFuture()
+                .get();
+
+        assertTrue(result.isSuccess());
+        assertTrue(seen.get().hasAtLeast(Duration.ofSeconds(5)));
+        assertFalse(seen.get().isUnbounded());
+    }
+
+    @Test
+    void nested_deadlines_keep_the_earliest() {
+        ResultPipeline<String, String> pipeline = ResultPipeline.<String, String>use("x")
+                .withDeadline(Duration.ofMillis(50), "FIRST")
+                .withDeadline(Duration.ofMinutes(5), "SECOND");
+
+        assertFalse(pipeline.deadline().hasAtLeast(Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void pipeline_without_deadline_reports_none() {
+        assertSame(Deadline.NONE, ResultPipeline.<String, String>use("x").deadline());
+        assertEquals(Long.MAX_VALUE, Deadline.NONE.remainingNanos());
+        assertFalse(Deadline.NONE.isExpired());
+    }
+}
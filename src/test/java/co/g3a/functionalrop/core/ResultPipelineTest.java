@@ -5,6 +5,7 @@ import org.junit.jupiter.api.Test;
 import java.util.List;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
@@ -151,6 +152,51 @@ class ResultPipelineTest {
         assertEquals("X,Y", result.getError());
     }
 
+    @Test
+    void zip_should_combine_typed_values() throws Exception {
+        Result<String, String> result = ResultPipeline.<String, Integer, String, String>zip(
+                CompletableFuture.supplyAsync(() -> Result.success("Juan")),
+                CompletableFuture.completedFuture(Result.success(30)),
+                (nombre, edad) -> nombre + ":" + edad,
+                errs -> String.join(",", errs)
+        ).toCompletableFuture().get();
+
+        assertTrue(result.isSuccess());
+        assertEquals("Juan:30", result.getValue());
+    }
+
+    @Test
+    void zip3_should_combine_errors_in_argument_order() throws Exception {
+        Result<String, String> result = ResultPipeline.<String, Integer, Boolean, String, String>zip3(
+                CompletableFuture.completedFuture(Result.failure("E1")),
+                CompletableFuture.completedFuture(Result.success(1)),
+                CompletableFuture.supplyAsync(() -> Result.failure("E3")),
+                (a, b, c) -> a + b + c,
+                errs -> String.join(",", errs)
+        ).toCompletableFuture().get();
+
+        assertFalse(result.isSuccess());
+        assertEquals("E1,E3", result.getError());
+    }
+
+    @Test
+    void zip8_should_pass_every_value_in_order() throws Exception {
+        Result<String, String> result = ResultPipeline.<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer, String, String>zip8(
+                CompletableFuture.completedFuture(Result.success(1)),
+                CompletableFuture.completedFuture(Result.success(2)),
+                CompletableFuture.completedFuture(Result.success(3)),
+                CompletableFuture.completedFuture(Result.success(4)),
+                CompletableFuture.completedFuture(Result.success(5)),
+                CompletableFuture.completedFuture(Result.success(6)),
+                CompletableFuture.completedFuture(Result.success(7)),
+                CompletableFuture.supplyAsync(() -> Result.success(8)),
+                (a, b, c, d, e, f, g, h) -> "" + a + b + c + d + e + f + g + h,
+                errs -> String.join(",", errs)
+        ).toCompletableFuture().get();
+
+        assertEquals("12345678", result.getValue());
+    }
+
     @Test
     void thenAccept_should_process_result() throws Exception {
         AtomicReference<String> actual = new AtomicReference<>();
@@ -166,4 +212,140 @@ class ResultPipelineTest {
 
         assertEquals("OK: data", actual.get());
     }
-}
\ No newline at end of file
+
+    @Test
+    void fused_sync_stages_should_run_in_order_once_source_completes() {
+        CompletableFuture<Result<Integer, String>> source = new CompletableFuture<>();
+        List<String> trace = new java.util.ArrayList<>();
+
+        CompletionStage<Result<String, String>> built = new ResultPipeline<>(source)
+                .peek(v -> trace.add("peek " + v))
+                .map(v -> v + 1)
+                .filter(v -> v > 0, "negative")
+                .flatMap(v -> Result.success("N" + v))
+                .onFailure(e -> trace.add("failure " + e))
+                .build();
+
+        assertTrue(trace.isEmpty());
+
+        source.complete(Result.success(1));
+        Result<String, String> result = built.toCompletableFuture().join();
+
+        assertEquals("N2", result.getValue());
+        assertEquals(List.of("peek 1"), trace);
+    }
+
+    @Test
+    void fused_sync_stages_should_resume_after_async_boundary() {
+        Result<Integer, String> result = ResultPipeline.<Integer, String>use(2)
+                .map(v -> v * 10)
+                .flatMapAsync(v -> CompletableFuture.supplyAsync(() -> Result.success(v + 1)))
+                .map(v -> v * 2)
+                .filter(v -> v > 100, "too_small")
+                .recover(String::length)
+                .build()
+                .toCompletableFuture()
+                .join();
+
+        assertEquals(9, result.getValue());
+    }
+
+    @Test
+    void exception_in_fused_stage_should_complete_exceptionally() {
+        CompletionStage<Result<Integer, String>> built = ResultPipeline.<Integer, String>use(1)
+                .map(v -> v + 1)
+                .<Integer>map(v -> { throw new IllegalStateException("boom"); })
+                .map(v -> v + 1)
+                .build();
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> built.toCompletableFuture().join());
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void sync_stages_should_wait_for_pending_async_boundary() {
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+        AtomicBoolean mapped = new AtomicBoolean(false);
+
+        CompletionStage<Result<Integer, String>> built = ResultPipeline.<Integer, String>use(1)
+                .filter(v -> v > 0, "negative")
+                .flatMapAsync(v -> pending)
+                .map(v -> {
+                    mapped.set(true);
+                    return v * 3;
+                })
+                .build();
+
+        assertFalse(mapped.get());
+        pending.complete(Result.success(5));
+
+        assertEquals(15, built.toCompletableFuture().join().getValue());
+        assertTrue(mapped.get());
+    }
+
+    @Test
+    void failed_async_boundary_should_propagate_exception() {
+        CompletionStage<Result<Integer, String>> built = ResultPipeline.<Integer, String>use(1)
+                .flatMapAsync(v -> CompletableFuture.<Result<Integer, String>>failedFuture(new IllegalStateException("down")))
+                .map(v -> v + 1)
+                .build();
+
+        CompletionException ex = assertThrows(CompletionException.class, () -> built.toCompletableFuture().join());
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+
+    @Test
+    void fused_stages_run_once_across_terminal_operations() throws Exception {
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+        AtomicInteger peeks = new AtomicInteger();
+
+        ResultPipeline<Integer, String> pipeline = ResultPipeline.<Integer, String>use(1)
+                .flatMapAsync(v -> pending)
+                .peek(v -> peeks.incrementAndGet());
+        CompletionStage<Result<Integer, String>> built = pipeline.build();
+        CompletionStage<Void> accepted = pipeline.thenAccept(r -> { });
+        CompletionStage<Integer> folded = pipeline.foldAsync(String::length, v -> v);
+        pending.complete(Result.success(7));
+
+        assertEquals(7, built.toCompletableFuture().get().getValue());
+        accepted.toCompletableFuture().get();
+        assertEquals(7, folded.toCompletableFuture().get());
+        assertSame(built, pipeline.build());
+        assertEquals(1, peeks.get());
+    }
+
+    @Test
+    void fused_stages_run_without_terminal_operation() {
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+        List<String> trace = new java.util.ArrayList<>();
+
+        ResultPipeline.<Integer, String>use(1)
+                .flatMapAsync(v -> pending)
+                .peek(v -> trace.add("peek " + v))
+                .map(v -> v + 1)
+                .onSuccess(v -> trace.add("success " + v));
+        pending.complete(Result.success(1));
+
+        assertEquals(List.of("peek 1", "success 2"), trace);
+    }
+
+    @Test
+    void branches_share_the_common_prefix() {
+        CompletableFuture<Result<Integer, String>> pending = new CompletableFuture<>();
+        AtomicInteger peeks = new AtomicInteger();
+
+        ResultPipeline<Integer, String> shared = ResultPipeline.<Integer, String>use(1)
+                .flatMapAsync(v -> pending)
+                .peek(v -> peeks.incrementAndGet());
+        CompletionStage<Result<Integer, String>> doubled = shared.map(v -> v * 2).build();
+        CompletionStage<Result<Integer, String>> tripled = shared.map(v -> v * 3).build();
+        pending.complete(Result.success(5));
+
+        assertEquals(10, doubled.toCompletableFuture().join().getValue());
+        assertEquals(15, tripled.toCompletableFuture().join().getValue());
+        assertEquals(1, peeks.get());
+
+        assertEquals(20, shared.map(v -> v * 4).build().toCompletableFuture().join().getValue());
+        assertEquals(1, peeks.get());
+    }
+}
@@ -101,4 +101,34 @@ public class ResultTest {
         assertFalse(finalResult.isSuccess());
         assertEquals("Error async", finalResult.getError());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("♻️ map, flatMap y flatMapAsync propagan la misma instancia de failure")
+    void testFailurePropagationReusesInstance() {
+        Result<String, String> failure = Result.failure("Error");
+
+        assertSame(failure, failure.map(String::length));
+        assertSame(failure, failure.flatMap(val -> Result.success(val.length())));
+        assertSame(failure, failure.flatMapAsync(val -> CompletableFuture.completedFuture(Result.success(1)))
+                .toCompletableFuture().join());
+    }
+
+    @Test
+    @DisplayName("♻️ mapFailure reutiliza la instancia si es success")
+    void testMapFailureReusesSuccess() {
+        Result<String, String> success = Result.success("ok");
+
+        assertSame(success, success.mapFailure(String::length));
+    }
+
+    @Test
+    @DisplayName("♻️ los éxitos frecuentes se comparten como instancias únicas")
+    void testSharedSuccessSingletons() {
+        assertSame(Result.success(null), Result.<String>successVoid());
+        assertSame(Result.success(true), Result.<String>successBoolean(true));
+        assertSame(Result.success(false), Result.<String>successBoolean(false));
+        assertSame(Result.success(java.util.List.of()), Result.<String, String>successEmptyList());
+        assertTrue(Result.successBoolean(true).getValue());
+        assertEquals(Result.success("x"), Result.success("x"));
+    }
+}
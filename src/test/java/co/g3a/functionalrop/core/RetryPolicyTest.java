@@ -0,0 +1,158 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryPolicyTest {
+
+    private final DeadEnd deadEnd;
+
+    RetryPolicyTest() {
+        Executor executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.deadEnd = new DeadEnd(executor);
+    }
+
+    @Test
+    void retries_until_success() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy<String> policy = RetryPolicy.fixed(Duration.ofMillis(5), 5);
+
+        Result<String, String> result = deadEnd.runSafeResult(
+                "correo",
+                input -> {
+                    if (calls.incrementAndGet() < 3) {
+                        throw new IllegalStateException("SMTP error");
+                    }
+                    return Result.success(input);
+                },
+                Throwable::getMessage,
+                policy
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("correo", result.getValue());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void returns_last_failure_after_max_attempts() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy<String> policy = RetryPolicy.fixed(Duration.ofMillis(1), 3);
+
+        Result<String, String> result = deadEnd.<String, String, String>runSafeResult(
+                "x",
+                input -> Result.failure("intento " + calls.incrementAndGet()),
+                Throwable::getMessage,
+                policy
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("intento 3", result.getError());
+    }
+
+    @Test
+    void non_retryable_error_is_returned_immediately() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy<String> policy = RetryPolicy.<String>fixed(Duration.ofMillis(1), 5).retryIf(e -> e.startsWith("temporal"));
+
+        Result<String, String> result = deadEnd.<String, String, String>runSafeResult(
+                "x",
+                input -> {
+                    calls.incrementAndGet();
+                    return Result.failure("permanente");
+                },
+                Throwable::getMessage,
+                policy
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("permanente", result.getError());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void cancelling_stops_pending_retries() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        RetryPolicy<String> policy = RetryPolicy.fixed(Duration.ofMillis(50), 10);
+
+        CompletableFuture<Result<String, String>> future = deadEnd.<String, String, String>runSafeResult(
+                "x",
+                input -> Result.failure("fallo " + calls.incrementAndGet()),
+                Throwable::getMessage,
+                policy
+        ).toCompletableFuture();
+        Thread.sleep(20);
+        future.cancel(false);
+        Thread.sleep(150);
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void exponential_delay_grows_and_is_capped() {
+        RetryPolicy<String> policy = RetryPolicy.<String>exponential(Duration.ofMillis(10), 2.0, Duration.ofMillis(50))
+                .withJitter(0.0)
+                .withMaxAttempts(6);
+
+        assertEquals(Duration.ofMillis(10).toNanos(), policy.delayNanos(1));
+        assertEquals(Duration.ofMillis(20).toNanos(), policy.delayNanos(2));
+        assertEquals(Duration.ofMillis(40).toNanos(), policy.delayNanos(3));
+        assertEquals(Duration.ofMillis(50).toNanos(), policy.delayNanos(4));
+        assertTrue(policy.shouldRetry(5, "e"));
+        assertFalse(policy.shouldRetry(6, "e"));
+    }
+
+    @Test
+    void jitter_only_shortens_the_delay() {
+        RetryPolicy<String> policy = RetryPolicy.<String>exponential(Duration.ofMillis(100), 2.0, Duration.ofSeconds(1))
+                .withJitter(0.5);
+
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.delayNanos(1);
+            assertTrue(delay <= Duration.ofMillis(100).toNanos() && delay >= Duration.ofMillis(50).toNanos(), "delay " + delay);
+        }
+    }
+
+    @Test
+    void retries_never_run_on_the_timer_thread() throws Exception {
+        DeadEnd inline = new DeadEnd(Runnable::run);
+        List<String> threads = new CopyOnWriteArrayList<>();
+
+        inline.<String, String, String>runSafeResult(
+                "x",
+                input -> {
+                    threads.add(Thread.currentThread().getName());
+                    return Result.failure("fallo");
+                },
+                Throwable::getMessage,
+                RetryPolicy.fixed(Duration.ofMillis(1), 3)
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals(3, threads.size());
+        assertFalse(threads.contains("rop-timer"), threads.toString());
+    }
+
+    @Test
+    void failing_retry_predicate_completes_exceptionally() {
+        RetryPolicy<String> policy = RetryPolicy.<String>fixed(Duration.ofMillis(1), 3).retryIf(e -> {
+            throw new IllegalStateException("predicate");
+        });
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> deadEnd.<String, String, String>runSafeResult(
+                "x",
+                input -> Result.failure("fallo"),
+                Throwable::getMessage,
+                policy
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+    }
+}
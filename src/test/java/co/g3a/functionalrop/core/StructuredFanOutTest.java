@@ -0,0 +1,111 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StructuredFanOutTest {
+
+    @Test
+    void returns_values_in_task_order() throws Exception {
+        List<Function<String, Result<String, String>>> tasks = List.of(
+                s -> sleepThen(50, Result.success(s + "A")),
+                s -> Result.success(s + "B")
+        );
+
+        Result<List<String>, String> result = ResultPipeline.runInParallelStructured(
+                "X", tasks, ParallelPolicy.FAIL_FAST, errs -> String.join(",", errs)
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertTrue(result.isSuccess());
+        assertEquals(List.of("XA", "XB"), result.getValue());
+    }
+
+    @Test
+    void fail_fast_completes_without_waiting_and_interrupts_siblings() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+        List<Function<String, Result<String, String>>> tasks = List.of(
+                s -> {
+                    try {
+                        Thread.sleep(30_000);
+                        return Result.success("slow");
+                    } catch (InterruptedException e) {
+                        interrupted.countDown();
+                        return Result.failure("interrupted");
+                    }
+                },
+                s -> Result.failure("boom")
+        );
+
+        Result<List<String>, String> result = ResultPipeline.runInParallelStructured(
+                "X", tasks, ParallelPolicy.FAIL_FAST, errs -> String.join(",", errs)
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+        assertEquals("boom", result.getError());
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void collect_all_combines_every_error() throws Exception {
+        List<Function<String, Result<String, String>>> tasks = List.of(
+                s -> sleepThen(20, Result.failure("E1")),
+                s -> Result.success("ok"),
+                s -> Result.failure("E2")
+        );
+
+        Result<List<String>, String> result = ResultPipeline.runInParallelStructured(
+                "X", tasks, ParallelPolicy.COLLECT_ALL, errs -> String.join(",", errs)
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertFalse(result.isSuccess());
+        assertEquals("E1,E2", result.getError());
+    }
+
+    @Test
+    void exception_cancels_siblings_and_completes_exceptionally() {
+        AtomicBoolean finished = new AtomicBoolean();
+        List<Function<String, Result<String, String>>> tasks = List.of(
+                s -> {
+                    Result<String, String> r = sleepThen(30_000, Result.success("slow"));
+                    finished.set(r.isSuccess());
+                    return r;
+                },
+                s -> {
+                    throw new IllegalStateException("db down");
+                }
+        );
+
+        ExecutionException ex = assertThrows(ExecutionException.class, () -> ResultPipeline.runInParallelStructured(
+                "X", tasks, ParallelPolicy.COLLECT_ALL, errs -> String.join(",", errs)
+        ).toCompletableFuture().get(5, TimeUnit.SECONDS));
+
+        assertInstanceOf(IllegalStateException.class, ex.getCause());
+        assertFalse(finished.get());
+    }
+
+    @Test
+    void empty_task_list_returns_shared_empty_success() throws Exception {
+        Result<List<String>, String> result = ResultPipeline.<String, String, String>runInParallelStructured(
+                "X", List.of(), ParallelPolicy.FAIL_FAST, errs -> String.join(",", errs)
+        ).toCompletableFuture().get();
+
+        assertSame(Result.successEmptyList(), result);
+    }
+
+    private static <T> Result<T, String> sleepThen(long ms, Result<T, String> result) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            return Result.failure("interrupted");
+        }
+        return result;
+    }
+}
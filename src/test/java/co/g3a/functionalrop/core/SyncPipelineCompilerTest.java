@@ -0,0 +1,97 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncPipelineCompilerTest {
+
+    private static ValidationResult<Integer> menorQueMil(Integer v) {
+        return v < 1000 ? ValidationResult.valid(v) : ValidationResult.invalid("too_big");
+    }
+
+    private static Result<Integer, String> interpretado(int input, List<String> trace) {
+        return SyncResultPipeline.<Integer, String>use(input)
+                .filter(v -> v >= 0, "negative")
+                .validate(SyncPipelineCompilerTest::menorQueMil, key -> "ERR:" + key)
+                .map(v -> v + 1)
+                .flatMap(v -> v % 7 == 0 ? Result.failure("multiple_of_7") : Result.success(v * 2))
+                .peek(v -> trace.add("peek " + v))
+                .onFailure(e -> trace.add("failure " + e))
+                .recover(String::length)
+                .map(v -> v - 1)
+                .filter(v -> v != 11, "eleven")
+                .onFailure(e -> trace.add("late " + e))
+                .build();
+    }
+
+    private static Pipeline<Integer, Integer, String> definicion(List<String> trace) {
+        return Pipeline.<Integer, String>define()
+                .filter(v -> v >= 0, "negative")
+                .validate(SyncPipelineCompilerTest::menorQueMil, key -> "ERR:" + key)
+                .map(v -> v + 1)
+                .flatMap(v -> v % 7 == 0 ? Result.failure("multiple_of_7") : Result.success(v * 2))
+                .peek(v -> trace.add("peek " + v))
+                .onFailure(e -> trace.add("failure " + e))
+                .recover(String::length)
+                .map(v -> v - 1)
+                .filter(v -> v != 11, "eleven")
+                .onFailure(e -> trace.add("late " + e));
+    }
+
+    @Test
+    void compiled_should_match_interpreted_sync_pipeline() {
+        List<String> expectedTrace = new ArrayList<>();
+        List<String> actualTrace = new ArrayList<>();
+        CompiledPipeline<Integer, Integer, String> compiled = SyncPipelineCompiler.compile(definicion(actualTrace));
+
+        for (int input : new int[]{-5, 0, 5, 6, 13, 999, 1000, 5000}) {
+            Result<Integer, String> expected = interpretado(input, expectedTrace);
+            Result<Integer, String> actual = compiled.apply(input);
+
+            assertEquals(expected, actual, "input " + input);
+        }
+        assertEquals(expectedTrace, actualTrace);
+    }
+
+    @Test
+    void compiled_empty_pipeline_should_return_input() {
+        CompiledPipeline<String, String, String> compiled = SyncPipelineCompiler.compile(Pipeline.define());
+
+        assertEquals(Result.success("x"), compiled.apply("x"));
+    }
+
+    @Test
+    void compiled_should_propagate_exceptions_like_sync_pipeline() {
+        CompiledPipeline<Integer, Integer, String> compiled = SyncPipelineCompiler.compile(
+                Pipeline.<Integer, String>define().map(v -> 10 / v));
+
+        assertThrows(ArithmeticException.class, () -> compiled.apply(0));
+        assertEquals(5, compiled.apply(2).getValue());
+    }
+
+    @Test
+    void compiled_should_support_many_stages() {
+        Pipeline<Integer, Integer, String> definition = Pipeline.define();
+        for (int i = 0; i < 200; i++) {
+            definition = definition.map(v -> v + 1).filter(v -> v > 0, "negative");
+        }
+
+        CompiledPipeline<Integer, Integer, String> compiled = SyncPipelineCompiler.compile(definition);
+
+        assertEquals(200, compiled.apply(0).getValue());
+        assertEquals(definition.runSync(-300), compiled.apply(-300));
+    }
+
+    @Test
+    void compile_should_reject_async_definitions() {
+        Pipeline<Integer, Integer, String> definition = Pipeline.<Integer, String>define()
+                .flatMapAsync(v -> CompletableFuture.completedFuture(Result.success(v)));
+
+        assertThrows(IllegalArgumentException.class, () -> SyncPipelineCompiler.compile(definition));
+    }
+}
@@ -3,6 +3,8 @@ package co.g3a.functionalrop.core;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -68,4 +70,52 @@ class ValidationResultTest {
         assertFalse(combined.isValid());
         assertEquals(List.of("Nombre vacío", "Edad negativa"), combined.getErrors());
     }
-}
\ No newline at end of file
+
+    @Test
+    void combine_should_reuse_single_invalid() {
+        var valid = ValidationResult.valid("Carlos");
+        var invalid = ValidationResult.<String>invalid("Nombre vacío");
+
+        assertSame(invalid, ValidationResult.combine(List.of(valid, invalid)));
+    }
+
+    @Test
+    void failFast_should_stop_at_first_failing_rule() {
+        AtomicInteger evaluated = new AtomicInteger();
+        Function<String, ValidationResult<String>> validator = ValidationResult.failFast(
+                s -> { evaluated.incrementAndGet(); return ValidationResult.valid(null); },
+                s -> { evaluated.incrementAndGet(); return s.isEmpty() ? ValidationResult.invalid("empty") : ValidationResult.valid(null); },
+                s -> { evaluated.incrementAndGet(); return ValidationResult.invalid("never"); }
+        );
+
+        ValidationResult<String> result = validator.apply("");
+
+        assertFalse(result.isValid());
+        assertEquals(List.of("empty"), result.getErrors());
+        assertEquals(2, evaluated.get());
+    }
+
+    @Test
+    void failFast_should_return_value_when_all_rules_pass() {
+        Function<Integer, ValidationResult<Integer>> validator = ValidationResult.failFast(
+                i -> i > 0 ? ValidationResult.valid(null) : ValidationResult.invalid("negative"),
+                i -> i < 100 ? ValidationResult.valid(null) : ValidationResult.invalid("too_big")
+        );
+
+        assertEquals(42, validator.apply(42).getValue());
+        assertEquals(List.of("too_big"), validator.apply(500).getErrors());
+    }
+
+    @Test
+    void accumulate_should_collect_errors_from_all_rules() {
+        Function<String, ValidationResult<String>> validator = ValidationResult.compose(ValidationResult.Mode.ACCUMULATE, List.of(
+                s -> s.length() < 3 ? ValidationResult.invalid("short") : ValidationResult.valid(null),
+                s -> s.contains("@") ? ValidationResult.valid(null) : ValidationResult.invalid("no_at"),
+                s -> s.isBlank() ? ValidationResult.invalid("blank") : ValidationResult.valid(null)
+        ));
+
+        assertEquals(List.of("short", "no_at"), validator.apply("ab").getErrors());
+        assertEquals(List.of("no_at"), validator.apply("abc").getErrors());
+        assertEquals("a@b", validator.apply("a@b").getValue());
+    }
+}
@@ -0,0 +1,165 @@
+package co.g3a.functionalrop.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidatorTest {
+
+    private static final ErrorCode NAME_BLANK = ErrorCode.register("test_validator_name_blank");
+    private static final ErrorCode NAME_SHORT = ErrorCode.register("test_validator_name_short");
+    private static final ErrorCode EMAIL = ErrorCode.register("test_validator_email");
+    private static final ErrorCode AGE = ErrorCode.register("test_validator_age");
+    private static final ErrorCode BALANCE = ErrorCode.register("test_validator_balance");
+
+    record User(String name, String email, int age, long balance) {
+    }
+
+    private static Validator<User> rules(Validator<User> base) {
+        return base
+                .string("name", User::name, Rules.notBlank(NAME_BLANK), Rules.minLength(3, NAME_SHORT))
+                .string("email", User::email, Rules.email(EMAIL))
+                .integer("age", User::age, Rules.min(18, AGE))
+                .longValue(User::balance, Rules.min(0L, BALANCE));
+    }
+
+    @Test
+    void valid_value_passes_all_rules() {
+        Validator<User> validator = rules(Validator.failFast());
+        User user = new User("Ana", "ana@mail.com", 30, 10);
+
+        ValidationResult<User> result = validator.apply(user);
+
+        assertEquals(5, validator.size());
+        assertTrue(result.isValid());
+        assertSame(user, result.getValue());
+        assertNull(validator.firstError(user));
+        assertSame(ErrorSet.EMPTY, validator.errors(user));
+    }
+
+    @Test
+    void fail_fast_returns_shared_result_of_first_failing_rule() {
+        Validator<User> validator = rules(Validator.failFast());
+
+        ValidationResult<User> result = validator.apply(new User("  ", "bad", 10, -1));
+
+        assertSame(ValidationResult.invalid(NAME_BLANK), result);
+        assertEquals(List.of("test_validator_name_blank"), result.getErrors());
+    }
+
+    @Test
+    void accumulate_collects_every_failing_code() {
+        Validator<User> validator = rules(Validator.accumulate());
+
+        ValidationResult<User> result = validator.apply(new User("Al", "bad", 10, -1));
+
+        assertEquals(ErrorSet.of(NAME_SHORT, EMAIL, AGE, BALANCE), result.getErrorCodes());
+    }
+
+    @Test
+    void definitions_are_immutable() {
+        Validator<User> base = Validator.failFast();
+        Validator<User> withRule = base.check(u -> u.age() > 0, AGE);
+
+        assertEquals(0, base.size());
+        assertEquals(1, withRule.size());
+    }
+
+    @Test
+    void string_rules_handle_null_and_whitespace() {
+        assertFalse(Rules.isNotBlank(null));
+        assertFalse(Rules.isNotBlank(" \t\n"));
+        assertTrue(Rules.isNotBlank("  a "));
+        assertFalse(Rules.isNotBlank("\u0000\u001f"));
+        assertTrue(Rules.isNotBlank("\u2003"));
+        for (String value : new String[]{"", " ", "\u0000\u001f", "\u2003", "\u00a0", " x "}) {
+            assertEquals(!value.trim().isEmpty(), Rules.isNotBlank(value), value);
+        }
+        assertFalse(Rules.notEmpty(NAME_BLANK).check().test(""));
+        assertTrue(Rules.maxLength(3, NAME_SHORT).check().test("abc"));
+        assertFalse(Rules.minLength(3, NAME_SHORT).check().test(null));
+    }
+
+    @Test
+    void contains_both_matches_two_contains_calls() {
+        for (String value : new String[]{"a.b@c", "@x.y", "a@b.", "a@b", "a.b", "", "x"}) {
+            assertEquals(value.contains("@") && value.contains("."), Rules.containsBoth(value, '@', '.'), value);
+        }
+        assertFalse(Rules.containsBoth(null, '@', '.'));
+    }
+
+    @Test
+    void email_rule_checks_shape_in_one_pass() {
+        assertTrue(Rules.isEmail("usuario@example.com"));
+        assertTrue(Rules.isEmail(" TEST@ejemplo.COM "));
+        assertFalse(Rules.isEmail(null));
+        assertFalse(Rules.isEmail("invalid-email"));
+        assertFalse(Rules.isEmail("@example.com"));
+        assertFalse(Rules.isEmail("a@b@example.com"));
+        assertFalse(Rules.isEmail("a@.com"));
+        assertFalse(Rules.isEmail("a@example."));
+        assertFalse(Rules.isEmail("a.b@example"));
+    }
+
+    @Test
+    void validator_plugs_into_pipelines_with_code_table() {
+        ErrorCodeTable<String> errors = ErrorCodeTable.<String>empty().with(AGE, "menor de edad");
+
+        Result<User, String> result = SyncResultPipeline.<User, String>use(new User("Ana", "ana@mail.com", 12, 0))
+                .validate(rules(Validator.failFast()), errors)
+                .build();
+
+        assertEquals("menor de edad", result.getError());
+    }
+
+    @Test
+    void revalidate_only_runs_rules_of_changed_fields() {
+        AtomicInteger nameChecks = new AtomicInteger();
+        AtomicInteger ageChecks = new AtomicInteger();
+        Validator<User> validator = Validator.<User>accumulate()
+                .check("name", u -> nameChecks.incrementAndGet() > 0 && u.name().length() >= 3, NAME_SHORT)
+                .check("age", u -> ageChecks.incrementAndGet() > 0 && u.age() >= 18, AGE);
+
+        Validator.Snapshot<User> first = validator.snapshot(new User("Al", "al@mail.com", 30, 0));
+        assertFalse(first.isValid());
+        assertSame(NAME_SHORT, first.firstError());
+
+        Validator.Snapshot<User> second = validator.revalidate(first, new User("Alberto", "al@mail.com", 30, 0), Set.of("name"));
+
+        assertTrue(second.isValid());
+        assertTrue(second.result().isValid());
+        assertEquals(2, nameChecks.get());
+        assertEquals(1, ageChecks.get());
+        assertFalse(first.isValid());
+    }
+
+    @Test
+    void revalidate_keeps_cached_failures_of_untouched_fields() {
+        Validator<User> validator = rules(Validator.accumulate());
+        Validator.Snapshot<User> first = validator.snapshot(new User("Al", "bad", 30, 0));
+
+        Validator.Snapshot<User> second = validator.revalidate(first, new User("Alberto", "bad", 30, 0), Set.of("name"));
+
+        assertEquals(ErrorSet.of(EMAIL), second.errors());
+        assertTrue(second.field("name").isValid());
+        assertSame(ValidationResult.invalid(EMAIL), second.field("email"));
+        assertEquals(validator.apply(second.value()).getErrorCodes(), second.result().getErrorCodes());
+    }
+
+    @Test
+    void unnamed_rules_always_rerun_and_foreign_snapshots_are_rejected() {
+        AtomicInteger checks = new AtomicInteger();
+        Validator<User> validator = Validator.<User>failFast().check(u -> checks.incrementAndGet() > 0, AGE);
+        Validator.Snapshot<User> first = validator.snapshot(new User("Ana", "a@b.co", 30, 0));
+
+        validator.revalidate(first, first.value(), Set.of());
+
+        assertEquals(2, checks.get());
+        assertThrows(IllegalArgumentException.class,
+                () -> rules(Validator.failFast()).revalidate(first, first.value(), Set.of()));
+    }
+}
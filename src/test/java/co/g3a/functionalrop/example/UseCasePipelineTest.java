@@ -9,8 +9,11 @@ import co.g3a.functionalrop.ejemplo.UseCase;
 import org.junit.jupiter.api.Test;
 
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -116,4 +119,66 @@ public class UseCasePipelineTest {
         assertFalse(finalResult.isSuccess());
         assertInstanceOf(AppError.ActivationCodeError.class, finalResult.getError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void validacionEmail_conservaElCriterioOriginal() {
+        for (String email : new String[]{"a.b@c", "@x.y", "a@.b", "a@b."}) {
+            var request = new UseCase.Request(email, "Juan Pérez", "passwordSegura123", 30);
+            assertTrue(useCase.validateRequest(request).isValid(), email);
+        }
+        var sinPunto = new UseCase.Request("usuario@dominio", "Juan Pérez", "passwordSegura123", 30);
+        assertFalse(useCase.validateRequest(sinPunto).isValid());
+    }
+
+    @Test
+    void validateRequest_acumulaTodosLosErrores() {
+        var request = new UseCase.Request("", "Jo", "corta", 15);
+
+        assertEquals(List.of("empty_email", "invalid_email", "short_name", "short_password", "underage"),
+                useCase.validateRequest(request).getErrors());
+    }
+
+    @Test
+    void executeUseCase_registraUnaPeticionValida() throws Exception {
+        var request = new UseCase.Request(" Correcto@Dominio.com ", "Juan Pérez", "passwordSegura123", 30);
+
+        Result<String, AppError> result = useCase.executeUseCase(request).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("Success", result.getValue());
+        assertEquals("correcto@dominio.com", request.email);
+    }
+
+    @Test
+    void executeUseCase_rechazaUnaPeticionInvalida() throws Exception {
+        var request = new UseCase.Request("", "Juan Pérez", "passwordSegura123", 30);
+
+        Result<String, AppError> result = useCase.executeUseCase(request).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertInstanceOf(AppError.EmailBlank.class, result.getError());
+    }
+
+    @Test
+    void executeUseCase_enviaEmailYGeneraCodigoEnParalelo() throws Exception {
+        CompletableFuture<Void> emailIniciado = new CompletableFuture<>();
+        CompletableFuture<Void> codigoIniciado = new CompletableFuture<>();
+        UseCase paralelo = new UseCase() {
+            @Override
+            public CompletionStage<Result<UseCase.Request, AppError>> sendEmail(UseCase.Request input) {
+                emailIniciado.complete(null);
+                return codigoIniciado.thenApply(v -> Result.success(input));
+            }
+
+            @Override
+            public CompletionStage<Result<String, AppError>> generateActivationCode(UseCase.Request input) {
+                codigoIniciado.complete(null);
+                return emailIniciado.thenApply(v -> Result.success("AC-1"));
+            }
+        };
+        var request = new UseCase.Request("correcto@dominio.com", "Juan Pérez", "passwordSegura123", 30);
+
+        // Cada paso espera a que el otro haya empezado: si corrieran en secuencia, la etapa nunca terminaría.
+        Result<String, AppError> result = paralelo.executeUseCase(request).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        assertEquals("Success", result.getValue());
+    }
+}